@@ -0,0 +1,39 @@
+package com.radixdlt.client.core.atoms;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RadixHashBenchmark {
+	@Param({"44", "1024", "65536"})
+	private int size;
+
+	private byte[] data;
+
+	@Setup
+	public void setup() {
+		data = new byte[size];
+		new Random(size).nextBytes(data);
+	}
+
+	@Benchmark
+	public RadixHash of() {
+		return RadixHash.of(data);
+	}
+}
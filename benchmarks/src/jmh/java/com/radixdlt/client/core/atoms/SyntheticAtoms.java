@@ -0,0 +1,63 @@
+package com.radixdlt.client.core.atoms;
+
+import com.radixdlt.client.assets.Asset;
+import com.radixdlt.client.core.address.RadixAddress;
+import com.radixdlt.client.core.crypto.ECKeyPair;
+import com.radixdlt.client.core.util.Hash;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic atoms for benchmarks, shaped like the token transfers seen on the network
+ */
+public final class SyntheticAtoms {
+	public static final int MAGIC = -1014759422;
+	public static final ECKeyPair OWNER = new ECKeyPair(Hash.sha256("benchmarks".getBytes(StandardCharsets.UTF_8)));
+	private static final long QUANTITY = 100000;
+
+	private SyntheticAtoms() {
+	}
+
+	/**
+	 * A transfer which consumes the output of the previous transfer and creates a new one,
+	 * both owned by the same key.
+	 *
+	 * @param owner owner of the consumed and created consumables
+	 * @param nonce nonce of the created consumable, the consumed one has the previous nonce
+	 * @return the transfer atom
+	 */
+	public static TransactionAtom transfer(ECKeyPair owner, long nonce) {
+		RadixAddress address = new RadixAddress(MAGIC, owner.getPublicKey());
+		AtomBuilder builder = new AtomBuilder()
+			.type(TransactionAtom.class)
+			.addDestination(address)
+			.payload("Transfer " + nonce);
+		if (nonce > 0) {
+			builder.addParticle(new Consumer(QUANTITY, owner, nonce - 1, Asset.TEST.getId()));
+		}
+		builder.addParticle(new Consumable(QUANTITY, owner, nonce, Asset.TEST.getId()));
+		return builder.build().getRawAtom().getAsTransactionAtom();
+	}
+
+	/**
+	 * @return the transfer signed by its owner, so that it passes validation
+	 */
+	public static Atom signedTransfer(ECKeyPair owner, long nonce) {
+		UnsignedAtom unsignedAtom = new UnsignedAtom(transfer(owner, nonce));
+		return unsignedAtom.sign(owner.sign(unsignedAtom.getHash().toByteArray()), owner.getUID());
+	}
+
+	/**
+	 * @param owner owner of every consumable in the history
+	 * @param length number of atoms
+	 * @return a chain of transfers where every atom spends the output of the one before
+	 */
+	public static List<TransactionAtom> history(ECKeyPair owner, int length) {
+		List<TransactionAtom> atoms = new ArrayList<>(length);
+		for (int i = 0; i < length; i++) {
+			atoms.add(transfer(owner, i));
+		}
+		return atoms;
+	}
+}
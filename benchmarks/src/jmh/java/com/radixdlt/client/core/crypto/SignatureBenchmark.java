@@ -0,0 +1,80 @@
+package com.radixdlt.client.core.crypto;
+
+import com.radixdlt.client.core.atoms.SyntheticAtoms;
+import com.radixdlt.client.core.util.Hash;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Signing through {@link ECKeyPair} against how it used to sign, parsing the key
+ * and seeding a new SecureRandom for every signature.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignatureBenchmark {
+	private ECKeyPair keyPair;
+	private ECPublicKey publicKey;
+	private byte[] publicKeyBytes;
+	private byte[] hash;
+	private ECSignature signature;
+
+	@Setup
+	public void setup() {
+		keyPair = SyntheticAtoms.OWNER;
+		hash = Hash.sha256("Hello Radix".getBytes(StandardCharsets.UTF_8));
+		signature = keyPair.sign(hash);
+		// A fresh instance, as for keys decoded from received atoms
+		publicKeyBytes = keyPair.getPublicKey().toByteArray();
+		publicKey = new ECPublicKey(publicKeyBytes);
+	}
+
+	@Benchmark
+	public ECSignature sign() {
+		return keyPair.sign(hash);
+	}
+
+	@Benchmark
+	public ECSignature signLegacy() {
+		ECDomainParameters domain = ECKeyPairGenerator.getDomain((keyPair.getPublicKey().length() - 1) * 8);
+		ECDSASigner signer = new ECDSASigner();
+		signer.init(true, new ECPrivateKeyParameters(new BigInteger(1, keyPair.getPrivateKey()), domain));
+		BigInteger[] components = signer.generateSignature(hash);
+		return new ECSignature(components[0], components[1]);
+	}
+
+	@Benchmark
+	public ECKeyPair fromPrivateKey() {
+		return new ECKeyPair(keyPair.getPrivateKey());
+	}
+
+	@Benchmark
+	public boolean verify() {
+		return publicKey.verify(hash, signature);
+	}
+
+	/**
+	 * As for every atom received, a new key instance for a counterparty seen before
+	 */
+	@Benchmark
+	public boolean verifyRepeatCounterparty() {
+		return new ECPublicKey(publicKeyBytes).verify(hash, signature);
+	}
+}
@@ -0,0 +1,84 @@
+package com.radixdlt.client.core.ledger;
+
+import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.atoms.AtomValidationException;
+import com.radixdlt.client.core.atoms.SyntheticAtoms;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validating a batch of signed transfers, as on the initial sync of an address.
+ * The pool of atoms is larger than the validator's cache of checked signatures and is
+ * cycled through, so every signature is verified, except in {@link #resync()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AtomValidationBenchmark {
+	private static final int POOL = 8192;
+	private static final int BATCH = 256;
+
+	@Param({"1", "2", "4", "8"})
+	private int validators;
+
+	private List<Atom> atoms;
+	private AtomFetcher atomFetcher;
+	private int next;
+
+	@Setup
+	public void setup() {
+		atoms = new ArrayList<>(POOL);
+		for (int i = 1; i <= POOL; i++) {
+			atoms.add(SyntheticAtoms.signedTransfer(SyntheticAtoms.OWNER, i));
+		}
+		atomFetcher = new AtomFetcher(shard -> Single.never(), Schedulers.computation(), validators);
+	}
+
+	private List<Atom> nextBatch() {
+		List<Atom> batch = atoms.subList(next, next + BATCH);
+		next = (next + BATCH) % POOL;
+		return batch;
+	}
+
+	@Benchmark
+	public long sequential() {
+		long valid = 0;
+		for (Atom atom : nextBatch()) {
+			try {
+				RadixAtomValidator.getInstance().validate(atom);
+				valid++;
+			} catch (AtomValidationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return valid;
+	}
+
+	@Benchmark
+	public long parallel() {
+		return atomFetcher.validate(Observable.fromIterable(nextBatch())).count().blockingGet();
+	}
+
+	@Benchmark
+	public long resync() {
+		return atomFetcher.validate(Observable.fromIterable(atoms.subList(0, BATCH))).count().blockingGet();
+	}
+}
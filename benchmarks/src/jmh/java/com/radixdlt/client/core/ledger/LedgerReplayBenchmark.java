@@ -0,0 +1,157 @@
+package com.radixdlt.client.core.ledger;
+
+import com.google.gson.Gson;
+import com.radixdlt.client.application.translate.AddressTokenReducer;
+import com.radixdlt.client.application.translate.AddressTokenState;
+import com.radixdlt.client.core.address.RadixAddress;
+import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.atoms.SyntheticAtoms;
+import com.radixdlt.client.core.serialization.RadixJson;
+import com.radixdlt.client.core.util.DigestCounter;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.TestScheduler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays a history of transfers through the atom store, transaction validation and
+ * the token balance reducer, the path every wallet goes through on start up.
+ * <p>
+ * With cold caches atoms are decoded afresh before each replay so that no memoised hash or
+ * encoding is carried over, with warm caches the same atoms are replayed again. The SHA-256
+ * digests computed are counted alongside: without memoisation every hash the replay asks for
+ * would cost a double digest, with it a cold replay digests each atom and particle once and a
+ * warm replay not at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LedgerReplayBenchmark {
+	static {
+		DigestCounter.install();
+	}
+
+	@Param({"1000", "10000", "100000"})
+	private int atoms;
+
+	@Param({"cold", "warm"})
+	private String caches;
+
+	/**
+	 * Digests computed and atoms replayed, the digests of one atom being their ratio
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Digests {
+		private long digests;
+		private long atomsReplayed;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			digests = 0;
+			atomsReplayed = 0;
+		}
+
+		public long digests() {
+			return digests;
+		}
+
+		public long atomsReplayed() {
+			return atomsReplayed;
+		}
+	}
+
+	private final Gson gson = RadixJson.getGson();
+	private final TestScheduler scheduler = new TestScheduler();
+	private RadixAddress address;
+	private List<String> history;
+	private List<Atom> received;
+	private List<Atom> decoded;
+
+	@Setup
+	public void setup() {
+		address = new RadixAddress(SyntheticAtoms.MAGIC, SyntheticAtoms.OWNER.getPublicKey());
+		history = SyntheticAtoms.history(SyntheticAtoms.OWNER, atoms).stream()
+			.map(atom -> gson.toJson(atom, Atom.class))
+			.collect(Collectors.toList());
+		decoded = history.stream()
+			.map(json -> gson.fromJson(json, Atom.class))
+			.peek(Atom::getParticles)
+			.collect(Collectors.toList());
+
+		// The balance reducer debounces on the computation scheduler
+		RxJavaPlugins.setComputationSchedulerHandler(scheduler -> this.scheduler);
+	}
+
+	@TearDown
+	public void tearDown() {
+		RxJavaPlugins.reset();
+	}
+
+	@Setup(Level.Invocation)
+	public void receive() {
+		if (received != null && caches.equals("warm")) {
+			return;
+		}
+
+		received = new ArrayList<>(history.size());
+		for (String json : history) {
+			received.add(gson.fromJson(json, Atom.class));
+		}
+	}
+
+	@Benchmark
+	public AddressTokenState replay(Digests counters) {
+		final long digestsBefore = DigestCounter.count();
+		InMemoryAtomStore atomStore = new InMemoryAtomStore();
+		for (Atom atom : received) {
+			atomStore.store(address, atom);
+		}
+
+		TestObserver<AddressTokenState> state = new AddressTokenReducer(address, new ConsumableDataSource(atomStore))
+			.getState()
+			.test();
+		scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+		state.assertValueCount(1);
+		counters.digests += DigestCounter.count() - digestsBefore;
+		counters.atomsReplayed += received.size();
+		return state.values().get(0);
+	}
+
+	/**
+	 * Groups the transfers of every atom by owner keys and picks out the groups the address
+	 * owns, as the transfer translator does. Unlike {@link #replay()} this is dominated by
+	 * hashing and comparing keys, asset ids and addresses. The atoms are decoded up front.
+	 */
+	@Benchmark
+	public long ownership() {
+		long owned = 0;
+		for (Atom atom : decoded) {
+			owned += atom.getAsTransactionAtom().summary().keySet().stream()
+				.filter(owners -> owners.stream().anyMatch(address::ownsKey))
+				.count();
+		}
+		return owned;
+	}
+}
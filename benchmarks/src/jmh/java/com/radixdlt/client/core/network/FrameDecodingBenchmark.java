@@ -0,0 +1,135 @@
+package com.radixdlt.client.core.network;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.radixdlt.client.core.address.EUID;
+import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.atoms.SyntheticAtoms;
+import com.radixdlt.client.core.serialization.Dson;
+import com.radixdlt.client.core.serialization.RadixJson;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okio.ByteString;
+import org.bouncycastle.util.encoders.Base64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding of Atoms.subscribeUpdate notifications received as JSON text frames, parsed into
+ * a tree or streamed, compared to binary DSON frames, optionally touching the particles of every atom.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameDecodingBenchmark {
+	@Param({"1", "16"})
+	private int atomsPerFrame;
+
+	@Param({"false", "true"})
+	private boolean readParticles;
+
+	private final Gson gson = RadixJson.getGson();
+	private final JsonParser parser = new JsonParser();
+	private String jsonFrame;
+	private ByteString dsonFrame;
+
+	@Setup
+	public void setup() {
+		JsonArray atoms = new JsonArray();
+		for (int i = 0; i < atomsPerFrame; i++) {
+			atoms.add(gson.toJsonTree(SyntheticAtoms.transfer(SyntheticAtoms.OWNER, i), Atom.class));
+		}
+
+		JsonObject params = new JsonObject();
+		params.addProperty("subscriberId", "e1d7f3a0-2f4b-4d4c-9a55-8b5a8f6c2d10");
+		params.add("atoms", atoms);
+		JsonObject notification = new JsonObject();
+		notification.addProperty("method", "Atoms.subscribeUpdate");
+		notification.add("params", params);
+
+		jsonFrame = gson.toJson(notification);
+		dsonFrame = ByteString.of(Dson.getInstance().toDson(toDsonValue(notification)));
+	}
+
+	/**
+	 * Converts a JSON tree to the values nodes encode as DSON, keeping the "serializer"
+	 * fields which our own atom encoding leaves out.
+	 */
+	private static Object toDsonValue(JsonElement json) {
+		if (json.isJsonArray()) {
+			List<Object> list = new ArrayList<>();
+			json.getAsJsonArray().forEach(element -> list.add(toDsonValue(element)));
+			return list;
+		} else if (json.isJsonObject()) {
+			JsonObject object = json.getAsJsonObject();
+			JsonElement serializer = object.get("serializer");
+			if (serializer != null && serializer.getAsJsonPrimitive().isString()) {
+				String value = object.get("value").getAsString();
+				return serializer.getAsString().equals("EUID") ? new EUID(new BigInteger(value)) : Base64.decode(value);
+			}
+
+			Map<String, Object> map = new LinkedHashMap<>();
+			object.entrySet().forEach(field -> map.put(field.getKey(), toDsonValue(field.getValue())));
+			return map;
+		} else {
+			JsonPrimitive primitive = json.getAsJsonPrimitive();
+			return primitive.isNumber() ? (Object) primitive.getAsLong() : primitive.getAsString();
+		}
+	}
+
+	private int consume(Atom atom) {
+		return readParticles ? atom.getParticles().size() : atom.getDestinations().size();
+	}
+
+	@Benchmark
+	public int json() {
+		JsonObject notification = parser.parse(jsonFrame).getAsJsonObject();
+		JsonArray atoms = notification.getAsJsonObject("params").getAsJsonArray("atoms");
+		int count = 0;
+		for (JsonElement atom : atoms) {
+			count += consume(gson.fromJson(atom, Atom.class));
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int jsonStreamed() throws IOException {
+		int count = 0;
+		for (Object message : JsonRpcFrames.parse(jsonFrame)) {
+			for (Atom atom : ((AtomsNotification) message).getAtoms(Atom.class)) {
+				count += consume(atom);
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int dson() {
+		int count = 0;
+		for (Atom atom : DsonNotification.parse(dsonFrame).getAtoms(Atom.class)) {
+			count += consume(atom);
+		}
+		return count;
+	}
+}
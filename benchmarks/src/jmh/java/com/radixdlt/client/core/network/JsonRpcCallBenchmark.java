@@ -0,0 +1,118 @@
+package com.radixdlt.client.core.network;
+
+import com.radixdlt.client.core.network.RadixJsonRpcClient.RequestIds;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.net.ServerSocketFactory;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON-RPC calls per second against a local websocket server which answers every request
+ * with an empty result, so that the client's own cost per call dominates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonRpcCallBenchmark {
+	private static final int IN_FLIGHT = 64;
+
+	@Param({"SEQUENTIAL", "RANDOM_UUID"})
+	private RequestIds requestIds;
+
+	private MockWebServer server;
+	private RadixJsonRpcClient client;
+
+	@Setup
+	public void setup() throws IOException {
+		server = new MockWebServer();
+		// Like a node, answer without waiting to coalesce small frames
+		server.setServerSocketFactory(new ServerSocketFactory() {
+			@Override
+			public ServerSocket createServerSocket() throws IOException {
+				return new ServerSocket() {
+					@Override
+					public Socket accept() throws IOException {
+						Socket socket = super.accept();
+						socket.setTcpNoDelay(true);
+						return socket;
+					}
+				};
+			}
+
+			@Override
+			public ServerSocket createServerSocket(int port) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public ServerSocket createServerSocket(int port, int backlog) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public ServerSocket createServerSocket(int port, int backlog, InetAddress address) {
+				throw new UnsupportedOperationException();
+			}
+		});
+		server.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+			@Override
+			public void onMessage(WebSocket webSocket, String request) {
+				// Requests are written as {"id":...,"method":... so the id can be cut out
+				String id = request.substring("{\"id\":".length(), request.indexOf(",\"method\""));
+				webSocket.send("{\"id\":" + id + ",\"result\":[]}");
+			}
+		}));
+		server.start();
+
+		WebSocketClient webSocketClient = new WebSocketClient(
+			HttpClients::getSslAllTrustingClient,
+			new Request.Builder().url(server.url("/rpc")).build()
+		);
+		client = new RadixJsonRpcClient(webSocketClient, false, requestIds);
+		client.getLivePeers().blockingGet();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		client.tryClose();
+		server.shutdown();
+	}
+
+	@Benchmark
+	public List<NodeRunnerData> oneAtATime() {
+		return client.getLivePeers().blockingGet();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(IN_FLIGHT)
+	public List<NodeRunnerData> concurrent() {
+		return Observable.range(0, IN_FLIGHT)
+			.flatMapSingle(i -> client.getLivePeers())
+			.blockingLast();
+	}
+}
@@ -0,0 +1,60 @@
+package com.radixdlt.client.core.pow;
+
+import com.radixdlt.client.core.atoms.SyntheticAtoms;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to find a proof of work. The seed changes on every invocation, so the average
+ * converges on the expected 2^leading attempts rather than the luck of a single seed.
+ * Each worker count gets its own pool so that results don't depend on the size of the common pool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProofOfWorkBenchmark {
+	@Param({"8", "12", "16"})
+	private int leading;
+
+	@Param({"1", "2", "4", "8"})
+	private int workers;
+
+	private ForkJoinPool pool;
+	private ProofOfWorkBuilder builder;
+	private final byte[] seed = new byte[32];
+	private int round;
+
+	@Setup
+	public void setup() {
+		// The benchmark thread runs one of the workers itself
+		pool = new ForkJoinPool(Math.max(1, workers - 1));
+		builder = new ProofOfWorkBuilder(pool, workers);
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public ProofOfWork build() {
+		ByteBuffer.wrap(seed).putInt(round++);
+		return builder.build(SyntheticAtoms.MAGIC, seed, leading);
+	}
+}
@@ -0,0 +1,49 @@
+package com.radixdlt.client.core.pow;
+
+import com.radixdlt.client.core.atoms.RadixHash;
+import com.radixdlt.client.core.atoms.SyntheticAtoms;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import okio.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single core hash rate of the proof of work inner loop, against the hex string
+ * comparison it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProofOfWorkKernelBenchmark {
+	private static final int LEADING = 16;
+
+	private final byte[] seed = new byte[32];
+	private final ProofOfWorkKernel kernel = new ProofOfWorkKernel(SyntheticAtoms.MAGIC, seed, LEADING);
+	private final ByteBuffer buffer = ByteBuffer.allocate(4 + 32 + Long.BYTES).putInt(SyntheticAtoms.MAGIC).put(seed);
+	private final String targetHex = new ProofOfWorkBuilder(1).build(SyntheticAtoms.MAGIC, seed, LEADING).getTargetHex();
+	private long nonce;
+
+	@Benchmark
+	public boolean legacy() {
+		buffer.position(32 + 4);
+		buffer.putLong(nonce++);
+		String hashHex = ByteString.of(RadixHash.of(buffer.array()).toByteArray()).hex();
+		return hashHex.compareTo(targetHex) < 0;
+	}
+
+	@Benchmark
+	public boolean kernel() {
+		return kernel.meetsTarget(nonce++);
+	}
+}
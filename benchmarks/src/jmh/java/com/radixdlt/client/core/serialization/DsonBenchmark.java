@@ -0,0 +1,58 @@
+package com.radixdlt.client.core.serialization;
+
+import com.google.gson.JsonElement;
+import com.radixdlt.client.core.atoms.RadixHash;
+import com.radixdlt.client.core.atoms.SyntheticAtoms;
+import com.radixdlt.client.core.atoms.TransactionAtom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DsonBenchmark {
+	private TransactionAtom atom;
+	private byte[] dson;
+
+	@Setup
+	public void setup() {
+		atom = SyntheticAtoms.transfer(SyntheticAtoms.OWNER, 1);
+		dson = Dson.getInstance().toDson(atom);
+	}
+
+	@Benchmark
+	public byte[] toDson() {
+		// Not Atom.toDson(), which is memoised
+		return Dson.getInstance().toDson(atom);
+	}
+
+	@Benchmark
+	public int sizeOf() {
+		return DsonWriter.sizeOf(atom);
+	}
+
+	/**
+	 * Hash of an atom without its memoised encoding, as for every newly received atom
+	 */
+	@Benchmark
+	public RadixHash hash() {
+		return RadixHash.ofDson(atom);
+	}
+
+	@Benchmark
+	public JsonElement parse() {
+		return Dson.getInstance().parse(dson);
+	}
+}
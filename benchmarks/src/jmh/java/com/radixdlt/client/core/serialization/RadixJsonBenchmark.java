@@ -0,0 +1,66 @@
+package com.radixdlt.client.core.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.atoms.Particle;
+import com.radixdlt.client.core.atoms.SyntheticAtoms;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding and decoding of a {@link com.radixdlt.client.core.atoms.TransactionAtom} the way
+ * RadixJsonRpcClient does, run with -prof gc to compare allocation per atom.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RadixJsonBenchmark {
+	private final Gson gson = RadixJson.getGson();
+	private Atom atom;
+	private String json;
+	private JsonObject jsonTree;
+
+	@Setup
+	public void setup() {
+		atom = SyntheticAtoms.transfer(SyntheticAtoms.OWNER, 1);
+		json = gson.toJson(atom, Atom.class);
+		jsonTree = gson.toJsonTree(atom, Atom.class).getAsJsonObject();
+	}
+
+	@Benchmark
+	public String encode() {
+		return gson.toJson(atom, Atom.class);
+	}
+
+	@Benchmark
+	public Atom decode() {
+		return gson.fromJson(json, Atom.class);
+	}
+
+	/**
+	 * Subscriptions receive atoms as part of an already parsed notification
+	 */
+	@Benchmark
+	public Atom decodeTree() {
+		return gson.fromJson(jsonTree, Atom.class);
+	}
+
+	@Benchmark
+	public List<Particle> decodeTreeWithParticles() {
+		return gson.fromJson(jsonTree, Atom.class).getParticles();
+	}
+}
@@ -0,0 +1,52 @@
+package com.radixdlt.client.core.util;
+
+import com.radixdlt.client.core.address.RadixAddress;
+import com.radixdlt.client.core.atoms.SyntheticAtoms;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Base58Benchmark {
+	private byte[] addressBytes;
+	private String address;
+
+	@Setup
+	public void setup() {
+		address = new RadixAddress(SyntheticAtoms.MAGIC, SyntheticAtoms.OWNER.getPublicKey()).toString();
+		addressBytes = Base58.fromBase58(address);
+	}
+
+	@Benchmark
+	public String toBase58() {
+		return Base58.toBase58(addressBytes);
+	}
+
+	@Benchmark
+	public byte[] fromBase58() {
+		return Base58.fromBase58(address);
+	}
+
+	@Benchmark
+	public RadixAddress parseAddress() {
+		return new RadixAddress(address);
+	}
+
+	@Benchmark
+	public RadixAddress addressFromPublicKey() {
+		return new RadixAddress(SyntheticAtoms.MAGIC, SyntheticAtoms.OWNER.getPublicKey());
+	}
+}
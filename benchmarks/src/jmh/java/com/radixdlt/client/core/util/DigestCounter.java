@@ -0,0 +1,75 @@
+package com.radixdlt.client.core.util;
+
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+import java.security.Security;
+import java.util.concurrent.atomic.LongAdder;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+
+/**
+ * Counts the SHA-256 digests computed through {@link Hash}, by swapping the SHA-256 of the
+ * registered BouncyCastle provider for a counting one. Must be installed before any thread
+ * has looked up its digest.
+ */
+public final class DigestCounter {
+	private static final LongAdder DIGESTS = new LongAdder();
+
+	/**
+	 * BouncyCastle's SHA-256, counting every digest computed
+	 */
+	public static final class CountingSha256 extends MessageDigestSpi {
+		private final SHA256Digest digest = new SHA256Digest();
+
+		@Override
+		protected int engineGetDigestLength() {
+			return digest.getDigestSize();
+		}
+
+		@Override
+		protected void engineUpdate(byte input) {
+			digest.update(input);
+		}
+
+		@Override
+		protected void engineUpdate(byte[] input, int offset, int len) {
+			digest.update(input, offset, len);
+		}
+
+		@Override
+		protected byte[] engineDigest() {
+			byte[] hash = new byte[digest.getDigestSize()];
+			engineDigest(hash, 0, hash.length);
+			return hash;
+		}
+
+		@Override
+		protected int engineDigest(byte[] buf, int offset, int len) {
+			DIGESTS.increment();
+			return digest.doFinal(buf, offset);
+		}
+
+		@Override
+		protected void engineReset() {
+			digest.reset();
+		}
+	}
+
+	private DigestCounter() {
+	}
+
+	/**
+	 * Swaps in the counting SHA-256, registering BouncyCastle first through {@link Hash}
+	 */
+	public static synchronized void install() {
+		Hash.sha512(new byte[0]);
+		Provider provider = Security.getProvider("BC");
+		provider.put("MessageDigest.SHA-256", CountingSha256.class.getName());
+	}
+
+	/**
+	 * @return number of SHA-256 digests computed since installing, a double hash counting twice
+	 */
+	public static long count() {
+		return DIGESTS.sum();
+	}
+}
@@ -0,0 +1,130 @@
+package com.radixdlt.client.core.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Double SHA-256 through {@link Hash} against the previous implementation,
+ * which looked up a new digest and synchronized on it for every hash.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashBenchmark {
+	@Param({"44", "1024"})
+	private int size;
+
+	private byte[] data;
+
+	@State(Scope.Thread)
+	public static class Output {
+		private final byte[] hash = new byte[32];
+	}
+
+	@Setup
+	public void setup() {
+		data = new byte[size];
+		new Random(size).nextBytes(data);
+		// Make sure the provider is registered before the legacy path looks it up
+		Hash.sha256(data);
+	}
+
+	private static byte[] legacySha256(byte[] data, int offset, int len) {
+		final MessageDigest messageDigest;
+		try {
+			messageDigest = MessageDigest.getInstance("SHA-256", "BC");
+		} catch (NoSuchAlgorithmException | NoSuchProviderException e) {
+			throw new RuntimeException(e.getMessage());
+		}
+		synchronized (messageDigest) {
+			messageDigest.update(data, offset, len);
+			return messageDigest.digest();
+		}
+	}
+
+	private byte[] legacy() {
+		byte[] first = legacySha256(data, 0, data.length);
+		return legacySha256(first, 0, first.length);
+	}
+
+	private byte[] pooled() {
+		return Hash.doubleSha256(data, 0, data.length);
+	}
+
+	private byte[] pooledInto(Output output) {
+		Hash.doubleSha256(data, 0, data.length, output.hash, 0);
+		return output.hash;
+	}
+
+	@Benchmark
+	@Threads(1)
+	public byte[] legacy1() {
+		return legacy();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public byte[] legacy4() {
+		return legacy();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public byte[] legacy16() {
+		return legacy();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public byte[] pooled1() {
+		return pooled();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public byte[] pooled4() {
+		return pooled();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public byte[] pooled16() {
+		return pooled();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public byte[] pooledInto1(Output output) {
+		return pooledInto(output);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public byte[] pooledInto4(Output output) {
+		return pooledInto(output);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public byte[] pooledInto16(Output output) {
+		return pooledInto(output);
+	}
+}
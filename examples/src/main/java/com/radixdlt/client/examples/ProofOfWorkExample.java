@@ -0,0 +1,37 @@
+package com.radixdlt.client.examples;
+
+import com.radixdlt.client.core.Bootstrap;
+import com.radixdlt.client.core.atoms.AtomBuilder;
+import com.radixdlt.client.core.atoms.TransactionAtom;
+import com.radixdlt.client.core.crypto.ECKeyPair;
+import com.radixdlt.client.core.crypto.ECKeyPairGenerator;
+import com.radixdlt.client.core.pow.ProofOfWorkListeners;
+import com.radixdlt.client.core.pow.ProofOfWorkMetrics;
+
+/**
+ * Measures how long this machine takes to find proof of work fees for atoms
+ * of different sizes, without connecting to the network.
+ */
+public class ProofOfWorkExample {
+	private static final int ATOMS_PER_SIZE = 20;
+
+	public static void main(String[] args) {
+		final int magic = Bootstrap.ALPHANET.getConfig().getMagic();
+		final ECKeyPair owner = ECKeyPairGenerator.newInstance().generateKeyPair();
+
+		ProofOfWorkMetrics metrics = new ProofOfWorkMetrics();
+		ProofOfWorkListeners.add(metrics);
+
+		for (int payloadSize = 0; payloadSize <= 1024; payloadSize += 128) {
+			for (int i = 0; i < ATOMS_PER_SIZE; i++) {
+				new AtomBuilder()
+					.type(TransactionAtom.class)
+					.addDestination(owner.getUID())
+					.payload(new byte[payloadSize])
+					.buildWithPOWFee(magic, owner.getPublicKey());
+			}
+		}
+
+		System.out.print(metrics.summary());
+	}
+}
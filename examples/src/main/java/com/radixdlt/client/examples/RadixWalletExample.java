@@ -5,6 +5,8 @@ import com.radixdlt.client.application.identity.RadixIdentities;
 import com.radixdlt.client.core.Bootstrap;
 import com.radixdlt.client.core.RadixUniverse;
 import com.radixdlt.client.core.address.RadixAddress;
+import com.radixdlt.client.core.pow.ProofOfWorkListeners;
+import com.radixdlt.client.core.pow.ProofOfWorkMetrics;
 import com.radixdlt.client.application.identity.RadixIdentity;
 import com.radixdlt.client.dapps.wallet.RadixWallet;
 import java.math.BigDecimal;
@@ -52,10 +54,14 @@ public class RadixWalletExample {
 
 		// If specified, send money to another address
 		if (TO_ADDRESS_BASE58 != null) {
+			// Proof of work cost of the transaction
+			ProofOfWorkMetrics powMetrics = new ProofOfWorkMetrics();
+			ProofOfWorkListeners.add(powMetrics);
+
 			RadixAddress toAddress = RadixAddress.fromString(TO_ADDRESS_BASE58);
 			wallet.sendWhenAvailable(AMOUNT, MESSAGE, toAddress)
 				.toObservable()
-				.subscribe(System.out::println, Throwable::printStackTrace);
+				.subscribe(System.out::println, Throwable::printStackTrace, () -> System.out.print(powMetrics.summary()));
 		}
 	}
 }
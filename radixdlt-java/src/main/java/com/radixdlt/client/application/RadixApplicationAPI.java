@@ -22,6 +22,8 @@ import com.radixdlt.client.core.atoms.UnsignedAtom;
 import com.radixdlt.client.core.crypto.ECPublicKey;
 import com.radixdlt.client.core.network.AtomSubmissionUpdate;
 import com.radixdlt.client.core.network.AtomSubmissionUpdate.AtomSubmissionState;
+import com.radixdlt.client.core.pow.ProofOfWorkScheduler;
+import com.radixdlt.client.core.pow.ProofOfWorkScheduler.Priority;
 import com.radixdlt.client.application.translate.TransactionAtoms;
 import io.reactivex.Completable;
 import io.reactivex.Observable;
@@ -176,7 +178,7 @@ public class RadixApplicationAPI {
 
 		AtomBuilder atomBuilder = atomBuilderSupplier.get();
 		ConnectableObservable<AtomSubmissionUpdate> updates = dataStoreTranslator.translate(storeDataAction, atomBuilder)
-			.andThen(Single.fromCallable(() -> atomBuilder.buildWithPOWFee(universe.getMagic(), address.getPublicKey())))
+			.andThen(atomBuilder.buildWithPOWFeeAsync(universe.getMagic(), address.getPublicKey()))
 			.flatMap(identity::sign)
 			.flatMapObservable(ledger.getAtomSubmitter()::submitAtom)
 			.replay();
@@ -191,7 +193,7 @@ public class RadixApplicationAPI {
 
 		AtomBuilder atomBuilder = atomBuilderSupplier.get();
 		ConnectableObservable<AtomSubmissionUpdate> updates = dataStoreTranslator.translate(storeDataAction, atomBuilder)
-			.andThen(Single.fromCallable(() -> atomBuilder.buildWithPOWFee(universe.getMagic(), address0.getPublicKey())))
+			.andThen(atomBuilder.buildWithPOWFeeAsync(universe.getMagic(), address0.getPublicKey()))
 			.flatMap(identity::sign)
 			.flatMapObservable(ledger.getAtomSubmitter()::submitAtom)
 			.replay();
@@ -313,15 +315,26 @@ public class RadixApplicationAPI {
 	}
 
 	public Single<UnsignedAtom> mapToAtom(TransferTokensAction transferTokensAction, UniqueProperty uniqueProperty) {
+		return mapToAtom(transferTokensAction, uniqueProperty, Priority.INTERACTIVE);
+	}
+
+	/**
+	 * @param priority priority of the proof of work for the atom, {@link Priority#BULK} for atoms
+	 * submitted in large numbers so they don't hold up interactive ones
+	 */
+	public Single<UnsignedAtom> mapToAtom(TransferTokensAction transferTokensAction, UniqueProperty uniqueProperty, Priority priority) {
 		pull();
 
 		AtomBuilder atomBuilder = atomBuilderSupplier.get();
 
 		return uniquePropertyTranslator.translate(uniqueProperty, atomBuilder)
 			.andThen(tokenTransferTranslator.translate(transferTokensAction, atomBuilder))
-			.andThen(Single.fromCallable(
-				() -> atomBuilder.buildWithPOWFee(universe.getMagic(), transferTokensAction.getFrom().getPublicKey()))
-			);
+			.andThen(atomBuilder.buildWithPOWFeeAsync(
+				universe.getMagic(),
+				transferTokensAction.getFrom().getPublicKey(),
+				ProofOfWorkScheduler.getDefault(),
+				priority
+			));
 	}
 
 	// TODO: make this more generic
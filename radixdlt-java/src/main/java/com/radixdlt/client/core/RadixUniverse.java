@@ -14,7 +14,9 @@ import com.radixdlt.client.core.ledger.RadixAtomSubmitter;
 import com.radixdlt.client.core.ledger.ClientSelector;
 import com.radixdlt.client.core.ledger.InMemoryAtomStore;
 import com.radixdlt.client.core.network.PeerDiscovery;
+import com.radixdlt.client.core.network.RadixClientPool.Lane;
 import com.radixdlt.client.core.network.RadixNetwork;
+import com.radixdlt.client.core.util.LruCache;
 
 /**
  * A RadixUniverse represents the interface through which a client can interact
@@ -107,6 +109,11 @@ public final class RadixUniverse {
 
 	private final Ledger ledger;
 
+	/**
+	 * Addresses of recently seen keys, every transfer translated looks up the address of both parties
+	 */
+	private final LruCache<ECPublicKey, RadixAddress> addresses = new LruCache<>(1024);
+
 	private RadixUniverse(RadixUniverseConfig config, RadixNetwork network) {
 		this.config = config;
 		this.network = network;
@@ -115,7 +122,7 @@ public final class RadixUniverse {
 		// TODO: cleanup
 		this.ledger = new Ledger() {
 			private final ClientSelector clientSelector = new ClientSelector(config, network);
-			private final AtomFetcher atomFetcher = new AtomFetcher(clientSelector::getRadixClient);
+			private final AtomFetcher atomFetcher = new AtomFetcher(shard -> clientSelector.getRadixClient(shard, Lane.BULK));
 			private final InMemoryAtomStore inMemoryAtomStore = new InMemoryAtomStore();
 			private final AtomPuller atomPuller = new RadixAtomPuller(atomFetcher::fetchAtoms, inMemoryAtomStore::store);
 			private final AtomSubmitter atomSubmitter = new RadixAtomSubmitter(clientSelector::getRadixClient);
@@ -176,7 +183,7 @@ public final class RadixUniverse {
 	 * @return the corresponding address to the key for this universe
 	 */
 	public RadixAddress getAddressFrom(ECPublicKey publicKey) {
-		return new RadixAddress(config, publicKey);
+		return addresses.computeIfAbsent(publicKey, key -> new RadixAddress(config, key));
 	}
 
 	/**
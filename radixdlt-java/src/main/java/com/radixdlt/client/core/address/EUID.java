@@ -1,43 +1,164 @@
 package com.radixdlt.client.core.address;
 
 import java.math.BigInteger;
+import java.util.Objects;
 
+/**
+ * Signed integer identifier. Identifiers derived from hashes are 12 bytes, those are packed
+ * into {@code high} and {@code low} as a 96 bit two's complement value. Anything wider keeps
+ * its {@link BigInteger}. Equality, hash code and string form are those of the {@link BigInteger}.
+ */
 public class EUID {
-	private final BigInteger value;
+	private static final int PACKED_BYTES = 12;
+
+	private final long high;
+	private final int low;
+	// Only set when the value doesn't fit in 96 bits
+	private final BigInteger wide;
+	private final int hashCode;
 
 	public EUID(byte[] value) {
-		this.value = new BigInteger(value);
+		// Let BigInteger reject an empty value and strip any redundant sign bytes of a long one
+		this(value.length == 0 || value.length > PACKED_BYTES ? new BigInteger(value) : null, value);
 	}
 
 	public EUID(BigInteger value) {
-		this.value = value;
+		this(Objects.requireNonNull(value), null);
+	}
+
+	private EUID(BigInteger wide, byte[] value) {
+		if (wide != null && wide.bitLength() < PACKED_BYTES * Byte.SIZE) {
+			value = wide.toByteArray();
+			wide = null;
+		}
+
+		if (wide != null) {
+			this.high = 0;
+			this.low = 0;
+			this.wide = wide;
+			this.hashCode = wide.hashCode();
+			return;
+		}
+
+		// Sign extend to 96 bits
+		long high = value[0] < 0 ? -1L : 0L;
+		int low = value[0] < 0 ? -1 : 0;
+		for (byte b : value) {
+			high = (high << Byte.SIZE) | (low >>> 24);
+			low = (low << Byte.SIZE) | (b & 0xFF);
+		}
+
+		this.high = high;
+		this.low = low;
+		this.wide = null;
+		this.hashCode = hashCode(high, low);
+	}
+
+	/**
+	 * Same as {@link BigInteger#hashCode()}, which hashes the 32 bit words of the magnitude
+	 */
+	private static int hashCode(long high, int low) {
+		final boolean negative = high < 0;
+		if (negative) {
+			// Negate the 96 bit value to get the magnitude
+			high = ~high + (low == 0 ? 1 : 0);
+			low = -low;
+		}
+
+		int hashCode = 31 * (31 * (int) (high >>> 32) + (int) high) + low;
+		return negative ? -hashCode : hashCode;
 	}
 
 	public BigInteger bigInteger() {
-		return value;
+		return wide != null ? wide : new BigInteger(toByteArray());
+	}
+
+	/**
+	 * @return shortest two's complement big endian encoding, the same as {@link BigInteger#toByteArray()}
+	 */
+	public byte[] toByteArray() {
+		if (wide != null) {
+			return wide.toByteArray();
+		}
+
+		byte[] bytes = new byte[byteLength()];
+		copyBytes(bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * @return length of {@link #toByteArray()}, without encoding
+	 */
+	public int byteLength() {
+		return wide != null ? wide.bitLength() / Byte.SIZE + 1 : PACKED_BYTES - packedStart();
+	}
+
+	/**
+	 * Writes {@link #toByteArray()} into an array, without allocating unless the value is wider than 96 bits
+	 *
+	 * @param dest array to write into, with at least {@link #byteLength()} bytes from destPos
+	 * @param destPos where to write the first byte
+	 * @return number of bytes written
+	 */
+	public int copyBytes(byte[] dest, int destPos) {
+		if (wide != null) {
+			byte[] bytes = wide.toByteArray();
+			System.arraycopy(bytes, 0, dest, destPos, bytes.length);
+			return bytes.length;
+		}
+
+		final int start = packedStart();
+		for (int i = start; i < PACKED_BYTES; i++) {
+			dest[destPos + i - start] = packedByte(i);
+		}
+		return PACKED_BYTES - start;
+	}
+
+	private byte packedByte(int index) {
+		return index < Long.BYTES
+			? (byte) (high >>> (Long.SIZE - Byte.SIZE * (index + 1)))
+			: (byte) (low >>> (Integer.SIZE - Byte.SIZE * (index - Long.BYTES + 1)));
+	}
+
+	/**
+	 * @return index of the first packed byte, skipping sign bytes which the next byte's top bit already implies
+	 */
+	private int packedStart() {
+		int start = 0;
+		while (start < PACKED_BYTES - 1 && packedByte(start) == (packedByte(start + 1) >> 7)) {
+			start++;
+		}
+		return start;
 	}
 
 	public long getShard() {
-		return value.longValue();
+		return wide != null ? wide.longValue() : (high << Integer.SIZE) | (low & 0xFFFFFFFFL);
 	}
 
 	@Override
 	public int hashCode() {
-		return value.hashCode();
+		return hashCode;
 	}
 
 	@Override
 	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
 		if (o == null || !(o instanceof EUID)) {
 			return false;
 		}
 
 		EUID other = (EUID) o;
-		return this.value.equals(other.value);
+		return this.hashCode == other.hashCode
+			&& this.high == other.high
+			&& this.low == other.low
+			&& Objects.equals(this.wide, other.wide);
 	}
 
 	@Override
 	public String toString() {
-		return value.toString();
+		return bigInteger().toString();
 	}
 }
@@ -10,6 +10,8 @@ public class RadixAddress {
 
 	// The Base58 address string
 	private final String addressBase58;
+	// The address string is derived from these alone, so they stand in for it in equals and hashCode
+	private final transient byte magic;
 	private final transient ECPublicKey publicKey;
 
 	public RadixAddress(String addressBase58) {
@@ -25,6 +27,7 @@ public class RadixAddress {
 		System.arraycopy(raw, 1, publicKey, 0, raw.length - 5);
 
 		this.addressBase58 = addressBase58;
+		this.magic = raw[0];
 		this.publicKey = new ECPublicKey(publicKey);
 	}
 
@@ -48,6 +51,7 @@ public class RadixAddress {
 		System.arraycopy(check, 0, addressBytes, publicKey.length() + 1, 4);
 
 		this.addressBase58 = Base58.toBase58(addressBytes);
+		this.magic = addressBytes[0];
 		this.publicKey = publicKey;
 	}
 
@@ -82,16 +86,20 @@ public class RadixAddress {
 
 	@Override
 	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
 		if (o == null || !(o instanceof RadixAddress)) {
 			return false;
 		}
 
 		RadixAddress other = (RadixAddress) o;
-		return other.addressBase58.equals(this.addressBase58);
+		return other.magic == this.magic && other.publicKey.equals(this.publicKey);
 	}
 
 	@Override
 	public int hashCode() {
-		return addressBase58.hashCode();
+		return 31 * publicKey.hashCode() + magic;
 	}
 }
@@ -1,6 +1,5 @@
 package com.radixdlt.client.core.address;
 
-import com.google.gson.JsonElement;
 import com.radixdlt.client.core.atoms.Atom;
 import com.radixdlt.client.core.atoms.RadixHash;
 import com.radixdlt.client.core.crypto.ECPublicKey;
@@ -25,15 +24,25 @@ public class RadixUniverseConfig {
 	private final List<Atom> genesis;
 
 	public static RadixUniverseConfig fromDsonBase64(String dsonBase64) {
-		JsonElement universeJson = Dson.getInstance().parse(Base64.decode(dsonBase64));
-		System.out.println(universeJson);
-		return RadixJson.getGson().fromJson(universeJson, RadixUniverseConfig.class);
+		return Dson.getInstance().fromDson(Base64.decode(dsonBase64), RadixUniverseConfig.class);
 	}
 
 	public static RadixUniverseConfig fromInputStream(InputStream inputStream) {
 		return RadixJson.getGson().fromJson(new InputStreamReader(inputStream), RadixUniverseConfig.class);
 	}
 
+	// Only for deserialization, which sets the fields directly
+	private RadixUniverseConfig() {
+		this.magic = 0;
+		this.port = 0;
+		this.name = null;
+		this.description = null;
+		this.type = null;
+		this.timestamp = 0;
+		this.creator = null;
+		this.genesis = null;
+	}
+
 	RadixUniverseConfig(
 		List<Atom> genesis,
 		long port,
@@ -76,7 +85,7 @@ public class RadixUniverseConfig {
 	}
 
 	public RadixHash getHash() {
-		return RadixHash.of(Dson.getInstance().toDson(this));
+		return RadixHash.ofDson(this);
 	}
 
 	@Override
@@ -12,6 +12,12 @@ public abstract class AbstractConsumable extends Particle {
 	@SerializedName("asset_id")
 	private final EUID assetId;
 
+	AbstractConsumable() {
+		this.quantity = 0;
+		this.nonce = 0;
+		this.assetId = null;
+	}
+
 	AbstractConsumable(long quantity, Set<ECKeyPair> owners, long nonce, EUID assetId) {
 		super(owners.stream().map(ECKeyPair::getUID).collect(Collectors.toSet()), owners);
 		this.quantity = quantity;
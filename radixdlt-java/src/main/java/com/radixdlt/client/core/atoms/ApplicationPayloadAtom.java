@@ -9,6 +9,11 @@ import java.util.Set;
 public class ApplicationPayloadAtom extends PayloadAtom {
 	private final String applicationId;
 
+	// Only for deserialization, which sets the fields directly
+	private ApplicationPayloadAtom() {
+		this.applicationId = null;
+	}
+
 	public ApplicationPayloadAtom(
 		String applicationId,
 		List<Particle> particles,
@@ -19,6 +19,21 @@ public class AssetAtom extends Atom {
 	private final byte[] icon;
 	private final EUID id;
 
+	// Only for deserialization, which sets the fields directly
+	private AssetAtom() {
+		this.owners = null;
+		this.id = null;
+		this.type = null;
+		this.subUnits = 0;
+		this.maximumUnits = 0;
+		this.settings = 0;
+		this.iso = null;
+		this.label = null;
+		this.description = null;
+		this.classification = null;
+		this.icon = null;
+	}
+
 	public AssetAtom(
 		Set<ECKeyPair> owners,
 		EUID id,
@@ -3,8 +3,12 @@ package com.radixdlt.client.core.atoms;
 import com.radixdlt.client.core.address.EUID;
 import com.radixdlt.client.core.crypto.ECSignature;
 import com.radixdlt.client.core.serialization.Dson;
+import com.radixdlt.client.core.serialization.Lazy;
+import com.radixdlt.client.core.serialization.LazyFields;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,13 +16,29 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 public abstract class Atom {
-	private Set<EUID> destinations;
+	private final Set<EUID> destinations;
 	private final Map<String, Long> timestamps;
-	private String action;
-	private final List<Particle> particles;
-	private final Map<String, ECSignature> signatures;
+	private final String action;
+	@Lazy
+	private List<Particle> particles;
+	@Lazy
+	private Map<String, ECSignature> signatures;
 	private transient Map<String, Long> debug = new HashMap<>();
 
+	/**
+	 * Fields of an atom read from a node which are only decoded once accessed, as most
+	 * atoms received are filtered on their type or destinations alone.
+	 */
+	private transient volatile LazyFields lazyFields;
+
+	/**
+	 * Lazily computed encodings. Atoms are immutable once built so these never go stale,
+	 * and since signatures are not part of the DSON they carry over to the signed atom.
+	 */
+	private transient volatile byte[] dson;
+	private transient volatile RadixHash hash;
+	private transient volatile EUID hid;
+
 	Atom() {
 		this.destinations = Collections.emptySet();
 		this.timestamps = null;
@@ -28,7 +48,7 @@ public abstract class Atom {
 	}
 
 	Atom(Set<EUID> destinations, long timestamp, EUID signatureId, ECSignature signature) {
-		this.destinations = destinations;
+		this.destinations = copyOf(destinations);
 		this.particles = null;
 		this.timestamps = Collections.singletonMap("default", timestamp);
 		this.action = "STORE";
@@ -38,21 +58,51 @@ public abstract class Atom {
 	}
 
 	Atom(Set<EUID> destinations, List<Particle> particles, long timestamp) {
-		this.destinations = destinations;
-		this.particles = particles;
+		this.destinations = copyOf(destinations);
+		this.particles = copyOf(particles);
 		this.timestamps = Collections.singletonMap("default", timestamp);
 		this.signatures = null;
 		this.action = "STORE";
 	}
 
 	Atom(List<Particle> particles, Set<EUID> destinations, long timestamp, EUID signatureId, ECSignature signature) {
-		this.destinations = destinations;
-		this.particles = particles;
+		this.destinations = copyOf(destinations);
+		this.particles = copyOf(particles);
 		this.timestamps = Collections.singletonMap("default", timestamp);
 		this.signatures = Collections.singletonMap(signatureId.toString(), signature);
 		this.action = "STORE";
 	}
 
+	// Insertion ordered copies so the DSON encoding, and so the hash, match the original collections
+	private static <T> Set<T> copyOf(Set<T> set) {
+		return set == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(set));
+	}
+
+	private static <T> List<T> copyOf(List<T> list) {
+		return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+	}
+
+	/**
+	 * Adopts the cached encodings of an atom which only differs from this one by its
+	 * signatures, e.g. the unsigned atom this atom was signed from.
+	 */
+	void copyEncodingFrom(Atom unsigned) {
+		this.dson = unsigned.dson;
+		this.hash = unsigned.hash;
+		this.hid = unsigned.hid;
+	}
+
+	/**
+	 * Decodes the fields of this atom which were read lazily, if any
+	 */
+	void decodeLazyFields() {
+		LazyFields lazyFields = this.lazyFields;
+		if (lazyFields != null) {
+			lazyFields.decode();
+			this.lazyFields = null;
+		}
+	}
+
 	public String getAction() {
 		return action;
 	}
@@ -67,6 +117,7 @@ public abstract class Atom {
 
 	// HACK
 	public Set<Long> getRequiredFirstShard() {
+		decodeLazyFields();
 		if (this.particles != null
 			&& this.particles.stream().anyMatch(Particle::isConsumer)
 		) {
@@ -85,14 +136,17 @@ public abstract class Atom {
 	}
 
 	public Map<String, ECSignature> getSignatures() {
+		decodeLazyFields();
 		return signatures;
 	}
 
 	public Optional<ECSignature> getSignature(EUID uid) {
+		decodeLazyFields();
 		return Optional.ofNullable(signatures).map(sigs -> sigs.get(uid.toString()));
 	}
 
 	public List<Particle> getParticles() {
+		decodeLazyFields();
 		return particles == null ? Collections.emptyList() : Collections.unmodifiableList(particles);
 	}
 
@@ -120,16 +174,49 @@ public abstract class Atom {
 		return (TransactionAtom) this;
 	}
 
+	/**
+	 * Adopts an encoding of this atom produced elsewhere, e.g. spliced from the encoding
+	 * of the atom it was built from. The caller guarantees it is what {@link #toDson()} would produce.
+	 */
+	void useDson(byte[] dson) {
+		this.dson = dson;
+		this.hash = null;
+		this.hid = null;
+	}
+
+	/**
+	 * @return the cached encoding itself, which must not be modified
+	 */
+	byte[] dson() {
+		byte[] dson = this.dson;
+		if (dson == null) {
+			dson = Dson.getInstance().toDson(this);
+			this.dson = dson;
+		}
+		return dson;
+	}
+
 	public byte[] toDson() {
-		return Dson.getInstance().toDson(this);
+		return dson().clone();
 	}
 
 	public RadixHash getHash() {
-		return RadixHash.of(Dson.getInstance().toDson(this));
+		RadixHash hash = this.hash;
+		if (hash == null) {
+			byte[] dson = this.dson;
+			hash = dson == null ? RadixHash.ofDson(this) : RadixHash.of(dson);
+			this.hash = hash;
+		}
+		return hash;
 	}
 
 	public EUID getHid() {
-		return getHash().toEUID();
+		EUID hid = this.hid;
+		if (hid == null) {
+			hid = getHash().toEUID();
+			this.hid = hid;
+		}
+		return hid;
 	}
 
 	@Override
@@ -1,5 +1,6 @@
 package com.radixdlt.client.core.atoms;
 
+import com.radixdlt.client.assets.Asset;
 import com.radixdlt.client.core.address.EUID;
 import com.radixdlt.client.core.address.RadixAddress;
 import com.radixdlt.client.core.crypto.ECKeyPair;
@@ -7,15 +8,26 @@ import com.radixdlt.client.core.crypto.ECPublicKey;
 import com.radixdlt.client.core.crypto.ECSignature;
 import com.radixdlt.client.core.crypto.EncryptedPrivateKey;
 import com.radixdlt.client.core.crypto.Encryptor;
+import com.radixdlt.client.core.pow.ProofOfWorkScheduler;
+import com.radixdlt.client.core.pow.ProofOfWorkScheduler.Priority;
+import com.radixdlt.client.core.serialization.Dson;
+import io.reactivex.Single;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 
 public class AtomBuilder {
-	private static final int MAX_PAYLOAD_SIZE = 1028;
+	public static final int MAX_PAYLOAD_SIZE = 1028;
+
+	/**
+	 * Stands in for the random application id of a payload atom when estimating, all UUIDs encode to the same size
+	 */
+	private static final String PLACEHOLDER_APPLICATION_ID = new UUID(0, 0).toString();
 
 	private Set<EUID> destinations = new HashSet<>();
 	private List<Particle> particles = new ArrayList<>();
@@ -78,19 +90,110 @@ public class AtomBuilder {
 	}
 
 	public UnsignedAtom buildWithPOWFee(int magic, ECPublicKey owner) {
-		// Expensive but fine for now
+		return this.buildWithPOWFee(magic, owner, () -> false);
+	}
+
+	/**
+	 * @param cancelled polled while searching for the proof of work
+	 * @throws java.util.concurrent.CancellationException if cancelled before the fee was found
+	 */
+	public UnsignedAtom buildWithPOWFee(int magic, ECPublicKey owner, BooleanSupplier cancelled) {
 		UnsignedAtom unsignedAtom = this.build();
-		int size = unsignedAtom.getRawAtom().toDson().length;
+		// Encoded once, the size, the proof of work seed and the final encoding all come from these bytes
+		byte[] dson = unsignedAtom.getRawAtom().dson();
+		int size = dson.length;
 
 		AtomFeeConsumable fee = new AtomFeeConsumableBuilder()
 			.atom(unsignedAtom)
 			.owner(owner)
-			.pow(magic, (int) Math.ceil(Math.log(size * 8.0)))
+			.pow(magic, powLeading(size))
+			.atomSize(size)
+			.cancelled(cancelled)
 			.build();
 
+		final boolean addsDestinations = !destinations.containsAll(fee.getDestinations());
 		this.addParticle(fee);
+		UnsignedAtom withFee = this.build();
+
+		// The fee only adds itself to the end of the particles, unless it also adds a destination
+		if (!addsDestinations) {
+			withFee.getRawAtom().useDson(Dson.getInstance().appendToArrayField(dson, "particles", fee));
+		}
+
+		return withFee;
+	}
+
+	/**
+	 * Builds the atom with its fee on the default proof of work scheduler, as an interactive job.
+	 */
+	public Single<UnsignedAtom> buildWithPOWFeeAsync(int magic, ECPublicKey owner) {
+		return this.buildWithPOWFeeAsync(magic, owner, ProofOfWorkScheduler.getDefault(), Priority.INTERACTIVE);
+	}
+
+	/**
+	 * Builds the atom with its fee on a proof of work scheduler thread, queued behind the owner's other jobs.
+	 * Disposing removes the job from the queue or stops its search.
+	 */
+	public Single<UnsignedAtom> buildWithPOWFeeAsync(int magic, ECPublicKey owner, ProofOfWorkScheduler scheduler, Priority priority) {
+		return scheduler.schedule(owner, priority, cancelled -> this.buildWithPOWFee(magic, owner, cancelled));
+	}
+
+	/**
+	 * @param atomSize size in bytes of the DSON encoding of an atom, without its fee
+	 * @return number of leading zero bits the proof of work for the atom's fee needs
+	 */
+	public static int powLeading(int atomSize) {
+		return (int) Math.ceil(Math.log(atomSize * 8.0));
+	}
+
+	/**
+	 * @return size in bytes of the payload, to check against {@link #MAX_PAYLOAD_SIZE} before building
+	 */
+	public int getPayloadSize() {
+		return payloadRaw == null ? 0 : payloadRaw.length;
+	}
 
-		return this.build();
+	/**
+	 * Computes the size of the DSON encoding of the atom as it would be built now,
+	 * without encoding it. Unlike {@link #build()} the payload size is not checked.
+	 *
+	 * @return size in bytes of the atom without a fee
+	 */
+	public int estimateSize() {
+		return Dson.getInstance().sizeOf(this.buildAtom(particles, destinations));
+	}
+
+	/**
+	 * Computes the size of the DSON encoding of the atom as {@link #buildWithPOWFee(int, ECPublicKey)}
+	 * would build it, without encoding it or doing the proof of work.
+	 *
+	 * @param owner owner of the fee
+	 * @return size in bytes of the atom with its fee
+	 */
+	public int estimateSizeWithFee(ECPublicKey owner) {
+		// Every field of the fee but its owner is a fixed size
+		AtomFeeConsumable placeholder = new AtomFeeConsumable(1, Collections.singleton(owner.toECKeyPair()), 0, Asset.POW.getId());
+		List<Particle> withFee = new ArrayList<>(particles);
+		withFee.add(placeholder);
+		Set<EUID> withFeeDestinations = new HashSet<>(destinations);
+		withFeeDestinations.addAll(placeholder.getDestinations());
+		return Dson.getInstance().sizeOf(this.buildAtom(withFee, withFeeDestinations));
+	}
+
+	private Atom buildAtom(List<Particle> particles, Set<EUID> destinations) {
+		Objects.requireNonNull(atomClass);
+
+		final long timestamp = this.timestamp == null ? System.currentTimeMillis() : this.timestamp;
+		final Payload payload = this.payloadRaw == null ? this.payload : new Payload(this.payloadRaw);
+
+		if (TransactionAtom.class.isAssignableFrom(atomClass)) {
+			return new TransactionAtom(particles, destinations, payload, encryptor, timestamp);
+		} else if (ApplicationPayloadAtom.class.isAssignableFrom(atomClass)) {
+			final String applicationId = this.applicationId == null ? PLACEHOLDER_APPLICATION_ID : this.applicationId;
+			return new ApplicationPayloadAtom(applicationId, particles, destinations, payload, encryptor, timestamp);
+		} else {
+			throw new IllegalStateException("Unable to create atom with class: " + atomClass.getSimpleName());
+		}
 	}
 
 	public UnsignedAtom build() {
@@ -109,19 +212,11 @@ public class AtomBuilder {
 			throw new IllegalStateException("Payload must be under " + MAX_PAYLOAD_SIZE + " bytes but was " + payload.length());
 		}
 
-		final Atom atom;
-		if (TransactionAtom.class.isAssignableFrom(atomClass)) {
-			atom = new TransactionAtom(particles, destinations, payload, encryptor, this.timestamp);
-		} else if (ApplicationPayloadAtom.class.isAssignableFrom(atomClass)) {
-			// Temporary fix to allow payload atoms with no applicationId to still be submitted to network
-			if (applicationId == null) {
-				applicationId = UUID.randomUUID().toString();
-			}
-			atom = new ApplicationPayloadAtom(applicationId, particles, destinations, payload, encryptor, this.timestamp);
-		} else {
-			throw new IllegalStateException("Unable to create atom with class: " + atomClass.getSimpleName());
+		// Temporary fix to allow payload atoms with no applicationId to still be submitted to network
+		if (ApplicationPayloadAtom.class.isAssignableFrom(atomClass) && applicationId == null) {
+			applicationId = UUID.randomUUID().toString();
 		}
 
-		return new UnsignedAtom(atom);
+		return new UnsignedAtom(this.buildAtom(particles, destinations));
 	}
 }
@@ -5,6 +5,10 @@ import com.radixdlt.client.core.crypto.ECKeyPair;
 import java.util.Set;
 
 public class AtomFeeConsumable extends Consumable {
+	// Only for deserialization, which sets the fields directly
+	private AtomFeeConsumable() {
+	}
+
 	public AtomFeeConsumable(long quantity, Set<ECKeyPair> owners, long nonce, EUID assetId) {
 		super(quantity, owners, nonce, assetId);
 	}
@@ -4,14 +4,22 @@ import com.radixdlt.client.assets.Asset;
 import com.radixdlt.client.core.crypto.ECPublicKey;
 import com.radixdlt.client.core.pow.ProofOfWork;
 import com.radixdlt.client.core.pow.ProofOfWorkBuilder;
+import com.radixdlt.client.core.pow.ProofOfWorkEvent;
+import com.radixdlt.client.core.pow.ProofOfWorkScheduler;
+import com.radixdlt.client.core.pow.ProofOfWorkScheduler.Priority;
+import io.reactivex.Single;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 
 public class AtomFeeConsumableBuilder {
 	private ECPublicKey owner;
 	private int magic;
 	private int leading;
+	private int atomSize = ProofOfWorkEvent.UNKNOWN_ATOM_SIZE;
 	private UnsignedAtom unsignedAtom;
+	private ProofOfWorkBuilder powBuilder = new ProofOfWorkBuilder();
+	private BooleanSupplier cancelled = () -> false;
 
 	public AtomFeeConsumableBuilder pow(int magic, int leading) {
 		this.magic = magic;
@@ -19,6 +27,24 @@ public class AtomFeeConsumableBuilder {
 		return this;
 	}
 
+	/**
+	 * @param atomSize size in bytes of the atom, reported in proof of work metrics
+	 */
+	public AtomFeeConsumableBuilder atomSize(int atomSize) {
+		this.atomSize = atomSize;
+		return this;
+	}
+
+	public AtomFeeConsumableBuilder powBuilder(ProofOfWorkBuilder powBuilder) {
+		this.powBuilder = Objects.requireNonNull(powBuilder);
+		return this;
+	}
+
+	public AtomFeeConsumableBuilder cancelled(BooleanSupplier cancelled) {
+		this.cancelled = Objects.requireNonNull(cancelled);
+		return this;
+	}
+
 	public AtomFeeConsumableBuilder atom(UnsignedAtom atom) {
 		this.unsignedAtom = atom;
 		return this;
@@ -35,7 +61,7 @@ public class AtomFeeConsumableBuilder {
 
 		final byte[] seed = unsignedAtom.getRawAtom().getHash().toByteArray();
 
-		ProofOfWork pow = new ProofOfWorkBuilder().build(magic, seed, leading);
+		ProofOfWork pow = powBuilder.build(magic, seed, leading, atomSize, cancelled);
 
 		return new AtomFeeConsumable(
 			pow.getNonce(),
@@ -44,4 +70,14 @@ public class AtomFeeConsumableBuilder {
 			Asset.POW.getId()
 		);
 	}
+
+	/**
+	 * Builds the fee on a proof of work scheduler thread, queued behind the owner's other jobs.
+	 * Disposing removes the job from the queue or stops its search. Any {@link #cancelled(BooleanSupplier)}
+	 * flag is replaced by the scheduler's.
+	 */
+	public Single<AtomFeeConsumable> buildAsync(ProofOfWorkScheduler scheduler, Priority priority) {
+		Objects.requireNonNull(owner);
+		return scheduler.schedule(owner, priority, cancelled -> this.cancelled(cancelled).build());
+	}
 }
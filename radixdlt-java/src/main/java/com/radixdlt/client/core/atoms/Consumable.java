@@ -6,6 +6,10 @@ import java.util.Collections;
 import java.util.Set;
 
 public class Consumable extends AbstractConsumable {
+	// Only for deserialization, which sets the fields directly
+	Consumable() {
+	}
+
 	public Consumable(long quantity, ECKeyPair owner, long nonce, EUID assetId) {
 		super(quantity, Collections.singleton(owner), nonce, assetId);
 	}
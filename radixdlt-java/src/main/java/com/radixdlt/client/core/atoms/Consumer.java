@@ -7,6 +7,10 @@ import java.util.Map;
 import java.util.Set;
 
 public class Consumer extends AbstractConsumable {
+	// Only for deserialization, which sets the fields directly
+	private Consumer() {
+	}
+
 	public Consumer(long quantity, ECKeyPair owner, long nonce, EUID assetId) {
 		super(quantity, Collections.singleton(owner), nonce, assetId);
 	}
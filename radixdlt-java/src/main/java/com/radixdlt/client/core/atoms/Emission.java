@@ -5,6 +5,10 @@ import com.radixdlt.client.core.crypto.ECKeyPair;
 import java.util.Set;
 
 public class Emission extends Consumable {
+	// Only for deserialization, which sets the fields directly
+	private Emission() {
+	}
+
 	public Emission(long quantity, ECKeyPair owner, long nonce, EUID assetId) {
 		super(quantity, owner, nonce, assetId);
 	}
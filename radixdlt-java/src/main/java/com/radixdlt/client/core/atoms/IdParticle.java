@@ -10,6 +10,12 @@ public class IdParticle extends Particle {
 	private final String applicationId;
 	private final EUID uniqueId;
 
+	// Only for deserialization, which sets the fields directly
+	private IdParticle() {
+		this.applicationId = null;
+		this.uniqueId = null;
+	}
+
 	public IdParticle(String applicationId, EUID uniqueId, Set<EUID> destinations, Set<ECKeyPair> owners) {
 		super(destinations, owners);
 
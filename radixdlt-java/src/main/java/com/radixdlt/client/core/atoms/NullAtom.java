@@ -11,6 +11,11 @@ public class NullAtom extends Atom {
 	public static class JunkParticle extends Particle {
 		private final byte[] junk;
 
+		// Only for deserialization, which sets the fields directly
+		private JunkParticle() {
+			this.junk = null;
+		}
+
 		public JunkParticle(byte[] junk, Set<RadixAddress> owners) {
 			super(
 				owners.stream().map(RadixAddress::getUID).collect(Collectors.toSet()),
@@ -20,6 +25,10 @@ public class NullAtom extends Atom {
 		}
 	}
 
+	// Only for deserialization, which sets the fields directly
+	private NullAtom() {
+	}
+
 	NullAtom(Set<RadixAddress> owners, byte[] junk, long timestamp) {
 		super(
 			owners.stream().map(RadixAddress::getUID).collect(Collectors.toSet()),
@@ -5,6 +5,7 @@ import com.radixdlt.client.core.crypto.ECKeyPair;
 import com.radixdlt.client.core.crypto.ECPublicKey;
 import com.radixdlt.client.core.serialization.Dson;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -12,19 +13,30 @@ public abstract class Particle {
 	private final Set<EUID> destinations;
 	private final Set<ECKeyPair> owners;
 
+	/**
+	 * Lazily computed encodings, particles are immutable once built
+	 */
+	private transient volatile byte[] dson;
+	private transient volatile RadixHash hash;
+
 	Particle() {
 		this.destinations = null;
 		this.owners = null;
 	}
 
 	Particle(Set<EUID> destinations) {
-		this.destinations = destinations;
+		this.destinations = copyOf(destinations);
 		this.owners = null;
 	}
 
 	Particle(Set<EUID> destinations, Set<ECKeyPair> owners) {
-		this.destinations = destinations;
-		this.owners = owners;
+		this.destinations = copyOf(destinations);
+		this.owners = copyOf(owners);
+	}
+
+	// Insertion ordered copy so the DSON encoding, and so the hash, match the original set
+	private static <T> Set<T> copyOf(Set<T> set) {
+		return set == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(set));
 	}
 
 	public Set<EUID> getDestinations() {
@@ -64,11 +76,22 @@ public abstract class Particle {
 	}
 
 	public RadixHash getHash() {
-		return RadixHash.of(getDson());
+		RadixHash hash = this.hash;
+		if (hash == null) {
+			byte[] dson = this.dson;
+			hash = dson == null ? RadixHash.ofDson(this) : RadixHash.of(dson);
+			this.hash = hash;
+		}
+		return hash;
 	}
 
 	public byte[] getDson() {
-		return Dson.getInstance().toDson(this);
+		byte[] dson = this.dson;
+		if (dson == null) {
+			dson = Dson.getInstance().toDson(this);
+			this.dson = dson;
+		}
+		return dson.clone();
 	}
 
 	@Override
@@ -35,6 +35,16 @@ public class Payload implements Base64Encoded {
 		return Arrays.copyOf(payload, payload.length);
 	}
 
+	@Override
+	public int byteLength() {
+		return payload.length;
+	}
+
+	@Override
+	public void readBytes(BytesConsumer consumer) {
+		consumer.accept(payload, 0, payload.length);
+	}
+
 	public String toAscii() {
 		return new String(payload);
 	}
@@ -3,12 +3,18 @@ package com.radixdlt.client.core.atoms;
 import com.radixdlt.client.core.address.EUID;
 import com.radixdlt.client.core.crypto.ECSignature;
 import com.radixdlt.client.core.crypto.Encryptor;
+import com.radixdlt.client.core.serialization.Lazy;
 import java.util.List;
 import java.util.Set;
 
 public abstract class PayloadAtom extends Atom {
-	private final Payload encrypted;
-	private final Encryptor encryptor;
+	@Lazy
+	private Payload encrypted;
+	@Lazy
+	private Encryptor encryptor;
+
+	PayloadAtom() {
+	}
 
 	PayloadAtom(Set<EUID> destinations, Payload encrypted, long timestamp, EUID signatureId, ECSignature signature) {
 		super(destinations, timestamp, signatureId, signature);
@@ -50,10 +56,12 @@ public abstract class PayloadAtom extends Atom {
 	}
 
 	public Encryptor getEncryptor() {
+		decodeLazyFields();
 		return encryptor;
 	}
 
 	public Payload getPayload() {
+		decodeLazyFields();
 		return encrypted;
 	}
 }
@@ -3,9 +3,11 @@ package com.radixdlt.client.core.atoms;
 import com.radixdlt.client.core.address.EUID;
 import com.radixdlt.client.core.crypto.ECPublicKey;
 import com.radixdlt.client.core.crypto.ECSignature;
+import com.radixdlt.client.core.serialization.DsonWriter;
 import com.radixdlt.client.core.util.Hash;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import org.bouncycastle.util.encoders.Base64;
 
@@ -38,11 +40,32 @@ public class RadixHash {
 	}
 
 	public static RadixHash of(byte[] data) {
-		return new RadixHash(Hash.sha256(Hash.sha256(data)));
+		return new RadixHash(Hash.doubleSha256(data, 0, data.length));
 	}
 
 	public static RadixHash of(byte[] data, int offset, int length) {
-		return new RadixHash(Hash.sha256(Hash.sha256(data, offset, length)));
+		return new RadixHash(Hash.doubleSha256(data, offset, length));
+	}
+
+	/**
+	 * @param data buffer whose remaining bytes to hash, its position is left unchanged
+	 * @return hash of the remaining bytes
+	 */
+	public static RadixHash of(ByteBuffer data) {
+		return new RadixHash(Hash.doubleSha256(data));
+	}
+
+	/**
+	 * Hashes the DSON encoding of an object by streaming it straight into the digest,
+	 * without materialising the encoded bytes.
+	 *
+	 * @param o object to encode and hash
+	 * @return hash of the DSON encoding of the object
+	 */
+	public static RadixHash ofDson(Object o) {
+		MessageDigest messageDigest = Hash.sha256Digest();
+		DsonWriter.to(messageDigest).write(o);
+		return new RadixHash(Hash.sha256(messageDigest.digest()));
 	}
 
 	public static RadixHash sha512of(byte[] data) {
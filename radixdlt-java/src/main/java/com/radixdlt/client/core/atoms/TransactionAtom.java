@@ -12,6 +12,10 @@ import java.util.stream.Collectors;
 public class TransactionAtom extends PayloadAtom {
 	private final String operation = "TRANSFER";
 
+	// Only for deserialization, which sets the fields directly
+	private TransactionAtom() {
+	}
+
 	TransactionAtom(List<Particle> particles, Set<EUID> destinations, Payload payload, long timestamp) {
 		super(destinations, payload, particles, timestamp);
 	}
@@ -19,9 +19,10 @@ public class UnsignedAtom {
 
 	public Atom sign(ECSignature signature, EUID signatureId) {
 		// TODO: Remove need to create a new object
+		final Atom signed;
 		if (atom instanceof TransactionAtom) {
 			TransactionAtom unsigned = (TransactionAtom) atom;
-			return new TransactionAtom(
+			signed = new TransactionAtom(
 				unsigned.getParticles(),
 				unsigned.getDestinations(),
 				unsigned.getPayload(),
@@ -32,7 +33,7 @@ public class UnsignedAtom {
 			);
 		} else if (atom instanceof ApplicationPayloadAtom) {
 			ApplicationPayloadAtom unsigned = (ApplicationPayloadAtom) atom;
-			return new ApplicationPayloadAtom(
+			signed = new ApplicationPayloadAtom(
 				unsigned.getApplicationId(),
 				unsigned.getParticles(),
 				unsigned.getDestinations(),
@@ -45,5 +46,9 @@ public class UnsignedAtom {
 		} else {
 			throw new IllegalStateException("Cannot create signed atom");
 		}
+
+		// Signatures are not part of the DSON so the hash just signed over stays valid
+		signed.copyEncodingFrom(atom);
+		return signed;
 	}
 }
@@ -10,21 +10,21 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.math.BigInteger;
-import java.security.KeyFactory;
 import java.util.Arrays;
 import org.bouncycastle.crypto.params.ECDomainParameters;
-import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
-import org.bouncycastle.crypto.signers.ECDSASigner;
-import org.bouncycastle.jce.interfaces.ECPrivateKey;
-import org.bouncycastle.jce.spec.ECParameterSpec;
-import org.bouncycastle.jce.spec.ECPrivateKeySpec;
-import org.bouncycastle.jce.spec.ECPublicKeySpec;
 import org.bouncycastle.math.ec.ECPoint;
 
 public class ECKeyPair {
 	@SerializedName("public")
 	private final ECPublicKey publicKey;
 	private final transient byte[] privateKey;
+	private transient volatile ECSigner signer;
+
+	// Only for deserialization, which sets the fields directly
+	private ECKeyPair() {
+		this.publicKey = null;
+		this.privateKey = null;
+	}
 
 	public ECKeyPair(ECPublicKey publicKey) {
 		this.publicKey = publicKey;
@@ -39,30 +39,8 @@ public class ECKeyPair {
 	public ECKeyPair(byte[] privateKey) {
 		this.privateKey = Arrays.copyOf(privateKey, privateKey.length);
 
-		ECPrivateKey ecPrivateKey;
-		try {
-			ECDomainParameters domain = ECKeyPairGenerator.getDomain(((this.privateKey.length - 1) * 8));
-			ECPrivateKeySpec privateKeySpec = new ECPrivateKeySpec(
-				new BigInteger(1, this.privateKey),
-				new ECParameterSpec(domain.getCurve(), domain.getG(), domain.getN(), domain.getH())
-			);
-			ecPrivateKey = (ECPrivateKey) KeyFactory.getInstance("EC", "BC").generatePrivate(privateKeySpec);
-		} catch (Exception e) {
-			throw new RuntimeException(e.getMessage());
-		}
-
-		try {
-			ECDomainParameters domain = ECKeyPairGenerator.getDomain((this.privateKey.length - 1) * 8);
-			ECPublicKeySpec publicKeySpec = new ECPublicKeySpec(
-				domain.getG().multiply(ecPrivateKey.getD()),
-				new ECParameterSpec(domain.getCurve(), domain.getG(), domain.getN(), domain.getH())
-			);
-			this.publicKey = new ECPublicKey(
-				((org.bouncycastle.jce.interfaces.ECPublicKey) KeyFactory.getInstance("EC", "BC")
-					.generatePublic(publicKeySpec)).getQ().getEncoded(true));
-		} catch (Exception e) {
-			throw new RuntimeException(e.getMessage());
-		}
+		ECDomainParameters domain = ECKeyPairGenerator.getDomain((this.privateKey.length - 1) * 8);
+		this.publicKey = new ECPublicKey(ECSigner.publicPoint(this.privateKey, domain).getEncoded(true));
 	}
 
 	public static ECKeyPair fromFile(File file) throws IOException {
@@ -105,12 +83,13 @@ public class ECKeyPair {
 
 
 	public ECSignature sign(byte[] data) {
-		ECDomainParameters domain = ECKeyPairGenerator.getDomain((getPublicKey().length() - 1) * 8);
-		ECDSASigner signer = new ECDSASigner();
-		signer.init(true, new ECPrivateKeyParameters(new BigInteger(1, getPrivateKey()), domain));
-		BigInteger[] components = signer.generateSignature(data);
-		ECSignature signature = new ECSignature(components[0], components[1]);
-		return signature;
+		ECSigner signer = this.signer;
+		if (signer == null) {
+			ECDomainParameters domain = ECKeyPairGenerator.getDomain((getPublicKey().length() - 1) * 8);
+			signer = new ECSigner(getPrivateKey(), domain);
+			this.signer = signer;
+		}
+		return signer.sign(data);
 	}
 
 	public byte[] decrypt(byte[] data, EncryptedPrivateKey sharedKey) throws CryptoException {
@@ -143,7 +122,7 @@ public class ECKeyPair {
 			ECPublicKey ephemeral = new ECPublicKey(publicKeyRaw);
 
 			// 3. Do an EC point multiply with this.getPrivateKey() and ephemeral public key. This gives you a point M.
-			ECPoint m = ephemeral.getPublicPoint().multiply(new BigInteger(1, getPrivateKey())).normalize();
+			ECPoint m = ephemeral.decodePoint().multiply(new BigInteger(1, getPrivateKey())).normalize();
 
 			// 4. Use the X component of point M and calculate the SHA512 hash H.
 			byte[] h = RadixHash.sha512of(m.getXCoord().getEncoded()).toByteArray();
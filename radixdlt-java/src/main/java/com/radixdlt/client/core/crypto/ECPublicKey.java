@@ -6,6 +6,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Arrays;
@@ -27,9 +28,20 @@ import org.bouncycastle.crypto.params.ParametersWithIV;
 import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.math.ec.ECPoint;
 import com.radixdlt.client.core.util.Base64Encoded;
+import com.radixdlt.client.core.util.LruCache;
 
 public class ECPublicKey implements Base64Encoded {
+	/**
+	 * Decoded points of recently seen keys. Decoding a compressed key takes a square root on the
+	 * curve, and the same few counterparties sign most of the atoms we see. Sharing the point
+	 * instance also shares the multiplication tables BouncyCastle precomputes on it while verifying.
+	 */
+	private static final LruCache<ByteBuffer, ECPoint> POINTS = new LruCache<>(1024);
+
 	private final byte[] publicKey;
+	private transient volatile ECPoint point;
+	// Zero until first computed, like String's
+	private transient int hashCode;
 
 	public ECPublicKey(byte[] publicKey) {
 		this.publicKey = Arrays.copyOf(publicKey, publicKey.length);
@@ -53,6 +65,16 @@ public class ECPublicKey implements Base64Encoded {
 		return Arrays.copyOf(publicKey, publicKey.length);
 	}
 
+	@Override
+	public int byteLength() {
+		return publicKey.length;
+	}
+
+	@Override
+	public void readBytes(BytesConsumer consumer) {
+		consumer.accept(publicKey, 0, publicKey.length);
+	}
+
 	public EUID getUID() {
 		return RadixHash.of(publicKey).toEUID();
 	}
@@ -65,27 +87,37 @@ public class ECPublicKey implements Base64Encoded {
 		ECDomainParameters domain = ECKeyPairGenerator.getDomain((this.length() - 1) * 8);
 
 		ECDSASigner verifier = new ECDSASigner();
-		verifier.init(false, new ECPublicKeyParameters(domain.getCurve().decodePoint(publicKey), domain));
+		verifier.init(false, new ECPublicKeyParameters(getPublicPoint(), domain));
 
 		return verifier.verifySignature(data, signature.getR(), signature.getS());
 	}
 
+	/**
+	 * Hash code of the Base64 encoded key, kept as it was so that iteration order over hashed
+	 * collections of keys doesn't change. Only computed once.
+	 */
 	@Override
 	public int hashCode() {
-		// Slow but works for now
-		return base64().hashCode();
+		int hashCode = this.hashCode;
+		if (hashCode == 0) {
+			hashCode = base64().hashCode();
+			this.hashCode = hashCode;
+		}
+		return hashCode;
 	}
 
 	@Override
 	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
 		if (o == null || !(o instanceof ECPublicKey)) {
 			return false;
 		}
 
-		ECPublicKey publicKey = (ECPublicKey) o;
-
-		// Slow but works for now
-		return publicKey.base64().equals(this.base64());
+		ECPublicKey other = (ECPublicKey) o;
+		return Arrays.equals(this.publicKey, other.publicKey);
 	}
 
 	@Override
@@ -94,6 +126,19 @@ public class ECPublicKey implements Base64Encoded {
 	}
 
 	ECPoint getPublicPoint() {
+		ECPoint point = this.point;
+		if (point == null) {
+			// The key bytes are never modified so can back the cache key
+			point = POINTS.computeIfAbsent(ByteBuffer.wrap(publicKey), key -> decodePoint());
+			this.point = point;
+		}
+		return point;
+	}
+
+	/**
+	 * Decodes the point without going through the cache, for one-off keys such as ephemeral ones
+	 */
+	ECPoint decodePoint() {
 		int domainSize = this.publicKey[0] == 4 ? ((this.publicKey.length / 2) - 1) * 8 : (this.publicKey.length - 1) * 8;
 
 		ECDomainParameters domain = ECKeyPairGenerator.getDomain(domainSize);
@@ -102,7 +147,7 @@ public class ECPublicKey implements Base64Encoded {
 			throw new RuntimeException("Invalid domain key size " + ((this.publicKey.length - 1) * 8));
 		}
 
-		return domain.getCurve().decodePoint(this.publicKey);
+		return domain.getCurve().decodePoint(this.publicKey).normalize();
 	}
 
 	byte[] calculateMAC(byte[] salt, byte[] iv, ECPublicKey ephemeralPublicKey, byte[] encrypted) throws IOException {
@@ -7,6 +7,10 @@ public class ECSignature {
 	private byte[] r;
 	private byte[] s;
 
+	// Only for deserialization, which sets the fields directly
+	private ECSignature() {
+	}
+
 	public ECSignature(BigInteger r, BigInteger s) {
 		this.r = r.toByteArray();
 		this.s = s.toByteArray();
@@ -0,0 +1,39 @@
+package com.radixdlt.client.core.crypto;
+
+import java.math.BigInteger;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+
+/**
+ * Signs with a single private key, parsed once. k is derived from the key and the hash
+ * as in RFC 6979, so signing doesn't seed a new SecureRandom every time, and multiples of
+ * the generator use a comb table precomputed once per domain. Thread safe.
+ */
+final class ECSigner {
+	private final ECPrivateKeyParameters privateKey;
+
+	ECSigner(byte[] privateKey, ECDomainParameters domain) {
+		this.privateKey = new ECPrivateKeyParameters(new BigInteger(1, privateKey), domain);
+	}
+
+	/**
+	 * @return the public point of a private key
+	 */
+	static ECPoint publicPoint(byte[] privateKey, ECDomainParameters domain) {
+		// The comb table is cached on the domain's generator, so only the first multiply pays for it
+		return new FixedPointCombMultiplier().multiply(domain.getG(), new BigInteger(1, privateKey)).normalize();
+	}
+
+	ECSignature sign(byte[] hash) {
+		// ECDSASigner keeps the key between calls so isn't thread safe, but is cheap to create
+		ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+		signer.init(true, privateKey);
+		BigInteger[] components = signer.generateSignature(hash);
+		return new ECSignature(components[0], components[1]);
+	}
+}
@@ -20,4 +20,14 @@ public class EncryptedPrivateKey implements Base64Encoded {
 	public byte[] toByteArray() {
 		return Arrays.copyOf(encryptedPrivateKey, encryptedPrivateKey.length);
 	}
+
+	@Override
+	public int byteLength() {
+		return encryptedPrivateKey.length;
+	}
+
+	@Override
+	public void readBytes(BytesConsumer consumer) {
+		consumer.accept(encryptedPrivateKey, 0, encryptedPrivateKey.length);
+	}
 }
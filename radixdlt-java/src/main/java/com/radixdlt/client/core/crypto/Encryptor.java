@@ -6,6 +6,11 @@ import java.util.List;
 public class Encryptor {
 	private final List<EncryptedPrivateKey> protectors;
 
+	// Only for deserialization, which sets the fields directly
+	private Encryptor() {
+		this.protectors = null;
+	}
+
 	public Encryptor(List<EncryptedPrivateKey> protectors) {
 		this.protectors = new ArrayList<>(protectors);
 	}
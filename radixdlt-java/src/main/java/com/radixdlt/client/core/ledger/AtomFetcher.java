@@ -6,8 +6,11 @@ import com.radixdlt.client.core.atoms.AtomValidationException;
 import com.radixdlt.client.core.network.AtomQuery;
 import com.radixdlt.client.core.network.IncreasingRetryTimer;
 import com.radixdlt.client.core.network.RadixJsonRpcClient;
+import io.reactivex.Maybe;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,29 +26,79 @@ public class AtomFetcher {
 	 */
 	private final Function<Long, Single<RadixJsonRpcClient>> clientSelector;
 
+	/**
+	 * Where atoms are validated, off the thread which received them
+	 */
+	private final Scheduler validationScheduler;
+
+	/**
+	 * Maximum number of atoms of one address being validated at once
+	 */
+	private final int maxValidating;
+
+	/**
+	 * Whether addresses share subscriptions through {@link RadixJsonRpcClient#getAtomSubscriptions()}
+	 */
+	private final boolean multiplexed;
+
 	public AtomFetcher(Function<Long, Single<RadixJsonRpcClient>> clientSelector) {
+		this(clientSelector, Schedulers.computation(), Runtime.getRuntime().availableProcessors());
+	}
+
+	public AtomFetcher(Function<Long, Single<RadixJsonRpcClient>> clientSelector, Scheduler validationScheduler, int maxValidating) {
+		this(clientSelector, validationScheduler, maxValidating, false);
+	}
+
+	/**
+	 * @param multiplexed whether the addresses fetched from a node share a few multi destination
+	 * subscriptions rather than having one subscription each. Only for nodes known to accept multi destination
+	 * queries, a node which ignores the destinations of a query rather than answering with an error streams nothing.
+	 */
+	public AtomFetcher(Function<Long, Single<RadixJsonRpcClient>> clientSelector, Scheduler validationScheduler, int maxValidating,
+		boolean multiplexed) {
 		this.clientSelector = clientSelector;
+		this.validationScheduler = validationScheduler;
+		this.maxValidating = maxValidating;
+		this.multiplexed = multiplexed;
+	}
+
+	/**
+	 * Validates atoms in parallel on the validation scheduler, emitting the valid ones in the order received
+	 */
+	Observable<Atom> validate(Observable<Atom> atoms) {
+		return atoms.concatMapEager(atom -> validate(atom).toObservable(), maxValidating, Observable.bufferSize());
+	}
+
+	/**
+	 * Validates an atom on the validation scheduler
+	 *
+	 * @return the atom if valid, otherwise empty
+	 */
+	private Maybe<Atom> validate(Atom atom) {
+		return Maybe.fromCallable(() -> {
+			try {
+				RadixAtomValidator.getInstance().validate(atom);
+				return atom;
+			} catch (AtomValidationException e) {
+				// TODO: Stop stream and mark client as untrustable
+				LOGGER.error(e.toString());
+				return null;
+			}
+		}).subscribeOn(validationScheduler);
 	}
 
 	public Observable<Atom> fetchAtoms(RadixAddress address) {
 		final AtomQuery<Atom> atomQuery = new AtomQuery<>(address.getUID(), Atom.class);
 		return Observable.fromCallable(() -> clientSelector.apply(address.getUID().getShard()))
 			.flatMapSingle(c -> c)
-			.flatMap(client -> client.getAtoms(atomQuery))
+			.flatMap(client -> multiplexed
+				? client.getAtomSubscriptions().getAtoms(address.getUID())
+				: client.getAtoms(atomQuery))
 			.doOnError(throwable -> {
 				LOGGER.warn("Error on getAllAtoms: {}", address);
 			})
 			.retryWhen(new IncreasingRetryTimer())
-			.filter(atom -> {
-				try {
-					RadixAtomValidator.getInstance().validate(atom);
-					return true;
-				} catch (AtomValidationException e) {
-					// TODO: Stop stream and mark client as untrustable
-					LOGGER.error(e.toString());
-					return false;
-				}
-			})
+			.compose(this::validate)
 			.doOnSubscribe(atoms -> LOGGER.info("Atom Query Subscribe: address({})", address));
 	}
 }
@@ -1,9 +1,10 @@
 package com.radixdlt.client.core.ledger;
 
 import com.radixdlt.client.core.address.RadixUniverseConfig;
+import com.radixdlt.client.core.network.RadixClientPool;
+import com.radixdlt.client.core.network.RadixClientPool.Lane;
 import com.radixdlt.client.core.network.RadixJsonRpcClient;
 import com.radixdlt.client.core.network.RadixNetwork;
-import com.radixdlt.client.core.network.WebSocketClient.RadixClientStatus;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import java.util.Collections;
@@ -58,11 +59,37 @@ public class ClientSelector {
 	 * @return a cold observable of the first matching Radix client
 	 */
 	public Single<RadixJsonRpcClient> getRadixClient(Set<Long> shards) {
-		return this.radixNetwork.getRadixClients(shards)
+		return select(this.radixNetwork.getRadixClients(shards));
+	}
+
+	/**
+	 * Same as {@link #getRadixClient(Long)} but picking the least loaded connection of a lane of the peer
+	 *
+	 * @param shard a shards to find an intersection with
+	 * @param lane lane of the peer's connections to pick from
+	 * @return a cold observable of the first matching Radix client
+	 */
+	public Single<RadixJsonRpcClient> getRadixClient(Long shard, Lane lane) {
+		return getRadixClient(Collections.singleton(shard), lane);
+	}
+
+	/**
+	 * Same as {@link #getRadixClient(Set)} but picking the least loaded connection of a lane of the peer
+	 *
+	 * @param shards set of shards to find an intersection with
+	 * @param lane lane of the peer's connections to pick from
+	 * @return a cold observable of the first matching Radix client
+	 */
+	public Single<RadixJsonRpcClient> getRadixClient(Set<Long> shards, Lane lane) {
+		return select(this.radixNetwork.getRadixClients(shards, lane));
+	}
+
+	private Single<RadixJsonRpcClient> select(Observable<RadixJsonRpcClient> clients) {
+		// A peer's pool only hands out an unhealthy connection when none of the lane is healthy
+		return clients
 			.flatMapMaybe(client ->
 				client.getStatus()
-					.filter(status -> !status.equals(RadixClientStatus.FAILURE)
-						&& !status.equals(RadixClientStatus.CLOSING))
+					.filter(RadixClientPool::isHealthy)
 					.map(status -> client)
 					.firstOrError()
 					.toMaybe()
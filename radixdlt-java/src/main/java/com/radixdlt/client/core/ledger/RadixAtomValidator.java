@@ -7,13 +7,54 @@ import com.radixdlt.client.core.atoms.AtomValidator;
 import com.radixdlt.client.core.atoms.Consumer;
 import com.radixdlt.client.core.atoms.Particle;
 import com.radixdlt.client.core.atoms.RadixHash;
+import com.radixdlt.client.core.crypto.ECPublicKey;
 import com.radixdlt.client.core.crypto.ECSignature;
+import com.radixdlt.client.core.util.LruCache;
 import java.util.Objects;
 import java.util.Optional;
 
 public class RadixAtomValidator implements AtomValidator {
 	private static final RadixAtomValidator VALIDATOR = new RadixAtomValidator();
 
+	/**
+	 * A signature by a key over a hash, as checked by the validator
+	 */
+	private static final class SignatureCheck {
+		private final ECPublicKey publicKey;
+		private final RadixHash hash;
+		private final ECSignature signature;
+
+		private SignatureCheck(ECPublicKey publicKey, RadixHash hash, ECSignature signature) {
+			this.publicKey = publicKey;
+			this.hash = hash;
+			this.signature = signature;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(publicKey, hash, signature.getR(), signature.getS());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof SignatureCheck)) {
+				return false;
+			}
+
+			SignatureCheck other = (SignatureCheck) o;
+			return publicKey.equals(other.publicKey)
+				&& hash.equals(other.hash)
+				&& signature.getR().equals(other.signature.getR())
+				&& signature.getS().equals(other.signature.getS());
+		}
+	}
+
+	/**
+	 * Results of recent signature checks. The same atom arrives once per subscription and on
+	 * every resync, and an atom consuming several particles of one owner carries one signature for all.
+	 */
+	private final LruCache<SignatureCheck, Boolean> checkedSignatures = new LruCache<>(4096);
+
 	public static RadixAtomValidator getInstance() {
 		return VALIDATOR;
 	}
@@ -50,7 +91,7 @@ public class RadixAtomValidator implements AtomValidator {
 							return new AtomValidationException("Missing signature");
 						}
 
-						if (!hash.verifySelf(owner, signature.get())) {
+						if (!verify(owner, hash, signature.get())) {
 							return new AtomValidationException("Bad signature");
 						}
 
@@ -72,6 +113,13 @@ public class RadixAtomValidator implements AtomValidator {
 		}
 	}
 
+	private boolean verify(ECPublicKey owner, RadixHash hash, ECSignature signature) {
+		return checkedSignatures.computeIfAbsent(
+			new SignatureCheck(owner, hash, signature),
+			check -> hash.verifySelf(owner, signature)
+		);
+	}
+
 	public void validate(Atom atom) throws AtomValidationException {
 		// TODO: check with universe genesis timestamp
 		if (atom.getTimestamp() == null || atom.getTimestamp() == 0L) {
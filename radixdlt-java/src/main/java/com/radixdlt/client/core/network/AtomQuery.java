@@ -1,18 +1,33 @@
 package com.radixdlt.client.core.network;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.radixdlt.client.core.address.EUID;
 import com.radixdlt.client.core.atoms.Atom;
 import com.radixdlt.client.core.serialization.SerializedAtomType;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 
 public class AtomQuery<T extends Atom> {
-	private final EUID destination;
+	private final Set<EUID> destinations;
 	private final SerializedAtomType atomType;
 	private final Class<T> atomClass;
 
 	public AtomQuery(EUID destination, Class<T> atomClass) {
-		this.destination = destination;
+		this(Collections.singleton(destination), atomClass);
+	}
+
+	/**
+	 * Query for atoms with any of a number of destinations, in one subscription
+	 */
+	public AtomQuery(Set<EUID> destinations, Class<T> atomClass) {
+		if (destinations.isEmpty()) {
+			throw new IllegalArgumentException("Query must have at least one destination");
+		}
+
+		this.destinations = Collections.unmodifiableSet(new LinkedHashSet<>(destinations));
 		this.atomClass = atomClass;
 
 		if (atomClass == Atom.class) {
@@ -30,8 +45,18 @@ public class AtomQuery<T extends Atom> {
 		return Optional.ofNullable(atomType);
 	}
 
+	/**
+	 * @return the destination of a single destination query
+	 */
 	public EUID getDestination() {
-		return destination;
+		if (destinations.size() != 1) {
+			throw new IllegalStateException("Query has " + destinations.size() + " destinations");
+		}
+		return destinations.iterator().next();
+	}
+
+	public Set<EUID> getDestinations() {
+		return destinations;
 	}
 
 	public Class<T> getAtomClass() {
@@ -40,7 +65,13 @@ public class AtomQuery<T extends Atom> {
 
 	public JsonObject toJson() {
 		JsonObject query = new JsonObject();
-		query.addProperty("destination", destination.bigInteger());
+		if (destinations.size() == 1) {
+			query.addProperty("destination", getDestination().bigInteger());
+		} else {
+			JsonArray array = new JsonArray();
+			destinations.forEach(destination -> array.add(destination.bigInteger()));
+			query.add("destinations", array);
+		}
 
 		if (atomType != null) {
 			query.addProperty("atomSerializer", atomType.getSerializer());
@@ -0,0 +1,378 @@
+package com.radixdlt.client.core.network;
+
+import com.radixdlt.client.core.address.EUID;
+import com.radixdlt.client.core.atoms.Atom;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.CompositeDisposable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the atoms of many destinations through a few {@code Atoms.subscribe} subscriptions
+ * on one node, instead of one subscription per destination.
+ * <p>
+ * Destinations watched within a short window of each other are added together. Where the node
+ * can update a subscription they join one which has room, otherwise they are subscribed to as a
+ * new multi destination query. No subscription holds more than {@code maxDestinations}. Updates
+ * are only given up on once the node answers that it doesn't know the method, destinations which
+ * failed to join for any other reason are subscribed to anew.
+ * <p>
+ * Nodes which answer a multi destination query with an error before any of its atoms have been
+ * received are taken not to support them. Its destinations and all later ones then get a single
+ * destination subscription each, subscribed together so that they share batch frames where the
+ * client batches calls.
+ * <p>
+ * Each atom received is handed to the observers of those of its destinations which its
+ * subscription holds, looked up by destination rather than every observer filtering every atom.
+ * A destination no longer watched is removed from its subscription where the node can update it,
+ * otherwise its atoms are dropped until the rest of its subscription is no longer watched either.
+ */
+public final class AtomSubscriptions {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AtomSubscriptions.class);
+
+	private enum Support {
+		UNKNOWN,
+		SUPPORTED,
+		UNSUPPORTED
+	}
+
+	private static final class Stream {
+		private final String subscriberId;
+		// Only modified under lock, read by routing
+		private final Set<EUID> destinations = ConcurrentHashMap.newKeySet();
+		private final CompositeDisposable disposable = new CompositeDisposable();
+
+		private Stream(String subscriberId) {
+			this.subscriberId = subscriberId;
+		}
+	}
+
+	private static final class Watch {
+		private final ObservableEmitter<Atom> emitter;
+		// Null until the destination has been added to a subscription
+		private Stream stream;
+
+		private Watch(ObservableEmitter<Atom> emitter) {
+			this.emitter = emitter;
+		}
+	}
+
+	private final RadixJsonRpcClient client;
+	private final int maxDestinations;
+	private final long windowNanos;
+	private final Scheduler scheduler;
+
+	private final Map<EUID, Watch> watches = new ConcurrentHashMap<>();
+
+	private final Object lock = new Object();
+	private final List<Stream> streams = new ArrayList<>();
+	private final Set<EUID> pending = new LinkedHashSet<>();
+	private boolean flushScheduled;
+	private volatile Support updates = Support.UNKNOWN;
+	private volatile Support destinationsQuery = Support.UNKNOWN;
+
+	/**
+	 * @param client node to subscribe to
+	 * @param maxDestinations maximum number of destinations in one subscription
+	 * @param window how long newly watched destinations wait to be added together
+	 * @param unit unit of the window
+	 * @param scheduler where destinations are added once the window is over
+	 */
+	public AtomSubscriptions(RadixJsonRpcClient client, int maxDestinations, long window, TimeUnit unit, Scheduler scheduler) {
+		if (maxDestinations < 1) {
+			throw new IllegalArgumentException("Maximum destinations must be at least 1 but was " + maxDestinations);
+		}
+
+		this.client = client;
+		this.maxDestinations = maxDestinations;
+		this.windowNanos = unit.toNanos(window);
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Atoms of a destination, the same as {@link RadixJsonRpcClient#getAtoms(AtomQuery)} with a single
+	 * destination query. A destination which is already being watched gets a subscription of its own.
+	 *
+	 * @param destination destination to watch
+	 * @return atoms of the destination, failing if its subscription does
+	 */
+	public Observable<Atom> getAtoms(EUID destination) {
+		return Observable.create(emitter -> {
+			Watch watch = new Watch(emitter.serialize());
+			if (watch(destination, watch)) {
+				emitter.setCancellable(() -> unwatch(destination, watch));
+			} else {
+				emitter.setDisposable(
+					client.getAtoms(new AtomQuery<>(destination, Atom.class))
+						.subscribe(emitter::onNext, emitter::tryOnError, emitter::onComplete)
+				);
+			}
+		});
+	}
+
+	/**
+	 * @return number of destinations being watched
+	 */
+	public int getDestinations() {
+		return watches.size();
+	}
+
+	/**
+	 * @return number of subscriptions open on the node
+	 */
+	public int getSubscriptions() {
+		synchronized (lock) {
+			return streams.size();
+		}
+	}
+
+	private boolean watch(EUID destination, Watch watch) {
+		synchronized (lock) {
+			if (watches.putIfAbsent(destination, watch) != null) {
+				return false;
+			}
+
+			pending.add(destination);
+			if (!flushScheduled) {
+				flushScheduled = true;
+				scheduler.scheduleDirect(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+			}
+			return true;
+		}
+	}
+
+	private void unwatch(EUID destination, Watch watch) {
+		final Stream stream;
+		final boolean disposeStream;
+		synchronized (lock) {
+			if (!watches.remove(destination, watch)) {
+				return;
+			}
+			if (watch.stream == null) {
+				pending.remove(destination);
+				return;
+			}
+
+			stream = watch.stream;
+			stream.destinations.remove(destination);
+			disposeStream = stream.destinations.isEmpty();
+			if (disposeStream) {
+				streams.remove(stream);
+			}
+		}
+
+		if (disposeStream) {
+			stream.disposable.dispose();
+		} else if (updates == Support.SUPPORTED) {
+			stream.disposable.add(
+				client.updateAtomsSubscription(stream.subscriberId, Collections.emptyList(), Collections.singletonList(destination))
+					.subscribe(() -> { }, e -> LOGGER.warn(
+						"Could not remove {} from subscription: {}", destination, e.getMessage()
+					))
+			);
+		}
+	}
+
+	private void flush() {
+		final List<EUID> destinations;
+		synchronized (lock) {
+			flushScheduled = false;
+			destinations = new ArrayList<>(pending);
+			pending.clear();
+		}
+
+		add(destinations);
+	}
+
+	/**
+	 * Adds destinations to a subscription with room if the node may support updates, and the rest to new subscriptions
+	 */
+	private void add(List<EUID> destinations) {
+		int joined = 0;
+		if (updates != Support.UNSUPPORTED) {
+			final Stream stream;
+			final List<EUID> joining = new ArrayList<>();
+			synchronized (lock) {
+				stream = streams.stream()
+					.filter(s -> s.destinations.size() < maxDestinations)
+					.findFirst()
+					.orElse(null);
+				if (stream != null) {
+					final int room = maxDestinations - stream.destinations.size();
+					for (; joined < destinations.size() && joining.size() < room; joined++) {
+						EUID destination = destinations.get(joined);
+						Watch watch = watches.get(destination);
+						if (watch != null && watch.stream == null) {
+							watch.stream = stream;
+							joining.add(destination);
+						}
+					}
+					// Routed from now on, atoms of the joining destinations can't come any earlier
+					stream.destinations.addAll(joining);
+				}
+			}
+
+			if (!joining.isEmpty()) {
+				join(stream, joining);
+			}
+		}
+
+		subscribeAll(destinations.subList(joined, destinations.size()));
+	}
+
+	/**
+	 * Subscribes to destinations in new subscriptions of at most {@code maxDestinations}
+	 */
+	private void subscribeAll(List<EUID> destinations) {
+		for (int i = 0; i < destinations.size(); i += maxDestinations) {
+			subscribe(destinations.subList(i, Math.min(i + maxDestinations, destinations.size())));
+		}
+	}
+
+	private void join(Stream stream, List<EUID> joining) {
+		stream.disposable.add(
+			client.updateAtomsSubscription(stream.subscriberId, joining, Collections.emptyList()).subscribe(
+				() -> updates = Support.SUPPORTED,
+				e -> joinFailed(stream, joining, e)
+			)
+		);
+	}
+
+	private void joinFailed(Stream stream, List<EUID> joining, Throwable error) {
+		if (error instanceof JsonRpcException && ((JsonRpcException) error).getCode() == RadixJsonRpcClient.METHOD_NOT_FOUND) {
+			if (updates != Support.UNSUPPORTED) {
+				LOGGER.info("Node can't update subscriptions, subscribing in batches instead: {}", error.getMessage());
+			}
+			updates = Support.UNSUPPORTED;
+		} else {
+			LOGGER.warn("Could not add {} destinations to subscription, subscribing anew: {}", joining.size(), error.getMessage());
+		}
+
+		final List<EUID> retry = new ArrayList<>();
+		synchronized (lock) {
+			for (EUID destination : joining) {
+				Watch watch = watches.get(destination);
+				if (watch != null && watch.stream == stream) {
+					watch.stream = null;
+					stream.destinations.remove(destination);
+					retry.add(destination);
+				}
+			}
+		}
+		// Not joined again, a failing update would only fail again
+		subscribeAll(retry);
+	}
+
+	private void subscribe(List<EUID> destinations) {
+		if (destinations.size() > 1 && destinationsQuery == Support.UNSUPPORTED) {
+			destinations.forEach(destination -> subscribe(Collections.singletonList(destination)));
+			return;
+		}
+
+		final Stream stream = new Stream(client.newSubscriberId());
+		synchronized (lock) {
+			for (EUID destination : destinations) {
+				Watch watch = watches.get(destination);
+				// Skip those unwatched since being taken off pending
+				if (watch != null && watch.stream == null) {
+					watch.stream = stream;
+					stream.destinations.add(destination);
+				}
+			}
+			if (stream.destinations.isEmpty()) {
+				return;
+			}
+			streams.add(stream);
+		}
+
+		AtomQuery<Atom> atomQuery = new AtomQuery<>(new LinkedHashSet<>(stream.destinations), Atom.class);
+		if (atomQuery.getDestinations().size() == 1) {
+			stream.disposable.add(
+				client.getAtoms(atomQuery, stream.subscriberId).subscribe(atom -> route(stream, atom), e -> fail(stream, e))
+			);
+			return;
+		}
+
+		stream.disposable.add(
+			client.getAtoms(atomQuery, stream.subscriberId).subscribe(
+				atom -> {
+					if (destinationsQuery == Support.UNKNOWN) {
+						destinationsQuery = Support.SUPPORTED;
+					}
+					route(stream, atom);
+				},
+				e -> {
+					if (e instanceof JsonRpcException && destinationsQuery != Support.SUPPORTED) {
+						resubscribeOneByOne(stream, e);
+					} else {
+						fail(stream, e);
+					}
+				}
+			)
+		);
+	}
+
+	/**
+	 * Falls back to single destination subscriptions for the destinations of a multi destination
+	 * subscription the node answered with an error
+	 */
+	private void resubscribeOneByOne(Stream stream, Throwable error) {
+		if (destinationsQuery != Support.UNSUPPORTED) {
+			LOGGER.info("Node can't subscribe to many destinations at once, subscribing one by one: {}", error.getMessage());
+		}
+		destinationsQuery = Support.UNSUPPORTED;
+
+		final List<EUID> resubscribe = new ArrayList<>();
+		synchronized (lock) {
+			streams.remove(stream);
+			for (EUID destination : stream.destinations) {
+				Watch watch = watches.get(destination);
+				if (watch != null && watch.stream == stream) {
+					watch.stream = null;
+					resubscribe.add(destination);
+				}
+			}
+			stream.destinations.clear();
+		}
+		stream.disposable.dispose();
+
+		subscribe(resubscribe);
+	}
+
+	private void route(Stream stream, Atom atom) {
+		for (EUID destination : atom.getDestinations()) {
+			if (stream.destinations.contains(destination)) {
+				Watch watch = watches.get(destination);
+				if (watch != null) {
+					watch.emitter.onNext(atom);
+				}
+			}
+		}
+	}
+
+	private void fail(Stream stream, Throwable error) {
+		final List<Watch> failed = new ArrayList<>();
+		synchronized (lock) {
+			streams.remove(stream);
+			for (EUID destination : stream.destinations) {
+				Watch watch = watches.get(destination);
+				if (watch != null && watch.stream == stream && watches.remove(destination, watch)) {
+					failed.add(watch);
+				}
+			}
+			stream.destinations.clear();
+		}
+
+		failed.forEach(watch -> watch.emitter.tryOnError(error));
+	}
+}
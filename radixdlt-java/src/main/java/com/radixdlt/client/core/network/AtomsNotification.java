@@ -0,0 +1,18 @@
+package com.radixdlt.client.core.network;
+
+import com.radixdlt.client.core.atoms.Atom;
+import java.util.List;
+
+/**
+ * A notification carrying atoms, routed by its subscriber id without going through a JSON tree
+ */
+interface AtomsNotification {
+	String getMethod();
+
+	String getSubscriberId();
+
+	/**
+	 * @return the atoms of the notification which are of a class
+	 */
+	<T extends Atom> List<T> getAtoms(Class<T> atomClass);
+}
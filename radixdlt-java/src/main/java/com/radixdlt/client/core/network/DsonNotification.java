@@ -0,0 +1,96 @@
+package com.radixdlt.client.core.network;
+
+import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.serialization.DsonReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import okio.ByteString;
+
+/**
+ * A JSON-RPC notification pushed by a node as a binary DSON frame. The frame mirrors
+ * the JSON notification: an object with a "method" and "params", where params holds the
+ * "subscriberId" and the "atoms" of the update.
+ * <p>
+ * Only the routing fields are read up front, atoms are decoded by the subscriber the
+ * notification is meant for.
+ */
+final class DsonNotification implements AtomsNotification {
+	private final String method;
+	private final String subscriberId;
+	private final ByteBuffer frame;
+	private final int atomsPosition;
+
+	private DsonNotification(String method, String subscriberId, ByteBuffer frame, int atomsPosition) {
+		this.method = method;
+		this.subscriberId = subscriberId;
+		this.frame = frame;
+		this.atomsPosition = atomsPosition;
+	}
+
+	static DsonNotification parse(ByteString bytes) {
+		final ByteBuffer frame = ByteBuffer.wrap(bytes.toByteArray());
+		final DsonReader reader = DsonReader.of(frame);
+
+		String method = null;
+		String subscriberId = null;
+		int atomsPosition = -1;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			if (name.equals("method")) {
+				method = reader.readString();
+			} else if (name.equals("params")) {
+				reader.beginObject();
+				while (reader.hasNext()) {
+					String param = reader.nextName();
+					if (param.equals("subscriberId")) {
+						subscriberId = reader.readString();
+					} else if (param.equals("atoms")) {
+						atomsPosition = reader.position();
+						reader.skipValue();
+					} else {
+						reader.skipValue();
+					}
+				}
+				reader.endObject();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new DsonNotification(method, subscriberId, frame, atomsPosition);
+	}
+
+	@Override
+	public String getMethod() {
+		return method;
+	}
+
+	@Override
+	public String getSubscriberId() {
+		return subscriberId;
+	}
+
+	@Override
+	public <T extends Atom> List<T> getAtoms(Class<T> atomClass) {
+		if (atomsPosition < 0) {
+			return Collections.emptyList();
+		}
+
+		final ByteBuffer atoms = frame.duplicate();
+		atoms.position(atomsPosition);
+		final DsonReader reader = DsonReader.of(atoms);
+
+		final List<T> result = new ArrayList<>();
+		reader.beginArray();
+		while (reader.hasNext()) {
+			result.add(reader.read(atomClass));
+		}
+		reader.endArray();
+		return result;
+	}
+}
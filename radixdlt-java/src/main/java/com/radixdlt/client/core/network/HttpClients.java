@@ -1,12 +1,16 @@
 package com.radixdlt.client.core.network;
 
 import io.reactivex.Single;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import javax.net.SocketFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
@@ -27,6 +31,44 @@ public class HttpClients {
 	 */
 	private static OkHttpClient sslAllTrustingClient;
 
+	/**
+	 * Creates sockets with Nagle's algorithm turned off. JSON-RPC requests are small frames
+	 * sent back to back, which would otherwise wait on the node's delayed acknowledgements.
+	 */
+	private static final class NoDelaySocketFactory extends SocketFactory {
+		private final SocketFactory delegate = SocketFactory.getDefault();
+
+		private static Socket noDelay(Socket socket) throws IOException {
+			socket.setTcpNoDelay(true);
+			return socket;
+		}
+
+		@Override
+		public Socket createSocket() throws IOException {
+			return noDelay(delegate.createSocket());
+		}
+
+		@Override
+		public Socket createSocket(String host, int port) throws IOException {
+			return noDelay(delegate.createSocket(host, port));
+		}
+
+		@Override
+		public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+			return noDelay(delegate.createSocket(host, port, localHost, localPort));
+		}
+
+		@Override
+		public Socket createSocket(InetAddress host, int port) throws IOException {
+			return noDelay(delegate.createSocket(host, port));
+		}
+
+		@Override
+		public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+			return noDelay(delegate.createSocket(address, port, localAddress, localPort));
+		}
+	}
+
 	private static OkHttpClient createClient(BiFunction<X509Certificate[], String, Single<Boolean>> trustManager) {
 		// TODO: Pass trust issue to user
 		// Create a trust manager that does not validate certificate chains
@@ -61,6 +103,7 @@ public class HttpClients {
 			final SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
 
 			OkHttpClient.Builder builder = new OkHttpClient.Builder();
+			builder.socketFactory(new NoDelaySocketFactory());
 			builder.sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0]);
 			builder.hostnameVerifier((hostname, session) -> hostname.equals(session.getPeerHost()));
 
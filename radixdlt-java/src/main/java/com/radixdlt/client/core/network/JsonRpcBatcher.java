@@ -0,0 +1,149 @@
+package com.radixdlt.client.core.network;
+
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces the requests of one connection into JSON-RPC 2.0 batch frames, following a
+ * {@link JsonRpcBatching}. Once the node has rejected a batch every request is sent on its own,
+ * including those of earlier batches which are still waiting for a response. Once the node has
+ * answered a call of a batch it is known to support them and batches are never given up on.
+ */
+final class JsonRpcBatcher {
+	private static final Logger LOGGER = LoggerFactory.getLogger(JsonRpcBatcher.class);
+
+	private final JsonRpcBatching batching;
+	private final Scheduler scheduler;
+	private final Predicate<String> send;
+	private final Predicate<String> pending;
+	private final BiConsumer<String, Throwable> failed;
+
+	// Requests by id, waiting to be sent
+	private final Map<String, String> queued = new LinkedHashMap<>();
+	// Requests by id which went out in a batch and may still be waiting for a response
+	private final Map<String, String> batched = new HashMap<>();
+	private Disposable window;
+	private boolean rejected;
+	private boolean supported;
+
+	/**
+	 * @param send sends a frame, returning false if it could not be sent
+	 * @param pending whether the call with an id is still waiting for its response
+	 * @param failed fails the call with an id
+	 */
+	JsonRpcBatcher(JsonRpcBatching batching, Scheduler scheduler, Predicate<String> send, Predicate<String> pending,
+		BiConsumer<String, Throwable> failed) {
+		this.batching = batching;
+		this.scheduler = scheduler;
+		this.send = send;
+		this.pending = pending;
+		this.failed = failed;
+	}
+
+	/**
+	 * Queues a request to go out in the next batch.
+	 *
+	 * @return false if the request could not be sent, if it was sent straight away
+	 */
+	synchronized boolean send(String id, String request) {
+		if (rejected || !batching.isEnabled()) {
+			return send.test(request);
+		}
+
+		queued.put(id, request);
+		if (queued.size() >= batching.getMaxCalls()) {
+			flush();
+		} else if (window == null) {
+			window = scheduler.scheduleDirect(this::windowClosed, batching.getWindowNanos(), TimeUnit.NANOSECONDS);
+		}
+		return true;
+	}
+
+	/**
+	 * Called when the node answers a call, which shows batches are supported if the call went out in one
+	 *
+	 * @param id id of the call answered
+	 */
+	synchronized void answered(String id) {
+		if (!supported && batching.isEnabled() && batched.containsKey(id)) {
+			supported = true;
+			batched.clear();
+		}
+	}
+
+	/**
+	 * Called when the node answers with an invalid request or parse error which isn't for any call,
+	 * taken to mean it doesn't support batches if no batch sent so far has been answered and one is
+	 * still waiting. Sends every request of earlier batches still waiting for a response on its own.
+	 */
+	synchronized void rejected() {
+		if (rejected || supported || batched.keySet().stream().noneMatch(pending)) {
+			return;
+		}
+
+		LOGGER.warn("Node rejected a batch of {} calls, sending calls one by one from now", batched.size());
+		rejected = true;
+		Map<String, String> resend = new LinkedHashMap<>(batched);
+		resend.putAll(queued);
+		batched.clear();
+		queued.clear();
+		cancelWindow();
+
+		resend.forEach((id, request) -> {
+			if (pending.test(id) && !send.test(request)) {
+				failed.accept(id, new RuntimeException("Could not connect."));
+			}
+		});
+	}
+
+	private synchronized void windowClosed() {
+		window = null;
+		flush();
+	}
+
+	private void flush() {
+		cancelWindow();
+		// Calls disposed of while queued needn't be sent
+		queued.keySet().removeIf(id -> !pending.test(id));
+		if (queued.isEmpty()) {
+			return;
+		}
+
+		// Forget the earlier batches which have all been answered
+		batched.keySet().removeIf(id -> !pending.test(id));
+
+		final String frame;
+		if (queued.size() == 1) {
+			frame = queued.values().iterator().next();
+		} else {
+			frame = "[" + String.join(",", queued.values()) + "]";
+			// Only needed for resending until the node is known to support batches
+			if (!supported) {
+				batched.putAll(queued);
+			}
+		}
+
+		List<String> ids = new ArrayList<>(queued.keySet());
+		queued.clear();
+		if (!send.test(frame)) {
+			ids.forEach(id -> failed.accept(id, new RuntimeException("Could not connect.")));
+		}
+	}
+
+	private void cancelWindow() {
+		if (window != null) {
+			window.dispose();
+			window = null;
+		}
+	}
+}
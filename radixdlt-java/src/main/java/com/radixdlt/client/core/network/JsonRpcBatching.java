@@ -0,0 +1,55 @@
+package com.radixdlt.client.core.network;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whether and how a connection coalesces JSON-RPC calls into JSON-RPC 2.0 batch arrays.
+ * Calls are held back for up to a window after the first one, or until enough have been
+ * made, and are then sent in one frame.
+ * <p>
+ * If the node answers with an error which isn't for any call, as nodes which don't support
+ * batches do, batching is turned off for the connection and the calls are sent again one by one.
+ */
+public final class JsonRpcBatching {
+	private static final JsonRpcBatching NONE = new JsonRpcBatching(1, 0);
+
+	private final int maxCalls;
+	private final long windowNanos;
+
+	private JsonRpcBatching(int maxCalls, long windowNanos) {
+		this.maxCalls = maxCalls;
+		this.windowNanos = windowNanos;
+	}
+
+	/**
+	 * @return every call sent in its own frame
+	 */
+	public static JsonRpcBatching none() {
+		return NONE;
+	}
+
+	/**
+	 * @param maxCalls most calls in one batch, a full batch is sent straight away
+	 * @param window longest a call waits for others to join its batch
+	 * @param unit unit of the window
+	 */
+	public static JsonRpcBatching of(int maxCalls, long window, TimeUnit unit) {
+		if (maxCalls < 1 || window < 0) {
+			throw new IllegalArgumentException("Max calls must be at least 1 and window not negative but were "
+				+ maxCalls + " and " + window);
+		}
+		return new JsonRpcBatching(maxCalls, unit.toNanos(window));
+	}
+
+	public boolean isEnabled() {
+		return maxCalls > 1 && windowNanos > 0;
+	}
+
+	public int getMaxCalls() {
+		return maxCalls;
+	}
+
+	public long getWindowNanos() {
+		return windowNanos;
+	}
+}
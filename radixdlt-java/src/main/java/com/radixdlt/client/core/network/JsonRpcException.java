@@ -0,0 +1,22 @@
+package com.radixdlt.client.core.network;
+
+/**
+ * An error a node answered a JSON-RPC call with
+ */
+public class JsonRpcException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	private final int code;
+
+	public JsonRpcException(int code, String message) {
+		super(message);
+		this.code = code;
+	}
+
+	/**
+	 * @return the JSON-RPC error code, 0 if the node sent none
+	 */
+	public int getCode() {
+		return code;
+	}
+}
@@ -0,0 +1,132 @@
+package com.radixdlt.client.core.network;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.serialization.RadixJson;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the JSON-RPC messages of a text frame, more than one if it answers a batch.
+ * <p>
+ * Frames are streamed rather than parsed into a tree. The "atoms" of a notification are kept
+ * as JSON text and the notification is handed on as an {@link AtomsNotification}, whose atoms
+ * are decoded by the subscriber it is meant for, just like a {@link DsonNotification}. An atom
+ * which can't be decoded so only fails its own subscriber rather than every call on the
+ * connection. Every other message still becomes a {@link JsonObject}, as responses and other
+ * notifications are read as trees by whoever is waiting for them.
+ */
+final class JsonRpcFrames {
+	private static final TypeAdapter<JsonElement> ELEMENT_ADAPTER = RadixJson.getGson().getAdapter(JsonElement.class);
+
+	private static final class JsonAtomsNotification implements AtomsNotification {
+		private final String method;
+		private final String subscriberId;
+		// JSON text of the atoms array
+		private final String atoms;
+
+		private JsonAtomsNotification(String method, String subscriberId, String atoms) {
+			this.method = method;
+			this.subscriberId = subscriberId;
+			this.atoms = atoms;
+		}
+
+		@Override
+		public String getMethod() {
+			return method;
+		}
+
+		@Override
+		public String getSubscriberId() {
+			return subscriberId;
+		}
+
+		@Override
+		public <T extends Atom> List<T> getAtoms(Class<T> atomClass) {
+			final TypeAdapter<T> adapter = RadixJson.getGson().getAdapter(atomClass);
+			final JsonReader in = new JsonReader(new StringReader(atoms));
+			final List<T> result = new ArrayList<>();
+			try {
+				in.beginArray();
+				while (in.hasNext()) {
+					result.add(adapter.read(in));
+				}
+				in.endArray();
+			} catch (IOException e) {
+				throw new JsonParseException(e);
+			}
+			return result;
+		}
+	}
+
+	private JsonRpcFrames() {
+	}
+
+	/**
+	 * @param frame text of the frame
+	 * @return the messages of the frame, each either a {@link JsonObject} or an {@link AtomsNotification}
+	 */
+	static List<Object> parse(String frame) throws IOException {
+		final JsonReader in = new JsonReader(new StringReader(frame));
+		in.setLenient(true);
+
+		if (in.peek() != JsonToken.BEGIN_ARRAY) {
+			return Collections.singletonList(readMessage(in));
+		}
+
+		final List<Object> messages = new ArrayList<>();
+		in.beginArray();
+		while (in.hasNext()) {
+			messages.add(readMessage(in));
+		}
+		in.endArray();
+		return messages;
+	}
+
+	private static Object readMessage(JsonReader in) throws IOException {
+		final JsonObject message = new JsonObject();
+		String method = null;
+		String subscriberId = null;
+		String atoms = null;
+
+		in.beginObject();
+		while (in.hasNext()) {
+			final String name = in.nextName();
+			if (name.equals("params") && in.peek() == JsonToken.BEGIN_OBJECT) {
+				final JsonObject params = new JsonObject();
+				in.beginObject();
+				while (in.hasNext()) {
+					final String param = in.nextName();
+					if (param.equals("atoms") && in.peek() == JsonToken.BEGIN_ARRAY) {
+						atoms = RadixJson.readRawValue(in);
+					} else {
+						final JsonElement value = ELEMENT_ADAPTER.read(in);
+						if (param.equals("subscriberId") && value.isJsonPrimitive()) {
+							subscriberId = value.getAsString();
+						}
+						params.add(param, value);
+					}
+				}
+				in.endObject();
+				message.add(name, params);
+			} else {
+				final JsonElement value = ELEMENT_ADAPTER.read(in);
+				if (name.equals("method") && value.isJsonPrimitive()) {
+					method = value.getAsString();
+				}
+				message.add(name, value);
+			}
+		}
+		in.endObject();
+
+		return atoms != null ? new JsonAtomsNotification(method, subscriberId, atoms) : message;
+	}
+}
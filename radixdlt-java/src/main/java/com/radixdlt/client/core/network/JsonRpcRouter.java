@@ -0,0 +1,216 @@
+package com.radixdlt.client.core.network;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.Single;
+import io.reactivex.SingleEmitter;
+import io.reactivex.disposables.Disposable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Routes the messages of one connection to whoever is waiting for them, responses by their
+ * JSON-RPC id and notifications by their subscriber id. Each message is looked up once instead
+ * of being tested by every outstanding call and subscription. Notifications carrying atoms,
+ * whether JSON or binary, come separately with their atoms already picked out of the frame.
+ * <p>
+ * The router only listens to the connection while a call or subscription is registered.
+ * If the connection fails every call and subscription fails with it.
+ */
+final class JsonRpcRouter {
+	private final Observable<JsonObject> messages;
+	private final Observable<AtomsNotification> atomMessages;
+
+	private final Map<String, SingleEmitter<JsonObject>> calls = new ConcurrentHashMap<>();
+	private final Map<String, ObservableEmitter<JsonObject>> subscribers = new ConcurrentHashMap<>();
+	private final Map<String, ObservableEmitter<AtomsNotification>> atomSubscribers = new ConcurrentHashMap<>();
+
+	private final Object lock = new Object();
+	private Disposable connection;
+	private Disposable atomConnection;
+
+	JsonRpcRouter(Observable<JsonObject> messages, Observable<AtomsNotification> atomMessages) {
+		this.messages = messages;
+		this.atomMessages = atomMessages;
+	}
+
+	/**
+	 * Waits for the response to a call, registering for it before the request is sent.
+	 *
+	 * @param id JSON-RPC id of the request
+	 * @param send sends the request, returning false if it could not be sent
+	 * @return the response message
+	 */
+	Single<JsonObject> call(String id, BooleanSupplier send) {
+		return Single.create(emitter -> {
+			register(calls, id, emitter);
+			emitter.setCancellable(() -> unregister(calls, id, emitter));
+			if (!send.getAsBoolean()) {
+				emitter.tryOnError(new RuntimeException("Could not connect."));
+			}
+		});
+	}
+
+	/**
+	 * @param subscriberId subscriber id the notifications are for
+	 * @return notification messages for the subscriber, of whichever method
+	 */
+	Observable<JsonObject> notifications(String subscriberId) {
+		return Observable.create(emitter -> {
+			register(subscribers, subscriberId, emitter);
+			emitter.setCancellable(() -> unregister(subscribers, subscriberId, emitter));
+		});
+	}
+
+	/**
+	 * @param subscriberId subscriber id the notifications are for
+	 * @return notifications carrying atoms for the subscriber, of whichever method
+	 */
+	Observable<AtomsNotification> atomNotifications(String subscriberId) {
+		return Observable.create(emitter -> {
+			register(atomSubscribers, subscriberId, emitter);
+			emitter.setCancellable(() -> unregister(atomSubscribers, subscriberId, emitter));
+		});
+	}
+
+	/**
+	 * @return whether the call with this id is still waiting for its response
+	 */
+	boolean isPending(String id) {
+		return calls.containsKey(id);
+	}
+
+	/**
+	 * Fails a call still waiting for its response, for when its request could not be sent after all
+	 */
+	void failCall(String id, Throwable error) {
+		SingleEmitter<JsonObject> call = calls.get(id);
+		if (call != null) {
+			call.tryOnError(error);
+		}
+	}
+
+	/**
+	 * @return number of calls still waiting for their response
+	 */
+	int getPendingCalls() {
+		return calls.size();
+	}
+
+	/**
+	 * @return number of subscribers waiting for notifications, with or without atoms
+	 */
+	int getSubscriptions() {
+		return subscribers.size() + atomSubscribers.size();
+	}
+
+	private <T> void register(Map<String, T> emitters, String id, T emitter) {
+		if (emitters.putIfAbsent(id, emitter) != null) {
+			throw new IllegalStateException("Already routing messages for " + id);
+		}
+
+		synchronized (lock) {
+			// Also disposed if the messages ended while being subscribed to
+			if (connection == null || connection.isDisposed()) {
+				if (atomConnection != null) {
+					atomConnection.dispose();
+				}
+				connection = messages.subscribe(this::route, this::fail, this::closed);
+				atomConnection = atomMessages.subscribe(this::route, this::fail);
+			}
+		}
+	}
+
+	private <T> void unregister(Map<String, T> emitters, String id, T emitter) {
+		if (emitters.remove(id, emitter)) {
+			disconnectIfIdle();
+		}
+	}
+
+	private void disconnectIfIdle() {
+		synchronized (lock) {
+			if (connection != null && calls.isEmpty() && subscribers.isEmpty() && atomSubscribers.isEmpty()) {
+				connection.dispose();
+				atomConnection.dispose();
+				connection = null;
+				atomConnection = null;
+			}
+		}
+	}
+
+	private void route(JsonObject message) {
+		JsonElement id = message.get("id");
+		if (id != null && !id.isJsonNull()) {
+			// Unregistered before succeeding so that the call is no longer counted once it has
+			SingleEmitter<JsonObject> call = calls.remove(id.getAsString());
+			if (call != null) {
+				disconnectIfIdle();
+				call.onSuccess(message);
+			}
+			return;
+		}
+
+		JsonElement params = message.get("params");
+		if (params == null || !params.isJsonObject()) {
+			return;
+		}
+		JsonElement subscriberId = params.getAsJsonObject().get("subscriberId");
+		if (subscriberId == null || subscriberId.isJsonNull()) {
+			return;
+		}
+		ObservableEmitter<JsonObject> subscriber = subscribers.get(subscriberId.getAsString());
+		if (subscriber != null) {
+			subscriber.onNext(message);
+		}
+	}
+
+	private void route(AtomsNotification notification) {
+		ObservableEmitter<AtomsNotification> subscriber = atomSubscribers.get(notification.getSubscriberId());
+		if (subscriber != null) {
+			subscriber.onNext(notification);
+		}
+	}
+
+	private void fail(Throwable error) {
+		disconnect();
+
+		List<SingleEmitter<JsonObject>> failedCalls = new ArrayList<>(calls.values());
+		List<ObservableEmitter<JsonObject>> failedSubscribers = new ArrayList<>(subscribers.values());
+		List<ObservableEmitter<AtomsNotification>> failedAtomSubscribers = new ArrayList<>(atomSubscribers.values());
+		calls.clear();
+		subscribers.clear();
+		atomSubscribers.clear();
+
+		failedCalls.forEach(call -> call.tryOnError(new RuntimeException(error.getMessage())));
+		failedSubscribers.forEach(subscriber -> subscriber.tryOnError(error));
+		failedAtomSubscribers.forEach(subscriber -> subscriber.tryOnError(error));
+	}
+
+	/**
+	 * No more responses can come once the messages complete. Subscriptions are left waiting,
+	 * as the notifications of a subscription never complete either.
+	 */
+	private void closed() {
+		disconnect();
+
+		List<SingleEmitter<JsonObject>> failedCalls = new ArrayList<>(calls.values());
+		calls.clear();
+		failedCalls.forEach(call -> call.tryOnError(new RuntimeException("Connection closed before response")));
+	}
+
+	private void disconnect() {
+		synchronized (lock) {
+			if (connection != null) {
+				connection.dispose();
+				atomConnection.dispose();
+				connection = null;
+				atomConnection = null;
+			}
+		}
+	}
+}
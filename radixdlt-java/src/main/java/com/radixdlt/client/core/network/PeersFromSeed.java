@@ -37,7 +37,8 @@ public class PeersFromSeed implements PeerDiscovery {
 					Collections.shuffle(copyList);
 					return copyList;
 				})
-				.map(data -> new RadixPeer(data.getIp(), seed.isSsl(), seed.getPort()).data(data)),
+				.map(data -> new RadixPeer(data.getIp(), seed.isSsl(), seed.getPort(), seed.getRequestConnections(), seed.getBulkConnections())
+					.data(data)),
 			rawSeed.toObservable()
 		).distinct(RadixPeer::getLocation);
 	}
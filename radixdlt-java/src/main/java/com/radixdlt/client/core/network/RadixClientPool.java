@@ -0,0 +1,112 @@
+package com.radixdlt.client.core.network;
+
+import com.radixdlt.client.core.network.WebSocketClient.RadixClientStatus;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Connections to one node, split into lanes so that big atom backfills on {@link Lane#BULK}
+ * connections don't hold up calls and submissions on {@link Lane#REQUEST} connections.
+ * <p>
+ * Each time a client is asked for, the connection of the lane with the fewest calls and
+ * subscriptions waiting is picked, skipping unhealthy ones. A multiplexed atom subscription
+ * weighs as much as the destinations it streams. Connections only connect once
+ * something is sent through them, so unused ones cost nothing.
+ */
+public final class RadixClientPool {
+	public enum Lane {
+		REQUEST,
+		BULK
+	}
+
+	private static final class Connection {
+		private final RadixJsonRpcClient client;
+		private volatile RadixClientStatus status = RadixClientStatus.CLOSED;
+
+		private Connection(RadixJsonRpcClient client) {
+			this.client = client;
+			client.getStatus().subscribe(status -> this.status = status);
+		}
+
+		private int getLoad() {
+			return client.getPendingCalls() + client.getSubscriptions() + client.getMultiplexedDestinations();
+		}
+	}
+
+	private final Map<Lane, List<Connection>> lanes = new EnumMap<>(Lane.class);
+
+	/**
+	 * @param connections creates a new connection to the node
+	 * @param requestConnections number of connections for calls and submissions
+	 * @param bulkConnections number of connections for atom subscriptions
+	 */
+	public RadixClientPool(Supplier<RadixJsonRpcClient> connections, int requestConnections, int bulkConnections) {
+		if (requestConnections < 1 || bulkConnections < 1) {
+			throw new IllegalArgumentException("Each lane needs at least 1 connection but had "
+				+ requestConnections + " and " + bulkConnections);
+		}
+
+		lanes.put(Lane.REQUEST, connections(connections, requestConnections));
+		lanes.put(Lane.BULK, connections(connections, bulkConnections));
+	}
+
+	private static List<Connection> connections(Supplier<RadixJsonRpcClient> connections, int count) {
+		List<Connection> lane = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			lane.add(new Connection(connections.get()));
+		}
+		return Collections.unmodifiableList(lane);
+	}
+
+	/**
+	 * Whether a connection with this status can be used, shared with {@link com.radixdlt.client.core.ledger.ClientSelector}
+	 */
+	public static boolean isHealthy(RadixClientStatus status) {
+		return status != RadixClientStatus.FAILURE && status != RadixClientStatus.CLOSING;
+	}
+
+	/**
+	 * @return the healthy connection of the lane with the fewest calls and subscriptions waiting, preferring
+	 * open connections on a tie. If no connection is healthy the least loaded one is returned anyway.
+	 */
+	public RadixJsonRpcClient get(Lane lane) {
+		Connection best = null;
+		int bestLoad = Integer.MAX_VALUE;
+		boolean bestHealthy = false;
+		for (Connection connection : lanes.get(lane)) {
+			final RadixClientStatus status = connection.status;
+			final boolean healthy = isHealthy(status);
+			final int load = connection.getLoad();
+			if (best == null
+				|| healthy && !bestHealthy
+				|| healthy == bestHealthy && load < bestLoad
+				|| healthy == bestHealthy && load == bestLoad
+					&& status == RadixClientStatus.OPEN && best.status != RadixClientStatus.OPEN) {
+				best = connection;
+				bestLoad = load;
+				bestHealthy = healthy;
+			}
+		}
+		return best.client;
+	}
+
+	/**
+	 * @return whether any connection of the lane is healthy
+	 */
+	public boolean isHealthy(Lane lane) {
+		return lanes.get(lane).stream().anyMatch(connection -> isHealthy(connection.status));
+	}
+
+	/**
+	 * @return every connection of the lane
+	 */
+	public List<RadixJsonRpcClient> getConnections(Lane lane) {
+		List<RadixJsonRpcClient> clients = new ArrayList<>();
+		lanes.get(lane).forEach(connection -> clients.add(connection.client));
+		return clients;
+	}
+}
@@ -1,22 +1,33 @@
 package com.radixdlt.client.core.network;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import com.radixdlt.client.core.address.EUID;
 import com.radixdlt.client.core.address.RadixUniverseConfig;
 import com.radixdlt.client.core.network.AtomSubmissionUpdate.AtomSubmissionState;
 import com.radixdlt.client.core.network.WebSocketClient.RadixClientStatus;
 import com.radixdlt.client.core.serialization.RadixJson;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collection;
 import java.util.List;
 import com.radixdlt.client.core.atoms.Atom;
 
+import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +39,28 @@ import org.slf4j.LoggerFactory;
 public class RadixJsonRpcClient {
 	private static final Logger LOGGER = LoggerFactory.getLogger(RadixJsonRpcClient.class);
 
+	/**
+	 * How the ids of requests and subscriptions on a connection are picked
+	 */
+	public enum RequestIds {
+		/**
+		 * Counting up from 1 on each connection, cheaper to pick and match than UUIDs.
+		 * Request ids are sent as JSON numbers, so only for nodes which accept number ids.
+		 */
+		SEQUENTIAL,
+		/**
+		 * Random UUID strings, the default
+		 */
+		RANDOM_UUID
+	}
+
+	/**
+	 * Writes the params object of a request
+	 */
+	private interface ParamsWriter {
+		void write(JsonWriter writer) throws IOException;
+	}
+
 	/**
 	 * Betanet does not yet support version checking
 	 * TODO: this is temporary, remove once supported everywhere
@@ -39,15 +72,43 @@ public class RadixJsonRpcClient {
 	 */
 	private static final Integer API_VERSION = 1;
 
+	public static final int MAX_DESTINATIONS_PER_SUBSCRIPTION = 1000;
+
+	/**
+	 * How long destinations watched through {@link AtomSubscriptions} wait to be added together
+	 */
+	private static final long DESTINATIONS_WINDOW_MILLIS = 50;
+
+	/**
+	 * JSON-RPC 2.0 error codes
+	 */
+	static final int PARSE_ERROR = -32700;
+	static final int INVALID_REQUEST = -32600;
+	static final int METHOD_NOT_FOUND = -32601;
+
 	/**
 	 * The websocket this is wrapping
 	 */
 	private final WebSocketClient wsClient;
 
 	/**
-	 * Hot observable of messages received through the websocket
+	 * Routes messages received through the websocket to the calls and subscriptions waiting for them
 	 */
-	private final Observable<JsonObject> messages;
+	private final JsonRpcRouter router;
+
+	/**
+	 * Whether atom subscriptions ask the node to push atoms as binary DSON frames
+	 */
+	private final boolean dsonAtoms;
+
+	private final RequestIds requestIds;
+
+	/**
+	 * Coalesces calls into batches, when enabled
+	 */
+	private final JsonRpcBatcher batcher;
+
+	private final AtomicLong lastId = new AtomicLong();
 
 	/**
 	 * Cached API version of Node
@@ -59,14 +120,70 @@ public class RadixJsonRpcClient {
 	 */
 	private final Single<RadixUniverseConfig> universeConfig;
 
+	/**
+	 * Atom subscriptions of many destinations sharing a few subscriptions, created on first use
+	 */
+	private volatile AtomSubscriptions atomSubscriptions;
+
 	public RadixJsonRpcClient(WebSocketClient wsClient) {
+		this(wsClient, false);
+	}
+
+	/**
+	 * @param wsClient the websocket to wrap
+	 * @param dsonAtoms whether atom subscriptions should ask the node to push atoms as binary DSON
+	 * frames rather than JSON. Nodes which do not support it keep sending JSON, which is still accepted.
+	 */
+	public RadixJsonRpcClient(WebSocketClient wsClient, boolean dsonAtoms) {
+		this(wsClient, dsonAtoms, RequestIds.RANDOM_UUID);
+	}
+
+	/**
+	 * @param wsClient the websocket to wrap
+	 * @param dsonAtoms whether atom subscriptions should ask the node to push atoms as binary DSON
+	 * frames rather than JSON
+	 * @param requestIds how ids of requests and subscriptions are picked
+	 */
+	public RadixJsonRpcClient(WebSocketClient wsClient, boolean dsonAtoms, RequestIds requestIds) {
+		this(wsClient, dsonAtoms, requestIds, JsonRpcBatching.none());
+	}
+
+	/**
+	 * @param wsClient the websocket to wrap
+	 * @param dsonAtoms whether atom subscriptions should ask the node to push atoms as binary DSON
+	 * frames rather than JSON
+	 * @param requestIds how ids of requests and subscriptions are picked
+	 * @param batching whether calls are coalesced into JSON-RPC 2.0 batches
+	 */
+	public RadixJsonRpcClient(WebSocketClient wsClient, boolean dsonAtoms, RequestIds requestIds, JsonRpcBatching batching) {
 		this.wsClient = wsClient;
+		this.dsonAtoms = dsonAtoms;
+		this.requestIds = requestIds;
 
-		final JsonParser parser = new JsonParser();
-		this.messages = this.wsClient.getMessages()
-			.map(msg -> parser.parse(msg).getAsJsonObject())
+		final Observable<Object> frames = this.wsClient.getMessages()
+			.flatMapIterable(JsonRpcFrames::parse)
 			.publish()
 			.refCount();
+		final Observable<JsonObject> messages = frames.ofType(JsonObject.class)
+			.doOnNext(this::checkBatchRejected);
+
+		final Observable<AtomsNotification> atomMessages;
+		if (dsonAtoms) {
+			// Nodes which don't support DSON keep sending atoms as JSON
+			atomMessages = Observable.merge(
+				frames.ofType(AtomsNotification.class),
+				this.wsClient.getBinaryMessages()
+					.map(DsonNotification::parse)
+					.publish()
+					.refCount()
+			);
+		} else {
+			atomMessages = frames.ofType(AtomsNotification.class);
+		}
+
+		this.router = new JsonRpcRouter(messages, atomMessages);
+		this.batcher = new JsonRpcBatcher(batching, Schedulers.computation(), wsClient::send,
+			router::isPending, router::failCall);
 
 		if (!CHECK_API_VERSION) {
 			this.serverApiVersion = Single.just(API_VERSION);
@@ -103,6 +220,81 @@ public class RadixJsonRpcClient {
 		return this.wsClient.close();
 	}
 
+	private String nextId() {
+		return requestIds == RequestIds.SEQUENTIAL ? Long.toString(lastId.incrementAndGet()) : UUID.randomUUID().toString();
+	}
+
+	/**
+	 * Writes a request straight to its text, without building a tree of it first
+	 */
+	private String request(String id, String method, ParamsWriter params) {
+		StringWriter out = new StringWriter(256);
+		try (JsonWriter writer = new JsonWriter(out)) {
+			writer.beginObject();
+			writer.name("id");
+			if (requestIds == RequestIds.SEQUENTIAL) {
+				writer.jsonValue(id);
+			} else {
+				writer.value(id);
+			}
+			writer.name("method").value(method);
+			writer.name("params");
+			params.write(writer);
+			writer.endObject();
+		} catch (IOException e) {
+			// Writing to a string never fails
+			throw new IllegalStateException(e);
+		}
+		return out.toString();
+	}
+
+	/**
+	 * An invalid request or parse error for no call in particular is how a node which doesn't support
+	 * batches answers one, any other error without an id is left to the calls timing out
+	 */
+	private void checkBatchRejected(JsonObject message) {
+		final JsonElement id = message.get("id");
+		if (id != null && !id.isJsonNull()) {
+			batcher.answered(id.getAsString());
+		} else if (message.has("error")) {
+			final int code = errorCode(message);
+			if (code == INVALID_REQUEST || code == PARSE_ERROR) {
+				batcher.rejected();
+			}
+		}
+	}
+
+	/**
+	 * @return code of the error of a message, 0 if it has none
+	 */
+	private static int errorCode(JsonObject message) {
+		final JsonElement error = message.get("error");
+		if (error == null || !error.isJsonObject()) {
+			return 0;
+		}
+		final JsonElement code = error.getAsJsonObject().get("code");
+		return code != null && code.isJsonPrimitive() && code.getAsJsonPrimitive().isNumber() ? code.getAsInt() : 0;
+	}
+
+	private static ParamsWriter params(JsonObject params) {
+		return writer -> RadixJson.getGson().toJson(params, writer);
+	}
+
+	/**
+	 * @return params with the subscriber id added after the given ones
+	 */
+	private static ParamsWriter subscriptionParams(JsonObject params, String subscriberId) {
+		return writer -> {
+			writer.beginObject();
+			for (Entry<String, JsonElement> param : params.entrySet()) {
+				writer.name(param.getKey());
+				RadixJson.getGson().toJson(param.getValue(), writer);
+			}
+			writer.name("subscriberId").value(subscriberId);
+			writer.endObject();
+		};
+	}
+
 	/**
 	 * Generic helper method for calling a JSON-RPC method. Deserializes the received json.
 	 *
@@ -110,43 +302,27 @@ public class RadixJsonRpcClient {
 	 * @return response from rpc method
 	 */
 	private Single<JsonElement> jsonRpcCall(String method, JsonObject params) {
+		return jsonRpcCall(method, params(params));
+	}
+
+	private Single<JsonElement> jsonRpcCall(String method, ParamsWriter params) {
 		return this.wsClient.connect().andThen(
-			Single.<JsonElement>create(emitter -> {
-				final String uuid = UUID.randomUUID().toString();
-
-				JsonObject requestObject = new JsonObject();
-				requestObject.addProperty("id", uuid);
-				requestObject.addProperty("method", method);
-				requestObject.add("params", params);
-
-				messages
-					.filter(msg -> msg.has("id"))
-					.filter(msg -> msg.get("id").getAsString().equals(uuid))
-					.firstOrError()
-					.doOnSubscribe(disposable -> {
-						boolean sendSuccess = wsClient.send(RadixJson.getGson().toJson(requestObject));
-						if (!sendSuccess) {
-							disposable.dispose();
-							emitter.onError(new RuntimeException("Could not connect."));
-						}
-					})
-					.subscribe(
-						msg -> {
-							final JsonObject received = msg.getAsJsonObject();
-							if (received.has("result")) {
-								emitter.onSuccess(received.get("result"));
-							} else if (received.has("error")) {
-								emitter.onError(new RuntimeException(received.toString()));
-							} else {
-								emitter.onError(
-									new RuntimeException("Received bad json rpc message: " + received.toString())
-								);
-							}
-						},
-						err -> {
-							emitter.onError(new RuntimeException(err.getMessage()));
+			Single.defer(() -> {
+				final String id = nextId();
+				final String request = request(id, method, params);
+
+				return router.call(id, () -> batcher.send(id, request))
+					.flatMap(received -> {
+						if (received.has("result")) {
+							return Single.just(received.get("result"));
+						} else if (received.has("error")) {
+							return Single.error(new JsonRpcException(errorCode(received), received.toString()));
+						} else {
+							return Single.error(
+								new RuntimeException("Received bad json rpc message: " + received.toString())
+							);
 						}
-					);
+					});
 			})
 		);
 	}
@@ -161,6 +337,43 @@ public class RadixJsonRpcClient {
 		return this.jsonRpcCall(method, new JsonObject());
 	}
 
+	/**
+	 * @return number of calls sent on this connection still waiting for their response
+	 */
+	public int getPendingCalls() {
+		return router.getPendingCalls();
+	}
+
+	/**
+	 * @return number of subscriptions on this connection still waiting for notifications
+	 */
+	public int getSubscriptions() {
+		return router.getSubscriptions();
+	}
+
+	/**
+	 * A multiplexed atom subscription is one subscription which streams the atoms of many destinations,
+	 * so its destinations beyond the first are counted here to weigh it against single destination ones.
+	 *
+	 * @return number of destinations watched through {@link #getAtomSubscriptions()} beyond one per subscription
+	 */
+	public int getMultiplexedDestinations() {
+		final AtomSubscriptions subscriptions = atomSubscriptions;
+		return subscriptions == null ? 0 : Math.max(0, subscriptions.getDestinations() - subscriptions.getSubscriptions());
+	}
+
+	/**
+	 * @return subscriptions to the atoms of many destinations on this connection, at most
+	 * {@value #MAX_DESTINATIONS_PER_SUBSCRIPTION} destinations to a subscription
+	 */
+	public synchronized AtomSubscriptions getAtomSubscriptions() {
+		if (atomSubscriptions == null) {
+			atomSubscriptions = new AtomSubscriptions(this, MAX_DESTINATIONS_PER_SUBSCRIPTION,
+				DESTINATIONS_WINDOW_MILLIS, TimeUnit.MILLISECONDS, Schedulers.computation());
+		}
+		return atomSubscriptions;
+	}
+
 	public Single<Integer> getAPIVersion() {
 		return serverApiVersion;
 	}
@@ -236,23 +449,51 @@ public class RadixJsonRpcClient {
 	 * @return Observable of emitted subscription json elements
 	 */
 	public Observable<JsonElement> jsonRpcSubscribe(String method, JsonObject rawParams, String notificationMethod) {
+		return this.subscribe(method, rawParams, subscriberId -> jsonNotifications(notificationMethod, subscriberId));
+	}
+
+	private Observable<JsonObject> jsonNotifications(String notificationMethod, String subscriberId) {
+		return router.notifications(subscriberId)
+			.filter(msg -> msg.has("method"))
+			.filter(msg -> msg.get("method").getAsString().equals(notificationMethod))
+			.map(msg -> msg.get("params").getAsJsonObject());
+	}
+
+	private Observable<AtomsNotification> atomNotifications(String notificationMethod, String subscriberId) {
+		return router.atomNotifications(subscriberId)
+			.filter(notification -> notificationMethod.equals(notification.getMethod()));
+	}
+
+	/**
+	 * Creates a subscription via JSON-RPC, where the updates of the subscription are
+	 * selected by subscriber id.
+	 *
+	 * @param method name of subscription method
+	 * @param rawParams parameters to subscription method
+	 * @param notifications updates of the subscription with a given subscriber id
+	 * @param <R> type of the updates
+	 * @return Observable of updates
+	 */
+	private <R> Observable<R> subscribe(String method, JsonObject rawParams, Function<String, ? extends Observable<? extends R>> notifications) {
+		return subscribe(method, rawParams, notifications, this::nextId);
+	}
+
+	/**
+	 * @param subscriberIds picks the subscriber id on every subscribe
+	 */
+	private <R> Observable<R> subscribe(String method, JsonObject rawParams, Function<String, ? extends Observable<? extends R>> notifications,
+		Supplier<String> subscriberIds) {
 		return this.wsClient.connect().andThen(
 			Observable.create(emitter -> {
-				final String subscriberId = UUID.randomUUID().toString();
-				final JsonObject params = rawParams.deepCopy();
-				params.addProperty("subscriberId", subscriberId);
-
-				Disposable subscriptionDisposable = messages
-					.filter(msg -> msg.has("method"))
-					.filter(msg -> msg.get("method").getAsString().equals(notificationMethod))
-					.map(msg -> msg.get("params").getAsJsonObject())
-					.filter(p -> p.get("subscriberId").getAsString().equals(subscriberId))
+				final String subscriberId = subscriberIds.get();
+
+				Disposable subscriptionDisposable = notifications.apply(subscriberId)
 					.subscribe(
 						emitter::onNext,
 						emitter::onError
 					);
 
-				Disposable methodDisposable = this.jsonRpcCall(method, params)
+				Disposable methodDisposable = this.jsonRpcCall(method, subscriptionParams(rawParams, subscriberId))
 					.subscribe(
 						msg -> { },
 						emitter::onError
@@ -262,14 +503,9 @@ public class RadixJsonRpcClient {
 					methodDisposable.dispose();
 					subscriptionDisposable.dispose();
 
-					final String cancelUuid = UUID.randomUUID().toString();
-					JsonObject cancelObject = new JsonObject();
-					cancelObject.addProperty("id", cancelUuid);
-					cancelObject.addProperty("method", "Subscription.cancel");
-					JsonObject cancelParams = new JsonObject();
-					cancelParams.addProperty("subscriberId", subscriberId);
-					cancelObject.add("params", cancelParams);
-					wsClient.send(RadixJson.getGson().toJson(cancelObject));
+					wsClient.send(request(nextId(), "Subscription.cancel", writer ->
+						writer.beginObject().name("subscriberId").value(subscriberId).endObject()
+					));
 				});
 			})
 		);
@@ -284,14 +520,59 @@ public class RadixJsonRpcClient {
 	 * @return observable of atoms
 	 */
 	public <T extends Atom> Observable<T> getAtoms(AtomQuery<T> atomQuery) {
+		return getAtoms(atomQuery, this::nextId);
+	}
+
+	/**
+	 * @return a subscriber id which is unique on this connection
+	 */
+	String newSubscriberId() {
+		return nextId();
+	}
+
+	/**
+	 * Subscribes to atoms under a given subscriber id, so that the subscription can later be
+	 * updated with {@link #updateAtomsSubscription(String, Collection, Collection)}
+	 */
+	<T extends Atom> Observable<T> getAtoms(AtomQuery<T> atomQuery, String subscriberId) {
+		return getAtoms(atomQuery, () -> subscriberId);
+	}
+
+	/**
+	 * Adds destinations to and removes them from an atoms subscription, on nodes which support it.
+	 * Atoms of the added destinations are sent as updates of the subscription, past ones included.
+	 *
+	 * @param subscriberId subscriber id of the subscription
+	 * @param added destinations to add
+	 * @param removed destinations to remove
+	 * @return completes once the node has updated the subscription, fails if it can't
+	 */
+	Completable updateAtomsSubscription(String subscriberId, Collection<EUID> added, Collection<EUID> removed) {
+		final JsonObject params = new JsonObject();
+		params.addProperty("subscriberId", subscriberId);
+		JsonArray addDestinations = new JsonArray();
+		added.forEach(destination -> addDestinations.add(destination.bigInteger()));
+		params.add("addDestinations", addDestinations);
+		JsonArray removeDestinations = new JsonArray();
+		removed.forEach(destination -> removeDestinations.add(destination.bigInteger()));
+		params.add("removeDestinations", removeDestinations);
+
+		return this.jsonRpcCall("Atoms.updateSubscription", params).ignoreElement();
+	}
+
+	private <T extends Atom> Observable<T> getAtoms(AtomQuery<T> atomQuery, Supplier<String> subscriberIds) {
 		final JsonObject params = new JsonObject();
 		params.add("query", atomQuery.toJson());
+		if (dsonAtoms) {
+			params.addProperty("encoding", "DSON");
+		}
+
+		// Atoms may arrive as JSON or, once the node has agreed to it, as binary DSON, both already picked out of the frame
+		final Function<String, Observable<T>> updates = subscriberId ->
+			atomNotifications("Atoms.subscribeUpdate", subscriberId)
+				.flatMapIterable(notification -> notification.getAtoms(atomQuery.getAtomClass()));
 
-		return this.jsonRpcSubscribe("Atoms.subscribe", params, "Atoms.subscribeUpdate")
-			.map(p -> p.getAsJsonObject().get("atoms").getAsJsonArray())
-			.flatMapIterable(array -> array)
-			.map(JsonElement::getAsJsonObject)
-			.map(jsonAtom -> RadixJson.getGson().fromJson(jsonAtom, atomQuery.getAtomClass()))
+		return this.subscribe("Atoms.subscribe", params, updates, subscriberIds)
 			.map(atom -> {
 				atom.putDebug("RECEIVED", System.currentTimeMillis());
 				return atom;
@@ -308,18 +589,17 @@ public class RadixJsonRpcClient {
 	 */
 	public <T extends Atom> Observable<AtomSubmissionUpdate> submitAtom(T atom) {
 		return Observable.<AtomSubmissionUpdate>create(emitter -> {
-			JsonElement jsonAtom = RadixJson.getGson().toJsonTree(atom, Atom.class);
-
-			final String subscriberId = UUID.randomUUID().toString();
-			JsonObject params = new JsonObject();
-			params.addProperty("subscriberId", subscriberId);
-			params.add("atom", jsonAtom);
-
-			Disposable subscriptionDisposable = messages
-				.filter(msg -> msg.has("method"))
-				.filter(msg -> msg.get("method").getAsString().equals("AtomSubmissionState.onNext"))
-				.map(msg -> msg.get("params").getAsJsonObject())
-				.filter(p -> p.get("subscriberId").getAsString().equals(subscriberId))
+			final String subscriberId = nextId();
+			// The atom is written straight into the request rather than through a tree
+			final ParamsWriter params = writer -> {
+				writer.beginObject();
+				writer.name("subscriberId").value(subscriberId);
+				writer.name("atom");
+				RadixJson.getGson().toJson(atom, Atom.class, writer);
+				writer.endObject();
+			};
+
+			Disposable subscriptionDisposable = jsonNotifications("AtomSubmissionState.onNext", subscriberId)
 				.map(p -> {
 					final AtomSubmissionState state = AtomSubmissionState.valueOf(p.get("value").getAsString());
 					final String message;
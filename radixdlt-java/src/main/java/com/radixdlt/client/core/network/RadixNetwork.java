@@ -1,11 +1,15 @@
 package com.radixdlt.client.core.network;
 
+import com.radixdlt.client.core.network.RadixClientPool.Lane;
 import com.radixdlt.client.core.network.WebSocketClient.RadixClientStatus;
 import io.reactivex.Observable;
+import io.reactivex.functions.Function;
 import io.reactivex.observables.ConnectableObservable;
 
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import org.slf4j.Logger;
@@ -23,9 +27,10 @@ public final class RadixNetwork {
 	private final Observable<RadixPeer> peers;
 
 	/**
-	 * Hot observable which updates subscribers of new connection events
+	 * Hot observables which update subscribers of new connection events, one per lane
 	 */
-	private final ConnectableObservable<SimpleImmutableEntry<String, RadixClientStatus>> statusUpdates;
+	private final Map<Lane, ConnectableObservable<SimpleImmutableEntry<String, RadixClientStatus>>> statusUpdates =
+		new EnumMap<>(Lane.class);
 
 
 	public RadixNetwork(PeerDiscovery peerDiscovery) {
@@ -34,16 +39,21 @@ public final class RadixNetwork {
 		this.peers = peerDiscovery.findPeers()
 			.retryWhen(new IncreasingRetryTimer())
 			.doOnNext(peer -> LOGGER.info("Added to peer list: " + peer.getLocation()))
-			.replay().autoConnect(2);
-
-		this.statusUpdates = peers.map(RadixPeer::getRadixClient)
-			.flatMap(
-				client -> client.getStatus().map(
-					status -> new SimpleImmutableEntry<>(client.getLocation(), status)
-				)
-			)
-			.publish();
-		this.statusUpdates.connect();
+			// Connects once the status updates of every lane and connectAndGetStatusUpdates() subscribe
+			.replay().autoConnect(Lane.values().length + 1);
+
+		for (Lane lane : Lane.values()) {
+			ConnectableObservable<SimpleImmutableEntry<String, RadixClientStatus>> laneUpdates =
+				peers.flatMapIterable(peer -> peer.getConnections().getConnections(lane))
+					.flatMap(
+						client -> client.getStatus().map(
+							status -> new SimpleImmutableEntry<>(client.getLocation(), status)
+						)
+					)
+					.publish();
+			laneUpdates.connect();
+			this.statusUpdates.put(lane, laneUpdates);
+		}
 	}
 
 	public Observable<SimpleImmutableEntry<String, RadixClientStatus>> connectAndGetStatusUpdates() {
@@ -52,12 +62,22 @@ public final class RadixNetwork {
 	}
 
 	/**
-	 * Returns a hot observable of the status of peers
+	 * Returns a hot observable of the status of every connection to peers, of both lanes
 	 *
 	 * @return a hot Observable of status of peers
 	 */
 	public Observable<SimpleImmutableEntry<String, RadixClientStatus>> getStatusUpdates() {
-		return statusUpdates;
+		return Observable.merge(statusUpdates.values());
+	}
+
+	/**
+	 * Returns a hot observable of the status of the connections to peers of one lane
+	 *
+	 * @param lane lane of the connections to watch
+	 * @return a hot Observable of status of peers
+	 */
+	public Observable<SimpleImmutableEntry<String, RadixClientStatus>> getStatusUpdates(Lane lane) {
+		return statusUpdates.get(lane);
 	}
 
 	public Observable<RadixJsonRpcClient> getRadixClients() {
@@ -65,7 +85,19 @@ public final class RadixNetwork {
 	}
 
 	public Observable<RadixJsonRpcClient> getRadixClients(Set<Long> shards) {
-		return peers.flatMapMaybe(peer -> peer.servesShards(shards)).map(RadixPeer::getRadixClient)
+		return getRadixClients(shards, RadixPeer::getRadixClient);
+	}
+
+	/**
+	 * @param lane lane of the connection to return from each peer
+	 * @return the least loaded connection of the lane, of each peer serving any of the shards
+	 */
+	public Observable<RadixJsonRpcClient> getRadixClients(Set<Long> shards, Lane lane) {
+		return getRadixClients(shards, peer -> peer.getRadixClient(lane));
+	}
+
+	private Observable<RadixJsonRpcClient> getRadixClients(Set<Long> shards, Function<RadixPeer, RadixJsonRpcClient> connection) {
+		return peers.flatMapMaybe(peer -> peer.servesShards(shards)).map(connection)
 			.flatMapMaybe(client -> client.checkAPIVersion().filter(b -> b).map(b -> client));
 	}
 
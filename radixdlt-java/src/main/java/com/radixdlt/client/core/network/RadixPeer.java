@@ -1,39 +1,45 @@
 package com.radixdlt.client.core.network;
 
+import com.radixdlt.client.core.network.RadixClientPool.Lane;
 import io.reactivex.Maybe;
 import io.reactivex.subjects.SingleSubject;
 import java.util.Set;
 import okhttp3.Request;
 
 public class RadixPeer {
+	public static final int DEFAULT_REQUEST_CONNECTIONS = 1;
+	public static final int DEFAULT_BULK_CONNECTIONS = 1;
 
 	private final String location;
-	private final RadixJsonRpcClient radixClient;
+	private final RadixClientPool connections;
 	private final SingleSubject<NodeRunnerData> data;
 	private final boolean useSSL;
 	private final int port;
+	private final int requestConnections;
+	private final int bulkConnections;
 
 	public RadixPeer(String location, boolean useSSL, int port) {
+		this(location, useSSL, port, DEFAULT_REQUEST_CONNECTIONS, DEFAULT_BULK_CONNECTIONS);
+	}
+
+	/**
+	 * @param requestConnections number of connections to the node for calls and submissions
+	 * @param bulkConnections number of connections to the node for atom subscriptions
+	 */
+	public RadixPeer(String location, boolean useSSL, int port, int requestConnections, int bulkConnections) {
 		this.data = SingleSubject.create();
 		this.location = location;
 		this.useSSL = useSSL;
 		this.port = port;
+		this.requestConnections = requestConnections;
+		this.bulkConnections = bulkConnections;
 
-		if (useSSL) {
-			this.radixClient = new RadixJsonRpcClient(
-				new WebSocketClient(
-					HttpClients::getSslAllTrustingClient,
-					new Request.Builder().url("wss://" + location + ":" + port + "/rpc").build()
-				)
-			);
-		} else {
-			this.radixClient = new RadixJsonRpcClient(
-				new WebSocketClient(
-					HttpClients::getSslAllTrustingClient,
-					new Request.Builder().url("ws://" + location + ":" + port + "/rpc").build()
-				)
-			);
-		}
+		final Request endpoint = new Request.Builder().url((useSSL ? "wss://" : "ws://") + location + ":" + port + "/rpc").build();
+		this.connections = new RadixClientPool(
+			() -> new RadixJsonRpcClient(new WebSocketClient(HttpClients::getSslAllTrustingClient, endpoint)),
+			requestConnections,
+			bulkConnections
+		);
 	}
 
 	public int getPort() {
@@ -48,8 +54,30 @@ public class RadixPeer {
 		return location;
 	}
 
+	public int getRequestConnections() {
+		return requestConnections;
+	}
+
+	public int getBulkConnections() {
+		return bulkConnections;
+	}
+
+	/**
+	 * @return the least loaded connection for calls and submissions
+	 */
 	public RadixJsonRpcClient getRadixClient() {
-		return radixClient;
+		return getRadixClient(Lane.REQUEST);
+	}
+
+	/**
+	 * @return the least loaded connection of a lane
+	 */
+	public RadixJsonRpcClient getRadixClient(Lane lane) {
+		return connections.get(lane);
+	}
+
+	public RadixClientPool getConnections() {
+		return connections;
 	}
 
 	public RadixPeer data(NodeRunnerData data) {
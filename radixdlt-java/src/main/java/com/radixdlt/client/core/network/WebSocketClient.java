@@ -13,6 +13,7 @@ import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.ByteString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +30,7 @@ public class WebSocketClient {
 	private final Supplier<OkHttpClient> okHttpClient;
 
 	private PublishSubject<String> messages = PublishSubject.create();
+	private PublishSubject<ByteString> binaryMessages = PublishSubject.create();
 
 	public WebSocketClient(Supplier<OkHttpClient> okHttpClient, Request endpoint) {
 		this.okHttpClient = okHttpClient;
@@ -39,6 +41,7 @@ public class WebSocketClient {
 			.debounce(1, TimeUnit.MINUTES)
 			.subscribe(i -> {
 				this.messages = PublishSubject.create();
+				this.binaryMessages = PublishSubject.create();
 				this.status.onNext(RadixClientStatus.CLOSED);
 			});
 	}
@@ -47,6 +50,13 @@ public class WebSocketClient {
 		return messages;
 	}
 
+	/**
+	 * @return binary frames received through the websocket, used by nodes to push DSON
+	 */
+	public Observable<ByteString> getBinaryMessages() {
+		return binaryMessages;
+	}
+
 	public Request getEndpoint() {
 		return endpoint;
 	}
@@ -56,7 +66,7 @@ public class WebSocketClient {
 	}
 
 	public boolean close() {
-		if (messages.hasObservers()) {
+		if (messages.hasObservers() || binaryMessages.hasObservers()) {
 			return false;
 		}
 
@@ -88,6 +98,11 @@ public class WebSocketClient {
 				messages.onNext(message);
 			}
 
+			@Override
+			public void onMessage(WebSocket webSocket, ByteString bytes) {
+				binaryMessages.onNext(bytes);
+			}
+
 			@Override
 			public void onClosing(WebSocket webSocket, int code, String reason) {
 				webSocket.close(1000, null);
@@ -109,6 +124,7 @@ public class WebSocketClient {
 				WebSocketClient.this.status.onNext(RadixClientStatus.FAILURE);
 
 				WebSocketClient.this.messages.onError(new IOException("Connection Failure."));
+				WebSocketClient.this.binaryMessages.onError(new IOException("Connection Failure."));
 			}
 		});
 	}
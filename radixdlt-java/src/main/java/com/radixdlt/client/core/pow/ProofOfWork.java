@@ -1,6 +1,6 @@
 package com.radixdlt.client.core.pow;
 
-import com.radixdlt.client.core.atoms.RadixHash;
+import com.radixdlt.client.core.util.Hash;
 import okio.ByteString;
 
 import java.nio.ByteBuffer;
@@ -28,17 +28,31 @@ public class ProofOfWork {
 	}
 
 	public void validate() throws ProofOfWorkException {
-		String targetHex = getTargetHex();
 		ByteBuffer byteBuffer = ByteBuffer.allocate(4 + 32 + Long.BYTES);
 		byteBuffer.putInt(magic);
 		byteBuffer.put(seed);
 		byteBuffer.putLong(nonce);
-		String hashHex = ByteString.of(RadixHash.of(byteBuffer.array()).toByteArray()).hex();
-		if (hashHex.compareTo(targetHex) > 0) {
-			throw new ProofOfWorkException(hashHex, targetHex);
+		byte[] hash = Hash.doubleSha256(byteBuffer.array(), 0, byteBuffer.capacity());
+		if (compareUnsigned(hash, target) > 0) {
+			throw new ProofOfWorkException(ByteString.of(hash).hex(), getTargetHex());
 		}
 	}
 
+	/**
+	 * Compares byte arrays as unsigned bytes, lexicographically,
+	 * which orders them the same way as their hex strings.
+	 */
+	static int compareUnsigned(byte[] a, byte[] b) {
+		int length = Math.min(a.length, b.length);
+		for (int i = 0; i < length; i++) {
+			int cmp = Integer.compare(a[i] & 0xFF, b[i] & 0xFF);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return Integer.compare(a.length, b.length);
+	}
+
 	@Override
 	public String toString() {
 		return "POW: nonce(" + nonce + ") magic(" + magic + ") seed(" + Base64.toBase64String(seed) + ") target(" + getTargetHex() + ")";
@@ -1,13 +1,65 @@
 package com.radixdlt.client.core.pow;
 
-import com.radixdlt.client.core.atoms.RadixHash;
-import okio.ByteString;
-
-import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
+/**
+ * Searches for a nonce meeting a proof of work target. The nonce space is striped
+ * across a number of workers, worker {@code i} trying nonces {@code 1 + i, 1 + i + workers, ...}.
+ * Workers keep going until they pass the lowest nonce found so far, so the result is always
+ * the lowest valid nonce, the same as a single threaded search would find.
+ */
 public class ProofOfWorkBuilder {
+	private final ForkJoinPool pool;
+	private final int workers;
+
+	/**
+	 * Searches using every available core, on the common pool.
+	 */
+	public ProofOfWorkBuilder() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public ProofOfWorkBuilder(int workers) {
+		this(ForkJoinPool.commonPool(), workers);
+	}
+
+	/**
+	 * @param pool pool to run all but one of the workers on, the calling thread runs the other
+	 * @param workers number of workers to stripe the nonce space across
+	 */
+	public ProofOfWorkBuilder(ForkJoinPool pool, int workers) {
+		if (workers < 1) {
+			throw new IllegalArgumentException("Workers must be at least 1 but was " + workers);
+		}
+		this.pool = pool;
+		this.workers = workers;
+	}
+
 	public ProofOfWork build(int magic, byte[] seed, int leading) {
+		return build(magic, seed, leading, () -> false);
+	}
+
+	/**
+	 * @param cancelled polled by every worker, the search is abandoned once it returns true
+	 * @throws CancellationException if the search was cancelled before a nonce was found
+	 */
+	public ProofOfWork build(int magic, byte[] seed, int leading, BooleanSupplier cancelled) {
+		return build(magic, seed, leading, ProofOfWorkEvent.UNKNOWN_ATOM_SIZE, cancelled);
+	}
+
+	/**
+	 * @param atomSize size in bytes of the atom the proof of work is for, only reported to {@link ProofOfWorkListeners}
+	 * @param cancelled polled by every worker, the search is abandoned once it returns true
+	 * @throws CancellationException if the search was cancelled before a nonce was found
+	 */
+	public ProofOfWork build(int magic, byte[] seed, int leading, int atomSize, BooleanSupplier cancelled) {
 		if (seed.length != 32 || leading < 1 || leading > 256) {
 			throw new IllegalArgumentException();
 		}
@@ -18,23 +70,53 @@ public class ProofOfWorkBuilder {
 		targetBitSet.clear((leading / 8) * 8 + (8 - leading % 8), (leading / 8) * 8 + 8);
 		byte[] target = targetBitSet.toByteArray();
 
-		ByteBuffer buffer = ByteBuffer.allocate(32 + 4 + Long.BYTES);
+		final long start = System.nanoTime();
+		AtomicLong best = new AtomicLong(Long.MAX_VALUE);
+		long attempts = 0;
+
+		List<ForkJoinTask<Long>> tasks = new ArrayList<>(workers - 1);
+		for (int worker = 1; worker < workers; worker++) {
+			// Consumable getQuantity cannot be 0 so start at 1
+			final long first = 1 + worker;
+			tasks.add(pool.submit(() -> search(magic, seed, leading, first, workers, best, cancelled)));
+		}
+		try {
+			attempts += search(magic, seed, leading, 1, workers, best, cancelled);
+		} finally {
+			for (ForkJoinTask<Long> task : tasks) {
+				attempts += task.join();
+			}
+		}
 
-		// Consumable getQuantity cannot be 0 so start at 1
-		long nonce = 1;
-		buffer.putInt(magic);
-		buffer.put(seed);
+		final boolean found = best.get() != Long.MAX_VALUE;
+		if (!ProofOfWorkListeners.isEmpty()) {
+			ProofOfWorkListeners.publish(
+				new ProofOfWorkEvent(leading, workers, atomSize, attempts, System.nanoTime() - start, !found)
+			);
+		}
+
+		if (!found) {
+			throw new CancellationException("Proof of work cancelled");
+		}
+
+		return new ProofOfWork(best.get(), magic, seed, target);
+	}
 
-		String targetHex = ByteString.of(target).hex();
+	/**
+	 * @return number of nonces tried
+	 */
+	private static long search(int magic, byte[] seed, int leading, long first, int stride, AtomicLong best,
+		BooleanSupplier cancelled) {
+		ProofOfWorkKernel kernel = new ProofOfWorkKernel(magic, seed, leading);
 
-		while (true) {
-			buffer.position(32 + 4);
-			buffer.putLong(nonce);
-			String hashHex = ByteString.of(RadixHash.of(buffer.array()).toByteArray()).hex();
-			if (hashHex.compareTo(targetHex) < 0) {
-				return new ProofOfWork(nonce, magic, seed, target);
+		long attempts = 0;
+		for (long nonce = first; nonce < best.get() && !cancelled.getAsBoolean(); nonce += stride) {
+			attempts++;
+			if (kernel.meetsTarget(nonce)) {
+				best.accumulateAndGet(nonce, Math::min);
+				break;
 			}
-			nonce++;
 		}
+		return attempts;
 	}
 }
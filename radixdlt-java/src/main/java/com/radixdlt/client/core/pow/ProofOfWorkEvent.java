@@ -0,0 +1,72 @@
+package com.radixdlt.client.core.pow;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What a single proof of work search cost
+ */
+public final class ProofOfWorkEvent {
+	public static final int UNKNOWN_ATOM_SIZE = -1;
+
+	private final int leading;
+	private final int workers;
+	private final int atomSize;
+	private final long attempts;
+	private final long durationNanos;
+	private final boolean cancelled;
+
+	ProofOfWorkEvent(int leading, int workers, int atomSize, long attempts, long durationNanos, boolean cancelled) {
+		this.leading = leading;
+		this.workers = workers;
+		this.atomSize = atomSize;
+		this.attempts = attempts;
+		this.durationNanos = durationNanos;
+		this.cancelled = cancelled;
+	}
+
+	/**
+	 * @return number of leading zero bits the hash needed
+	 */
+	public int getLeading() {
+		return leading;
+	}
+
+	public int getWorkers() {
+		return workers;
+	}
+
+	/**
+	 * @return size in bytes of the atom the proof of work was for, or {@link #UNKNOWN_ATOM_SIZE}
+	 */
+	public int getAtomSize() {
+		return atomSize;
+	}
+
+	/**
+	 * @return number of nonces hashed across all workers
+	 */
+	public long getAttempts() {
+		return attempts;
+	}
+
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * @return nonces hashed per second of wall time, across all workers
+	 */
+	public double getHashRate() {
+		return durationNanos == 0 ? 0.0 : attempts * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "POW: leading(" + leading + ") workers(" + workers + ") atomSize(" + atomSize + ") attempts(" + attempts
+			+ ") duration(" + TimeUnit.NANOSECONDS.toMillis(durationNanos) + "ms) cancelled(" + cancelled + ")";
+	}
+}
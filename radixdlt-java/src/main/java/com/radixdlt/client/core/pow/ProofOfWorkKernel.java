@@ -0,0 +1,61 @@
+package com.radixdlt.client.core.pow;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+
+/**
+ * Hashes {@code magic || seed || nonce} twice with SHA-256 and checks the result for
+ * leading zero bits, without allocating. The digest state after the constant
+ * {@code magic || seed} prefix is computed once and restored for every nonce.
+ *
+ * Not thread safe, each worker needs its own kernel.
+ */
+final class ProofOfWorkKernel {
+	private static final int HASH_SIZE = 32;
+
+	private final SHA256Digest prefix;
+	private final SHA256Digest digest;
+	private final byte[] nonceBytes = new byte[Long.BYTES];
+	private final byte[] hash = new byte[HASH_SIZE];
+	private final int zeroBytes;
+	private final int mask;
+
+	ProofOfWorkKernel(int magic, byte[] seed, int leading) {
+		this.prefix = new SHA256Digest();
+		this.prefix.update((byte) (magic >>> 24));
+		this.prefix.update((byte) (magic >>> 16));
+		this.prefix.update((byte) (magic >>> 8));
+		this.prefix.update((byte) magic);
+		this.prefix.update(seed, 0, seed.length);
+		this.digest = new SHA256Digest(this.prefix);
+
+		this.zeroBytes = leading / 8;
+		this.mask = (0xFF << (8 - leading % 8)) & 0xFF;
+	}
+
+	/**
+	 * @return whether the hash for this nonce has at least the required number of leading zero bits
+	 */
+	boolean meetsTarget(long nonce) {
+		hash(nonce);
+
+		for (int i = 0; i < zeroBytes; i++) {
+			if (hash[i] != 0) {
+				return false;
+			}
+		}
+		return zeroBytes == HASH_SIZE || (hash[zeroBytes] & mask) == 0;
+	}
+
+	private void hash(long nonce) {
+		for (int i = Long.BYTES - 1; i >= 0; i--) {
+			nonceBytes[i] = (byte) nonce;
+			nonce >>>= 8;
+		}
+
+		digest.reset(prefix);
+		digest.update(nonceBytes, 0, Long.BYTES);
+		digest.doFinal(hash, 0);
+		digest.update(hash, 0, HASH_SIZE);
+		digest.doFinal(hash, 0);
+	}
+}
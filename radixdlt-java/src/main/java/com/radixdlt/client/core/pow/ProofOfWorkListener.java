@@ -0,0 +1,11 @@
+package com.radixdlt.client.core.pow;
+
+/**
+ * Told about every proof of work search once it finishes, whether it found a nonce or was cancelled.
+ * Called on the thread which ran the search, so should return quickly.
+ *
+ * @see ProofOfWorkListeners
+ */
+public interface ProofOfWorkListener {
+	void onProofOfWork(ProofOfWorkEvent event);
+}
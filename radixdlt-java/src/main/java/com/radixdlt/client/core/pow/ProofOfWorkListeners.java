@@ -0,0 +1,32 @@
+package com.radixdlt.client.core.pow;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process wide registry of {@link ProofOfWorkListener}s, notified by every {@link ProofOfWorkBuilder}.
+ */
+public final class ProofOfWorkListeners {
+	private static final List<ProofOfWorkListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+	private ProofOfWorkListeners() {
+	}
+
+	public static void add(ProofOfWorkListener listener) {
+		LISTENERS.add(listener);
+	}
+
+	public static void remove(ProofOfWorkListener listener) {
+		LISTENERS.remove(listener);
+	}
+
+	static boolean isEmpty() {
+		return LISTENERS.isEmpty();
+	}
+
+	static void publish(ProofOfWorkEvent event) {
+		for (ProofOfWorkListener listener : LISTENERS) {
+			listener.onProofOfWork(event);
+		}
+	}
+}
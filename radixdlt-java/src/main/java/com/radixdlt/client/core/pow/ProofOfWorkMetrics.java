@@ -0,0 +1,115 @@
+package com.radixdlt.client.core.pow;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In memory {@link ProofOfWorkListener} which totals up searches, overall and by atom size.
+ * Atom sizes are bucketed by the next power of two.
+ */
+public final class ProofOfWorkMetrics implements ProofOfWorkListener {
+	public static final class Bucket {
+		private long count;
+		private long attempts;
+		private long durationNanos;
+		private long leading;
+
+		private void add(ProofOfWorkEvent event) {
+			count++;
+			attempts += event.getAttempts();
+			durationNanos += event.getDurationNanos();
+			leading += event.getLeading();
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getAttempts() {
+			return attempts;
+		}
+
+		public long getDurationNanos() {
+			return durationNanos;
+		}
+
+		public double getMeanLeading() {
+			return count == 0 ? 0.0 : leading / (double) count;
+		}
+
+		public double getMeanMillis() {
+			return count == 0 ? 0.0 : durationNanos / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+		}
+
+		/**
+		 * @return nonces hashed per second of wall time spent searching
+		 */
+		public double getHashRate() {
+			return durationNanos == 0 ? 0.0 : attempts * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos;
+		}
+
+		private Bucket copy() {
+			Bucket copy = new Bucket();
+			copy.count = count;
+			copy.attempts = attempts;
+			copy.durationNanos = durationNanos;
+			copy.leading = leading;
+			return copy;
+		}
+	}
+
+	private final Bucket total = new Bucket();
+	private final TreeMap<Integer, Bucket> byAtomSize = new TreeMap<>();
+	private long cancelled;
+
+	@Override
+	public synchronized void onProofOfWork(ProofOfWorkEvent event) {
+		if (event.isCancelled()) {
+			cancelled++;
+			return;
+		}
+
+		total.add(event);
+		if (event.getAtomSize() != ProofOfWorkEvent.UNKNOWN_ATOM_SIZE) {
+			byAtomSize.computeIfAbsent(bucketOf(event.getAtomSize()), size -> new Bucket()).add(event);
+		}
+	}
+
+	private static int bucketOf(int atomSize) {
+		return atomSize <= 1 ? 1 : Integer.highestOneBit(atomSize - 1) << 1;
+	}
+
+	public synchronized Bucket getTotal() {
+		return total.copy();
+	}
+
+	/**
+	 * @return completed searches keyed by the power of two at or above the atom size
+	 */
+	public synchronized Map<Integer, Bucket> getByAtomSize() {
+		TreeMap<Integer, Bucket> copy = new TreeMap<>();
+		byAtomSize.forEach((size, bucket) -> copy.put(size, bucket.copy()));
+		return copy;
+	}
+
+	public synchronized long getCancelled() {
+		return cancelled;
+	}
+
+	public synchronized String summary() {
+		StringBuilder summary = new StringBuilder();
+		summary.append(String.format("POW: %d found, %d cancelled, %d attempts, %.0f hashes/s, %.1f ms mean, %.1f bits mean%n",
+			total.getCount(), cancelled, total.getAttempts(), total.getHashRate(), total.getMeanMillis(), total.getMeanLeading()));
+		byAtomSize.forEach((size, bucket) ->
+			summary.append(String.format("  atoms <= %6d bytes: %d found, %.1f bits mean, %.1f ms mean, %.0f hashes/s%n",
+				size, bucket.getCount(), bucket.getMeanLeading(), bucket.getMeanMillis(), bucket.getHashRate()))
+		);
+		return summary.toString();
+	}
+
+	@Override
+	public String toString() {
+		return summary();
+	}
+}
@@ -0,0 +1,220 @@
+package com.radixdlt.client.core.pow;
+
+import io.reactivex.Single;
+import io.reactivex.SingleEmitter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Runs proof of work jobs on dedicated threads, off whatever thread subscribes.
+ * <p>
+ * Jobs wait in a bounded queue. {@link Priority#INTERACTIVE} jobs always run before
+ * {@link Priority#BULK} ones, and within a priority identities take turns so one
+ * identity submitting hundreds of atoms doesn't hold up everyone else. Once the queue
+ * is full further jobs fail with a {@link RejectedExecutionException}.
+ * <p>
+ * Disposing a job removes it from the queue, or if it is already running, cancels its search.
+ */
+public final class ProofOfWorkScheduler {
+	public enum Priority {
+		INTERACTIVE,
+		BULK
+	}
+
+	private static final int DEFAULT_CAPACITY = 1024;
+
+	private static class DefaultHolder {
+		// Each job already searches on every core so one thread is enough
+		private static final ProofOfWorkScheduler DEFAULT = new ProofOfWorkScheduler(1, DEFAULT_CAPACITY);
+	}
+
+	private static final class Job<T> {
+		private final Object identity;
+		private final Priority priority;
+		private final Function<BooleanSupplier, T> work;
+		private final SingleEmitter<T> emitter;
+		private final AtomicBoolean cancelled = new AtomicBoolean();
+
+		private Job(Object identity, Priority priority, Function<BooleanSupplier, T> work, SingleEmitter<T> emitter) {
+			this.identity = identity;
+			this.priority = priority;
+			this.work = work;
+			this.emitter = emitter;
+		}
+
+		private void run() {
+			final T result;
+			try {
+				result = work.apply(cancelled::get);
+			} catch (CancellationException e) {
+				// Only cancelled once disposed, so there is no one left to tell
+				return;
+			} catch (RuntimeException e) {
+				emitter.tryOnError(e);
+				return;
+			}
+			emitter.onSuccess(result);
+		}
+	}
+
+	private final Object lock = new Object();
+	private final Map<Priority, LinkedHashMap<Object, ArrayDeque<Job<?>>>> queues = new EnumMap<>(Priority.class);
+	private final int capacity;
+	private final List<Thread> threads;
+	private int queued;
+	private boolean shutdown;
+
+	/**
+	 * @param threads number of jobs to run at once
+	 * @param capacity maximum number of jobs waiting to run
+	 */
+	public ProofOfWorkScheduler(int threads, int capacity) {
+		if (threads < 1 || capacity < 1) {
+			throw new IllegalArgumentException("Threads and capacity must be at least 1 but were " + threads + " and " + capacity);
+		}
+
+		for (Priority priority : Priority.values()) {
+			queues.put(priority, new LinkedHashMap<>());
+		}
+
+		this.capacity = capacity;
+		this.threads = new ArrayList<>(threads);
+		for (int i = 0; i < threads; i++) {
+			Thread thread = new Thread(this::runJobs, "radix-pow-" + i);
+			thread.setDaemon(true);
+			this.threads.add(thread);
+			thread.start();
+		}
+	}
+
+	/**
+	 * @return scheduler shared by everything which doesn't supply its own
+	 */
+	public static ProofOfWorkScheduler getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	/**
+	 * Queues a job when subscribed to.
+	 *
+	 * @param identity who the job is for, jobs for different identities take turns
+	 * @param priority which queue the job waits in
+	 * @param work the job, given a flag to poll which turns true once the job is disposed
+	 * @param <T> result type
+	 * @return the result of the job, or {@link RejectedExecutionException} if the queue was full
+	 */
+	public <T> Single<T> schedule(Object identity, Priority priority, Function<BooleanSupplier, T> work) {
+		return Single.create(emitter -> {
+			Job<T> job = new Job<>(identity, priority, work, emitter);
+			emitter.setCancellable(() -> cancel(job));
+			enqueue(job);
+		});
+	}
+
+	/**
+	 * @return number of jobs waiting to run
+	 */
+	public int getQueued() {
+		synchronized (lock) {
+			return queued;
+		}
+	}
+
+	/**
+	 * Stops the threads once their current jobs finish. Jobs still waiting fail with {@link RejectedExecutionException}.
+	 */
+	public void shutdown() {
+		List<Job<?>> rejected = new ArrayList<>();
+		synchronized (lock) {
+			shutdown = true;
+			for (LinkedHashMap<Object, ArrayDeque<Job<?>>> queue : queues.values()) {
+				queue.values().forEach(rejected::addAll);
+				queue.clear();
+			}
+			queued = 0;
+			lock.notifyAll();
+		}
+		rejected.forEach(job -> job.emitter.tryOnError(new RejectedExecutionException("Proof of work scheduler shut down")));
+	}
+
+	private void enqueue(Job<?> job) {
+		synchronized (lock) {
+			if (job.cancelled.get()) {
+				return;
+			}
+			if (shutdown) {
+				throw new RejectedExecutionException("Proof of work scheduler shut down");
+			}
+			if (queued >= capacity) {
+				throw new RejectedExecutionException("Proof of work queue full with " + queued + " jobs");
+			}
+
+			queues.get(job.priority).computeIfAbsent(job.identity, identity -> new ArrayDeque<>()).add(job);
+			queued++;
+			lock.notify();
+		}
+	}
+
+	private void cancel(Job<?> job) {
+		job.cancelled.set(true);
+		synchronized (lock) {
+			LinkedHashMap<Object, ArrayDeque<Job<?>>> queue = queues.get(job.priority);
+			ArrayDeque<Job<?>> jobs = queue.get(job.identity);
+			if (jobs != null && jobs.remove(job)) {
+				queued--;
+				if (jobs.isEmpty()) {
+					queue.remove(job.identity);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Takes the next job of the oldest waiting identity, moving that identity to the back of the line.
+	 *
+	 * @return the next job, or null once shut down
+	 */
+	private Job<?> take() throws InterruptedException {
+		synchronized (lock) {
+			while (!shutdown) {
+				for (LinkedHashMap<Object, ArrayDeque<Job<?>>> queue : queues.values()) {
+					Iterator<Entry<Object, ArrayDeque<Job<?>>>> identities = queue.entrySet().iterator();
+					if (identities.hasNext()) {
+						Entry<Object, ArrayDeque<Job<?>>> next = identities.next();
+						identities.remove();
+						ArrayDeque<Job<?>> jobs = next.getValue();
+						Job<?> job = jobs.poll();
+						if (!jobs.isEmpty()) {
+							queue.put(next.getKey(), jobs);
+						}
+						queued--;
+						return job;
+					}
+				}
+				lock.wait();
+			}
+			return null;
+		}
+	}
+
+	private void runJobs() {
+		try {
+			for (Job<?> job = take(); job != null; job = take()) {
+				job.run();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
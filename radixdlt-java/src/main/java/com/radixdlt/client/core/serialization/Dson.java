@@ -4,31 +4,18 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
-import com.google.gson.annotations.SerializedName;
-import com.radixdlt.client.core.address.EUID;
-import com.radixdlt.client.core.util.Base64Encoded;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import okio.ByteString;
 import org.bouncycastle.util.encoders.Base64;
 
 public class Dson {
-	private enum Primitive {
+	/**
+	 * Type tags of encoded DSON values
+	 */
+	public enum Primitive {
 		NUMBER(2),
 		STRING(3),
 		BYTES(4),
@@ -37,22 +24,26 @@ public class Dson {
 		EUID(7),
 		HASH(8);
 
+		private static final Primitive[] VALUES = values();
+
 		private final int value;
 
 		Primitive(int value) {
 			this.value = value;
 		}
-	}
 
-	private static byte[] longToByteArray(long value) {
-		byte[] result = new byte[8];
-
-		for (int i = 7; i >= 0; i--) {
-			result[i] = (byte) (value & 0xffL);
-			value >>= 8;
+		byte code() {
+			return (byte) value;
 		}
 
-		return result;
+		static Primitive of(int code) {
+			for (Primitive primitive : VALUES) {
+				if (primitive.value == code) {
+					return primitive;
+				}
+			}
+			throw new IllegalStateException("Unknown type: " + code);
+		}
 	}
 
 	private static final Dson DSON = new Dson();
@@ -132,144 +123,99 @@ public class Dson {
 		return parse(ByteBuffer.wrap(buffer));
 	}
 
-	private interface DsonField {
-		String getName();
-		byte[] getBytes();
+	/**
+	 * Computes the exact number of bytes {@link #toDson(Object)} will produce for an object
+	 * without encoding it.
+	 *
+	 * @param o object to size
+	 * @return length of the DSON encoding of the object
+	 */
+	public int sizeOf(Object o) {
+		return DsonWriter.sizeOf(o);
 	}
 
-	private DsonField versionField = new DsonField() {
-		@Override
-		public String getName() {
-			return "version";
-		}
-
-		@Override
-		public byte[] getBytes() {
-			return toDson(100L);
-		}
-	};
-
-	private Collector<DsonField, ?, byte[]> toByteArray = Collectors.collectingAndThen(Collectors.toList(), list -> {
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		list.forEach(dsonField -> {
-			try {
-				byte[] nameBytes = dsonField.getName().getBytes(StandardCharsets.UTF_8);
-				outputStream.write(nameBytes.length);
-				outputStream.write(nameBytes);
-				outputStream.write(dsonField.getBytes());
-			} catch (IOException e) {
-				throw new RuntimeException();
-			}
-		});
-		return outputStream.toByteArray();
-	});
+	/**
+	 * Reads DSON straight into an instance of a class, see {@link DsonReader#read(Class)}
+	 *
+	 * @param dson encoded bytes
+	 * @param type class to bind to
+	 * @param <T> type of the result
+	 * @return the decoded object
+	 */
+	public <T> T fromDson(byte[] dson, Class<T> type) {
+		return DsonReader.of(dson).read(type);
+	}
 
 	public byte[] toDson(Object o) {
-		final byte[] raw;
-		final byte type;
+		byte[] dson = new byte[sizeOf(o)];
+		DsonWriter.to(ByteBuffer.wrap(dson)).write(o);
+		return dson;
+	}
 
-		if (o == null) {
-			throw new IllegalArgumentException("Null sent");
-		} else if (o instanceof Collection) {
-			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-			Collection collection = (Collection) o;
-			for (Object arrayObject : collection) {
-				try {
-					byte[] arrayObjRaw = toDson(arrayObject);
-					outputStream.write(arrayObjRaw);
-				} catch (IOException e) {
-					throw new RuntimeException();
-				}
+	/**
+	 * Appends a value to an array field of an encoded object, without re-encoding the
+	 * rest of the object. If the object has no such field yet it is added in field order.
+	 * The result is the same as encoding the object with the value appended to the array.
+	 *
+	 * @param object DSON encoding of an object
+	 * @param field name of the array field
+	 * @param element value to append
+	 * @return encoding of the object with the value appended
+	 */
+	public byte[] appendToArrayField(byte[] object, String field, Object element) {
+		ByteBuffer byteBuffer = ByteBuffer.wrap(object);
+		if (byteBuffer.get() != Primitive.OBJECT.code()) {
+			throw new IllegalArgumentException("Not an encoded object");
+		}
+		final int objectEnd = byteBuffer.getInt() + byteBuffer.position();
+		final byte[] elementDson = toDson(element);
+
+		while (byteBuffer.position() < objectEnd) {
+			final int fieldStart = byteBuffer.position();
+			byte[] fieldName = new byte[byteBuffer.get() & 0xFF];
+			byteBuffer.get(fieldName);
+			int cmp = new String(fieldName, StandardCharsets.UTF_8).compareTo(field);
+			if (cmp > 0) {
+				return insertField(object, fieldStart, field, elementDson);
 			}
-			raw = outputStream.toByteArray();
-			type = 6;
-		} else if (o instanceof Long) {
-			raw = longToByteArray((Long) o);
-			type = 2;
-		} else if (o instanceof Number) {
-			throw new IllegalStateException("A number must be a long to be serialized in Dson: " + o);
-		} else if (o instanceof EUID) {
-			raw = ((EUID) o).bigInteger().toByteArray();
-			type = 7;
-		} else if (o instanceof Base64Encoded) {
-			raw = ((Base64Encoded) o).toByteArray();
-			type = 4;
-		} else if (o instanceof String) {
-			raw = ((String) o).getBytes();
-			type = 3;
-		} else if (o instanceof byte[]) {
-			raw = (byte[]) o;
-			type = 4;
-		} else if (o instanceof Map) {
-
-			final Map<?, ?> map = (Map) o;
-			Stream<DsonField> fieldStream = map.keySet().stream().map(key -> new DsonField() {
-				@Override
-				public String getName() {
-					return key.toString();
-				}
 
-				@Override
-				public byte[] getBytes() {
-					return toDson(map.get(key));
+			final int valueStart = byteBuffer.position();
+			final byte type = byteBuffer.get();
+			final int length = byteBuffer.getInt();
+			if (cmp == 0) {
+				if (type != Primitive.ARRAY.code()) {
+					throw new IllegalArgumentException("Field " + field + " is not an array");
 				}
-			});
-
-			raw = fieldStream.sorted(Comparator.comparing(DsonField::getName)).collect(toByteArray);
-			type = 5;
-		} else if (o instanceof HasOrdinalValue) { // HACK
-			raw = longToByteArray(((HasOrdinalValue) o).ordinalValue());
-			type = 2;
-		} else {
-			Class c = o.getClass();
-			List<Field> fields = new ArrayList<>();
-			while (c != Object.class) {
-				fields.addAll(Arrays.asList(c.getDeclaredFields()));
-				c = c.getSuperclass();
+				byte[] result = splice(object, byteBuffer.position() + length, elementDson);
+				ByteBuffer.wrap(result).putInt(1, objectEnd - 5 + elementDson.length)
+					.putInt(valueStart + 1, length + elementDson.length);
+				return result;
 			}
-
-			Stream<DsonField> fieldStream = fields.stream()
-				.filter(field -> !field.getName().equalsIgnoreCase("signatures"))
-				.filter(field -> !field.getName().equalsIgnoreCase("serialVersionUID"))
-				.filter(field -> !Modifier.isTransient(field.getModifiers()))
-				.filter(field -> {
-					try {
-						field.setAccessible(true);
-						return field.get(o) != null;
-					} catch (IllegalAccessException e) {
-						throw new RuntimeException();
-					}
-				})
-				.map(field -> new DsonField() {
-					@Override
-					public String getName() {
-						SerializedName serializedName = field.getAnnotation(SerializedName.class);
-						return serializedName == null ? field.getName() : serializedName.value();
-					}
-
-					@Override
-					public byte[] getBytes() {
-						try {
-							field.setAccessible(true);
-							Object fieldObject = field.get(o);
-							return toDson(fieldObject);
-						} catch (IllegalAccessException e) {
-							throw new RuntimeException();
-						}
-					}
-				});
-
-			raw = Stream.concat(fieldStream, Stream.of(versionField))
-				.sorted(Comparator.comparing(DsonField::getName))
-				.collect(toByteArray);
-			type = 5;
+			byteBuffer.position(byteBuffer.position() + length);
 		}
 
-		ByteBuffer byteBuffer = ByteBuffer.allocate(5 + raw.length);
-		byteBuffer.put(type);
-		byteBuffer.putInt(raw.length);
-		byteBuffer.put(raw);
+		return insertField(object, objectEnd, field, elementDson);
+	}
 
-		return byteBuffer.array();
+	private static byte[] insertField(byte[] object, int position, String field, byte[] elementDson) {
+		byte[] fieldName = field.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer fieldDson = ByteBuffer.allocate(1 + fieldName.length + 5 + elementDson.length);
+		fieldDson.put((byte) fieldName.length);
+		fieldDson.put(fieldName);
+		fieldDson.put(Primitive.ARRAY.code());
+		fieldDson.putInt(elementDson.length);
+		fieldDson.put(elementDson);
+
+		byte[] result = splice(object, position, fieldDson.array());
+		ByteBuffer.wrap(result).putInt(1, object.length - 5 + fieldDson.capacity());
+		return result;
+	}
+
+	private static byte[] splice(byte[] bytes, int position, byte[] insert) {
+		byte[] result = new byte[bytes.length + insert.length];
+		System.arraycopy(bytes, 0, result, 0, position);
+		System.arraycopy(insert, 0, result, position, insert.length);
+		System.arraycopy(bytes, position, result, position + insert.length, bytes.length - position);
+		return result;
 	}
 }
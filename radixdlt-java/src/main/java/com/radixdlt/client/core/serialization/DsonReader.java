@@ -0,0 +1,443 @@
+package com.radixdlt.client.core.serialization;
+
+import com.radixdlt.client.core.address.EUID;
+import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.atoms.Particle;
+import com.radixdlt.client.core.serialization.Dson.Primitive;
+import com.radixdlt.client.core.util.Base64Encoded;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cursor over DSON encoded bytes which reads values in place, without building an
+ * intermediate JSON tree. Bytes and hashes are returned as slices of the underlying
+ * buffer rather than copies.
+ * <p>
+ * Besides the typed accessors, {@link #read(Class)} binds an encoded object straight
+ * into an instance of a class. Fields are matched by serialized name, unknown fields are
+ * skipped and {@link Atom}s and {@link Particle}s are resolved to their concrete class
+ * through their serializer field.
+ */
+public final class DsonReader {
+	private static final byte[] SERIALIZER_NAME = "serializer".getBytes(StandardCharsets.UTF_8);
+	private static final MethodType BYTES_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, byte[].class);
+	private static final ConcurrentHashMap<Class<?>, MethodHandle> BYTES_CONSTRUCTORS = new ConcurrentHashMap<>();
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * End positions of the objects and arrays currently being read
+	 */
+	private int[] ends = new int[8];
+	private int depth;
+
+	private DsonReader(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Creates a reader starting at the current position of a buffer. The buffer itself
+	 * is not moved, the reader works on a view of it.
+	 *
+	 * @param buffer buffer containing DSON
+	 * @return a reader over the buffer
+	 */
+	public static DsonReader of(ByteBuffer buffer) {
+		return new DsonReader(buffer.duplicate());
+	}
+
+	public static DsonReader of(byte[] dson) {
+		return new DsonReader(ByteBuffer.wrap(dson));
+	}
+
+	/**
+	 * @return position of the reader within its buffer
+	 */
+	public int position() {
+		return buffer.position();
+	}
+
+	/**
+	 * @return type of the next value, without consuming it
+	 */
+	public Primitive peek() {
+		return Primitive.of(buffer.get(buffer.position()));
+	}
+
+	private int expect(Primitive type) {
+		final int position = buffer.position();
+		final int code = buffer.get();
+		if (code != type.code()) {
+			throw new IllegalStateException("Expected " + type + " but was " + Primitive.of(code) + " at " + position);
+		}
+
+		final int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalStateException("Invalid length " + length + " at " + position);
+		}
+		return length;
+	}
+
+	private ByteBuffer slice(int length) {
+		ByteBuffer slice = buffer.slice();
+		slice.limit(length);
+		buffer.position(buffer.position() + length);
+		return slice;
+	}
+
+	private static byte[] toByteArray(ByteBuffer slice) {
+		byte[] bytes = new byte[slice.remaining()];
+		slice.get(bytes);
+		return bytes;
+	}
+
+	public long readLong() {
+		final int length = expect(Primitive.NUMBER);
+		if (length != Long.BYTES) {
+			throw new IllegalStateException("Invalid number length: " + length);
+		}
+		return buffer.getLong();
+	}
+
+	public String readString() {
+		final int length = expect(Primitive.STRING);
+		final String s;
+		if (buffer.hasArray()) {
+			// Same platform charset the encoder uses
+			s = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+			buffer.position(buffer.position() + length);
+		} else {
+			s = new String(toByteArray(slice(length)));
+		}
+		return s;
+	}
+
+	/**
+	 * @return slice of the underlying buffer holding the bytes
+	 */
+	public ByteBuffer readBytes() {
+		return slice(expect(Primitive.BYTES));
+	}
+
+	/**
+	 * @return slice of the underlying buffer holding the hash
+	 */
+	public ByteBuffer readHash() {
+		return slice(expect(Primitive.HASH));
+	}
+
+	public EUID readEUID() {
+		return new EUID(toByteArray(slice(expect(Primitive.EUID))));
+	}
+
+	private void push(int length) {
+		if (depth == ends.length) {
+			ends = Arrays.copyOf(ends, depth * 2);
+		}
+		ends[depth++] = buffer.position() + length;
+	}
+
+	private void pop() {
+		if (depth == 0) {
+			throw new IllegalStateException("Not inside an object or array");
+		}
+		buffer.position(ends[--depth]);
+	}
+
+	public void beginObject() {
+		push(expect(Primitive.OBJECT));
+	}
+
+	/**
+	 * Leaves the current object, skipping any fields which have not been read
+	 */
+	public void endObject() {
+		pop();
+	}
+
+	public void beginArray() {
+		push(expect(Primitive.ARRAY));
+	}
+
+	/**
+	 * Leaves the current array, skipping any elements which have not been read
+	 */
+	public void endArray() {
+		pop();
+	}
+
+	/**
+	 * @return whether the current object or array has more fields or elements
+	 */
+	public boolean hasNext() {
+		if (depth == 0) {
+			throw new IllegalStateException("Not inside an object or array");
+		}
+		return buffer.position() < ends[depth - 1];
+	}
+
+	public String nextName() {
+		final int length = buffer.get() & 0xFF;
+		return new String(toByteArray(slice(length)), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Skips the next value, returning a view of its whole encoding
+	 */
+	private ByteBuffer valueSlice() {
+		final int start = buffer.position();
+		skipValue();
+		final ByteBuffer value = buffer.duplicate();
+		value.limit(buffer.position());
+		value.position(start);
+		return value.slice();
+	}
+
+	public void skipValue() {
+		buffer.get();
+		final int length = buffer.getInt();
+		buffer.position(buffer.position() + length);
+	}
+
+	/**
+	 * Reads the next value into an instance of a class
+	 *
+	 * @param type class to bind the value to
+	 * @param <T> type of the value
+	 * @return the bound value
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T read(Class<T> type) {
+		return (T) readValue(type);
+	}
+
+	private static Class<?> rawType(Type type) {
+		if (type instanceof Class) {
+			return (Class<?>) type;
+		} else if (type instanceof ParameterizedType) {
+			return (Class<?>) ((ParameterizedType) type).getRawType();
+		} else if (type instanceof WildcardType) {
+			return rawType(((WildcardType) type).getUpperBounds()[0]);
+		} else if (type instanceof GenericArrayType) {
+			throw new IllegalStateException("Cannot read arrays of " + ((GenericArrayType) type).getGenericComponentType());
+		} else {
+			return Object.class;
+		}
+	}
+
+	private static Type typeArgument(Type type, int index) {
+		if (type instanceof ParameterizedType) {
+			return ((ParameterizedType) type).getActualTypeArguments()[index];
+		}
+		return Object.class;
+	}
+
+	private Object readValue(Type type) {
+		final Class<?> raw = rawType(type);
+
+		if (raw == long.class || raw == Long.class) {
+			return readLong();
+		} else if (raw == int.class || raw == Integer.class) {
+			return (int) readLong();
+		} else if (raw == String.class) {
+			return readString();
+		} else if (raw == byte[].class) {
+			return toByteArray(readBytes());
+		} else if (raw == EUID.class) {
+			return readEUID();
+		} else if (Base64Encoded.class.isAssignableFrom(raw)) {
+			return fromBytes(raw, toByteArray(readBytes()));
+		} else if (raw.isEnum() && HasOrdinalValue.class.isAssignableFrom(raw)) { // HACK
+			return fromOrdinalValue(raw, readLong());
+		} else if (Collection.class.isAssignableFrom(raw)) {
+			return readCollection(raw, typeArgument(type, 0));
+		} else if (Map.class.isAssignableFrom(raw)) {
+			return readMap(raw, typeArgument(type, 1));
+		} else if (raw == Atom.class) {
+			long serializer = peekSerializer();
+			Optional<SerializedAtomType> atomType = SerializedAtomType.valueOf(serializer);
+			if (!atomType.isPresent()) {
+				throw new IllegalStateException("Unknown Atom Serializer: " + serializer);
+			}
+			return readObject(atomType.get().getAtomClass());
+		} else if (raw == Particle.class) {
+			long serializer = peekSerializer();
+			Optional<SerializedParticleType> particleType = SerializedParticleType.valueOf(serializer);
+			if (!particleType.isPresent()) {
+				throw new IllegalStateException("Unknown particle serializer: " + serializer);
+			}
+			return readObject(particleType.get().getParticleClass());
+		} else if (raw == Object.class || raw.isPrimitive() || raw.isArray()) {
+			throw new IllegalStateException("Cannot read " + peek() + " into " + type);
+		} else {
+			return readObject(raw);
+		}
+	}
+
+	private Collection<Object> readCollection(Class<?> raw, Type elementType) {
+		final Collection<Object> collection;
+		if (raw.isAssignableFrom(ArrayList.class)) {
+			collection = new ArrayList<>();
+		} else if (raw.isAssignableFrom(LinkedHashSet.class)) {
+			collection = new LinkedHashSet<>();
+		} else {
+			throw new IllegalStateException("Unsupported collection type: " + raw);
+		}
+
+		beginArray();
+		while (hasNext()) {
+			collection.add(readValue(elementType));
+		}
+		endArray();
+		return collection;
+	}
+
+	private Map<String, Object> readMap(Class<?> raw, Type valueType) {
+		if (!raw.isAssignableFrom(LinkedHashMap.class)) {
+			throw new IllegalStateException("Unsupported map type: " + raw);
+		}
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		beginObject();
+		while (hasNext()) {
+			String name = nextName();
+			map.put(name, readValue(valueType));
+		}
+		endObject();
+		return map;
+	}
+
+	private Object readObject(Class<?> c) {
+		final FieldPlan plan = FieldPlan.of(c);
+		final List<FieldPlan.BoundField> fields = plan.getBoundFields();
+		final Object o = plan.newInstance();
+		LazyFields lazyFields = null;
+
+		beginObject();
+		int hint = 0;
+		while (hasNext()) {
+			final int nameLength = buffer.get() & 0xFF;
+			final int namePosition = buffer.position();
+			buffer.position(namePosition + nameLength);
+
+			final int index = findField(fields, namePosition, nameLength, hint);
+			if (index < 0) {
+				skipValue();
+			} else {
+				FieldPlan.BoundField field = fields.get(index);
+				if (field.isLazy() && plan.hasLazyFields()) {
+					if (lazyFields == null) {
+						lazyFields = new LazyFields();
+					}
+					final ByteBuffer value = valueSlice();
+					lazyFields.add(() -> field.set(o, new DsonReader(value).readValue(field.getType())));
+				} else {
+					field.set(o, readValue(field.getType()));
+				}
+				hint = index + 1;
+			}
+		}
+		endObject();
+
+		if (lazyFields != null) {
+			plan.setLazyFields(o, lazyFields);
+		}
+
+		return o;
+	}
+
+	private boolean nameEquals(int namePosition, int nameLength, byte[] name) {
+		if (nameLength != name.length) {
+			return false;
+		}
+
+		for (int i = 0; i < nameLength; i++) {
+			if (buffer.get(namePosition + i) != name[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Finds a field by its encoded name. Both the encoding and the plan are sorted by
+	 * name so the search starts after the previously matched field.
+	 */
+	private int findField(List<FieldPlan.BoundField> fields, int namePosition, int nameLength, int hint) {
+		final int size = fields.size();
+		for (int i = 0; i < size; i++) {
+			final int index = (hint + i) % size;
+			if (nameEquals(namePosition, nameLength, fields.get(index).getNameBytes())) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Looks ahead in the next object for its serializer, leaving the reader where it was
+	 */
+	private long peekSerializer() {
+		final int start = buffer.position();
+		try {
+			final int end = expect(Primitive.OBJECT) + buffer.position();
+			while (buffer.position() < end) {
+				final int nameLength = buffer.get() & 0xFF;
+				final int namePosition = buffer.position();
+				buffer.position(namePosition + nameLength);
+				if (nameEquals(namePosition, nameLength, SERIALIZER_NAME) && peek() == Primitive.NUMBER) {
+					return readLong();
+				}
+				skipValue();
+			}
+		} finally {
+			buffer.position(start);
+		}
+
+		throw new IllegalStateException("Missing serializer at " + start);
+	}
+
+	private static Object fromBytes(Class<?> c, byte[] bytes) {
+		MethodHandle constructor = BYTES_CONSTRUCTORS.computeIfAbsent(c, type -> {
+			try {
+				Constructor<?> bytesConstructor = type.getDeclaredConstructor(byte[].class);
+				bytesConstructor.setAccessible(true);
+				return MethodHandles.lookup().unreflectConstructor(bytesConstructor).asType(BYTES_CONSTRUCTOR_TYPE);
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				throw new IllegalStateException("No byte[] constructor for " + type, e);
+			}
+		});
+
+		try {
+			return (Object) constructor.invokeExact(bytes);
+		} catch (Throwable t) {
+			throw new IllegalStateException("Unable to create " + c, t);
+		}
+	}
+
+	private static Object fromOrdinalValue(Class<?> c, long ordinalValue) {
+		for (Object constant : c.getEnumConstants()) {
+			if (((HasOrdinalValue) constant).ordinalValue() == ordinalValue) {
+				return constant;
+			}
+		}
+		throw new IllegalStateException("No " + c.getSimpleName() + " of value: " + ordinalValue);
+	}
+}
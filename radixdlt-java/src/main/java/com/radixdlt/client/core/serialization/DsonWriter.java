@@ -0,0 +1,540 @@
+package com.radixdlt.client.core.serialization;
+
+import com.radixdlt.client.core.address.EUID;
+import com.radixdlt.client.core.serialization.Dson.Primitive;
+import com.radixdlt.client.core.util.Base64Encoded;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Streaming DSON encoder which writes straight into a sink instead of building
+ * a byte array per nested value.
+ * <p>
+ * Seekable sinks (ByteBuffers) reserve the length of each object and array and
+ * back-patch it once the contents have been written. Forward only sinks
+ * (OutputStreams and MessageDigests) measure the value in a first pass and then
+ * write the lengths up front.
+ */
+public final class DsonWriter {
+	private abstract static class Sink {
+		abstract int position();
+
+		abstract void put(byte b);
+
+		abstract void put(byte[] bytes, int offset, int length);
+
+		abstract void putInt(int value);
+
+		abstract void putLong(long value);
+
+		void flush() {
+		}
+	}
+
+	/**
+	 * Sink which can overwrite what has already been written to it, so lengths can be back-patched
+	 */
+	private abstract static class SeekableSink extends Sink {
+		abstract void putIntAt(int position, int value);
+	}
+
+	/**
+	 * Writes into a buffer, growing it when it runs out of space. DSON is big endian whatever the
+	 * order of the buffer, so numbers are written byte by byte rather than in the buffer's order.
+	 */
+	private static final class ByteBufferSink extends SeekableSink {
+		private ByteBuffer buffer;
+
+		private ByteBufferSink(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		private void ensureRemaining(int length) {
+			if (buffer.remaining() >= length) {
+				return;
+			}
+
+			int capacity = Math.max(buffer.capacity() * 2, buffer.position() + length);
+			ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+			grown.order(buffer.order());
+			buffer.flip();
+			grown.put(buffer);
+			buffer = grown;
+		}
+
+		@Override
+		int position() {
+			return buffer.position();
+		}
+
+		@Override
+		void put(byte b) {
+			ensureRemaining(1);
+			buffer.put(b);
+		}
+
+		@Override
+		void put(byte[] bytes, int offset, int length) {
+			ensureRemaining(length);
+			buffer.put(bytes, offset, length);
+		}
+
+		@Override
+		void putInt(int value) {
+			ensureRemaining(Integer.BYTES);
+			putIntAt(buffer.position(), value);
+			buffer.position(buffer.position() + Integer.BYTES);
+		}
+
+		@Override
+		void putLong(long value) {
+			ensureRemaining(Long.BYTES);
+			final int position = buffer.position();
+			for (int i = 0; i < Long.BYTES; i++) {
+				buffer.put(position + i, (byte) (value >>> (Long.SIZE - Byte.SIZE * (i + 1))));
+			}
+			buffer.position(position + Long.BYTES);
+		}
+
+		@Override
+		void putIntAt(int position, int value) {
+			for (int i = 0; i < Integer.BYTES; i++) {
+				buffer.put(position + i, (byte) (value >>> (Integer.SIZE - Byte.SIZE * (i + 1))));
+			}
+		}
+	}
+
+	/**
+	 * Forward only sink which stages writes in a small array so that the underlying
+	 * stream or digest sees a few bulk updates rather than one call per byte.
+	 * Lengths written into it come from the measuring pass of {@link #write(Object)}.
+	 */
+	private abstract static class StagedSink extends Sink {
+		private final byte[] stage = new byte[512];
+		private int staged;
+		private int position;
+
+		abstract void drain(byte[] bytes, int offset, int length);
+
+		@Override
+		int position() {
+			return position;
+		}
+
+		@Override
+		void put(byte b) {
+			if (staged == stage.length) {
+				flush();
+			}
+			stage[staged++] = b;
+			position++;
+		}
+
+		@Override
+		void put(byte[] bytes, int offset, int length) {
+			if (length > stage.length - staged) {
+				flush();
+				if (length > stage.length) {
+					drain(bytes, offset, length);
+					position += length;
+					return;
+				}
+			}
+			System.arraycopy(bytes, offset, stage, staged, length);
+			staged += length;
+			position += length;
+		}
+
+		@Override
+		void putInt(int value) {
+			if (stage.length - staged < Integer.BYTES) {
+				flush();
+			}
+			for (int i = Integer.BYTES - 1; i >= 0; i--) {
+				stage[staged + i] = (byte) value;
+				value >>= 8;
+			}
+			staged += Integer.BYTES;
+			position += Integer.BYTES;
+		}
+
+		@Override
+		void putLong(long value) {
+			if (stage.length - staged < Long.BYTES) {
+				flush();
+			}
+			for (int i = Long.BYTES - 1; i >= 0; i--) {
+				stage[staged + i] = (byte) value;
+				value >>= 8;
+			}
+			staged += Long.BYTES;
+			position += Long.BYTES;
+		}
+
+		@Override
+		void flush() {
+			if (staged > 0) {
+				drain(stage, 0, staged);
+				staged = 0;
+			}
+		}
+	}
+
+	private static final class OutputStreamSink extends StagedSink {
+		private final OutputStream outputStream;
+
+		private OutputStreamSink(OutputStream outputStream) {
+			this.outputStream = outputStream;
+		}
+
+		@Override
+		void drain(byte[] bytes, int offset, int length) {
+			try {
+				outputStream.write(bytes, offset, length);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private static final class DigestSink extends StagedSink {
+		private final MessageDigest messageDigest;
+
+		private DigestSink(MessageDigest messageDigest) {
+			this.messageDigest = messageDigest;
+		}
+
+		@Override
+		void drain(byte[] bytes, int offset, int length) {
+			messageDigest.update(bytes, offset, length);
+		}
+	}
+
+	private static final boolean ASCII_COMPATIBLE_CHARSET;
+
+	static {
+		char[] ascii = new char[128];
+		for (int i = 0; i < ascii.length; i++) {
+			ascii[i] = (char) i;
+		}
+		String asciiString = new String(ascii);
+		ASCII_COMPATIBLE_CHARSET = Arrays.equals(asciiString.getBytes(), asciiString.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private final Sink sink;
+
+	/**
+	 * The sink if it can back-patch lengths, otherwise null and lengths are measured up front
+	 */
+	private final SeekableSink seekableSink;
+
+	/**
+	 * Content lengths of every object and array in pre-order, only used by forward only sinks
+	 */
+	private int[] lengths = new int[0];
+	private int lengthCount;
+	private int lengthIndex;
+
+	/**
+	 * Holds the bytes of an EUID while they are written
+	 */
+	private byte[] euidBytes = new byte[12];
+
+	/**
+	 * Writes the bytes of byte fields straight from their backing arrays
+	 */
+	private final Base64Encoded.BytesConsumer sinkBytes;
+
+	private DsonWriter(Sink sink) {
+		this.sink = sink;
+		this.seekableSink = sink instanceof SeekableSink ? (SeekableSink) sink : null;
+		this.sinkBytes = (bytes, offset, length) -> this.sink.put(bytes, offset, length);
+	}
+
+	/**
+	 * Creates a writer which appends to a buffer, starting at its current position. If the
+	 * buffer runs out of space it is replaced by a larger buffer of the same kind (heap or direct)
+	 * which can be retrieved with {@link #getBuffer()}.
+	 *
+	 * @param buffer buffer to write into
+	 * @return a writer into the buffer
+	 */
+	public static DsonWriter to(ByteBuffer buffer) {
+		Objects.requireNonNull(buffer);
+		return new DsonWriter(new ByteBufferSink(buffer));
+	}
+
+	/**
+	 * Creates a writer which streams into an OutputStream. Lengths cannot be back-patched
+	 * in a stream so each written value is measured before it is encoded.
+	 *
+	 * @param outputStream stream to write into
+	 * @return a writer into the stream
+	 */
+	public static DsonWriter to(OutputStream outputStream) {
+		Objects.requireNonNull(outputStream);
+		return new DsonWriter(new OutputStreamSink(outputStream));
+	}
+
+	/**
+	 * Creates a writer which feeds the encoding straight into a digest, for callers
+	 * which only need the hash of an object and not its bytes. Like a stream, a digest
+	 * is forward only so each written value is measured before it is encoded.
+	 *
+	 * @param messageDigest digest to update
+	 * @return a writer into the digest
+	 */
+	public static DsonWriter to(MessageDigest messageDigest) {
+		Objects.requireNonNull(messageDigest);
+		return new DsonWriter(new DigestSink(messageDigest));
+	}
+
+	/**
+	 * @return the buffer written into, which may be a grown copy of the original buffer
+	 * @throws IllegalStateException if this writer is not writing into a buffer
+	 */
+	public ByteBuffer getBuffer() {
+		if (!(sink instanceof ByteBufferSink)) {
+			throw new IllegalStateException("Writer is not backed by a ByteBuffer");
+		}
+		return ((ByteBufferSink) sink).buffer;
+	}
+
+	/**
+	 * @return total number of bytes written by this writer
+	 */
+	public int getBytesWritten() {
+		return sink.position();
+	}
+
+	/**
+	 * Encodes an object as DSON into the sink of this writer
+	 *
+	 * @param o object to encode
+	 * @return this writer
+	 */
+	public DsonWriter write(Object o) {
+		if (seekableSink == null) {
+			lengthCount = 0;
+			lengthIndex = 0;
+			measure(o, true);
+		}
+
+		writeValue(o);
+		sink.flush();
+		return this;
+	}
+
+	/**
+	 * Computes the exact length of the DSON encoding of an object without encoding it.
+	 *
+	 * @param o object to size
+	 * @return number of bytes the encoding of the object takes
+	 */
+	static int sizeOf(Object o) {
+		return new DsonWriter(null).measure(o, false);
+	}
+
+	private static boolean isAscii(String s) {
+		if (!ASCII_COMPATIBLE_CHARSET) {
+			return false;
+		}
+
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) >= 0x80) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static List<Map.Entry<?, ?>> sortedEntries(Map<?, ?> map) {
+		List<Map.Entry<?, ?>> entries = new ArrayList<>(map.entrySet());
+		if (entries.size() > 1) {
+			entries.sort(Comparator.comparing(entry -> entry.getKey().toString()));
+		}
+		return entries;
+	}
+
+	private int reserveLength(boolean record) {
+		if (!record) {
+			return -1;
+		}
+
+		if (lengthCount == lengths.length) {
+			lengths = Arrays.copyOf(lengths, Math.max(16, lengths.length * 2));
+		}
+		return lengthCount++;
+	}
+
+	private void recordLength(int index, int length) {
+		if (index >= 0) {
+			lengths[index] = length;
+		}
+	}
+
+	/**
+	 * Computes the length of a value, optionally recording the content length of
+	 * every object and array in the order they will be written.
+	 */
+	private int measure(Object o, boolean record) {
+		final int rawLength;
+
+		if (o == null) {
+			throw new IllegalArgumentException("Null sent");
+		} else if (o instanceof Collection) {
+			final int index = reserveLength(record);
+			int length = 0;
+			for (Object arrayObject : (Collection<?>) o) {
+				length += measure(arrayObject, record);
+			}
+			recordLength(index, length);
+			rawLength = length;
+		} else if (o instanceof Long) {
+			rawLength = Long.BYTES;
+		} else if (o instanceof Number) {
+			throw new IllegalStateException("A number must be a long to be serialized in Dson: " + o);
+		} else if (o instanceof EUID) {
+			rawLength = ((EUID) o).byteLength();
+		} else if (o instanceof Base64Encoded) {
+			rawLength = ((Base64Encoded) o).byteLength();
+		} else if (o instanceof String) {
+			String s = (String) o;
+			rawLength = isAscii(s) ? s.length() : s.getBytes().length;
+		} else if (o instanceof byte[]) {
+			rawLength = ((byte[]) o).length;
+		} else if (o instanceof Map) {
+			final int index = reserveLength(record);
+			int length = 0;
+			for (Map.Entry<?, ?> entry : sortedEntries((Map<?, ?>) o)) {
+				length += 1 + entry.getKey().toString().getBytes(StandardCharsets.UTF_8).length + measure(entry.getValue(), record);
+			}
+			recordLength(index, length);
+			rawLength = length;
+		} else if (o instanceof HasOrdinalValue) { // HACK
+			rawLength = Long.BYTES;
+		} else {
+			final int index = reserveLength(record);
+			int length = 0;
+			final FieldPlan plan = FieldPlan.of(o.getClass());
+			plan.decodeLazyFields(o);
+			for (FieldPlan.PlannedField field : plan.getDsonFields()) {
+				Object fieldObject = field.get(o);
+				if (fieldObject != null) {
+					length += 1 + field.getNameBytes().length + measure(fieldObject, record);
+				}
+			}
+			recordLength(index, length);
+			rawLength = length;
+		}
+
+		return 5 + rawLength;
+	}
+
+	private int beginContainer(Primitive type) {
+		sink.put(type.code());
+		if (seekableSink != null) {
+			final int lengthPosition = sink.position();
+			sink.putInt(0);
+			return lengthPosition;
+		} else {
+			sink.putInt(lengths[lengthIndex++]);
+			return -1;
+		}
+	}
+
+	private void endContainer(int lengthPosition) {
+		if (lengthPosition >= 0) {
+			seekableSink.putIntAt(lengthPosition, sink.position() - lengthPosition - Integer.BYTES);
+		}
+	}
+
+	private void writeRaw(Primitive type, byte[] raw) {
+		sink.put(type.code());
+		sink.putInt(raw.length);
+		sink.put(raw, 0, raw.length);
+	}
+
+	private void writeValue(Object o) {
+		if (o == null) {
+			throw new IllegalArgumentException("Null sent");
+		} else if (o instanceof Collection) {
+			final int lengthPosition = beginContainer(Primitive.ARRAY);
+			for (Object arrayObject : (Collection<?>) o) {
+				writeValue(arrayObject);
+			}
+			endContainer(lengthPosition);
+		} else if (o instanceof Long) {
+			sink.put(Primitive.NUMBER.code());
+			sink.putInt(Long.BYTES);
+			sink.putLong((Long) o);
+		} else if (o instanceof Number) {
+			throw new IllegalStateException("A number must be a long to be serialized in Dson: " + o);
+		} else if (o instanceof EUID) {
+			final EUID euid = (EUID) o;
+			final int length = euid.byteLength();
+			if (euidBytes.length < length) {
+				euidBytes = new byte[length];
+			}
+			euid.copyBytes(euidBytes, 0);
+			sink.put(Primitive.EUID.code());
+			sink.putInt(length);
+			sink.put(euidBytes, 0, length);
+		} else if (o instanceof Base64Encoded) {
+			final Base64Encoded bytes = (Base64Encoded) o;
+			sink.put(Primitive.BYTES.code());
+			sink.putInt(bytes.byteLength());
+			bytes.readBytes(sinkBytes);
+		} else if (o instanceof String) {
+			String s = (String) o;
+			if (isAscii(s)) {
+				sink.put(Primitive.STRING.code());
+				sink.putInt(s.length());
+				for (int i = 0; i < s.length(); i++) {
+					sink.put((byte) s.charAt(i));
+				}
+			} else {
+				writeRaw(Primitive.STRING, s.getBytes());
+			}
+		} else if (o instanceof byte[]) {
+			writeRaw(Primitive.BYTES, (byte[]) o);
+		} else if (o instanceof Map) {
+			final int lengthPosition = beginContainer(Primitive.OBJECT);
+			for (Map.Entry<?, ?> entry : sortedEntries((Map<?, ?>) o)) {
+				byte[] nameBytes = entry.getKey().toString().getBytes(StandardCharsets.UTF_8);
+				sink.put((byte) nameBytes.length);
+				sink.put(nameBytes, 0, nameBytes.length);
+				writeValue(entry.getValue());
+			}
+			endContainer(lengthPosition);
+		} else if (o instanceof HasOrdinalValue) { // HACK
+			sink.put(Primitive.NUMBER.code());
+			sink.putInt(Long.BYTES);
+			sink.putLong(((HasOrdinalValue) o).ordinalValue());
+		} else {
+			final int lengthPosition = beginContainer(Primitive.OBJECT);
+			final FieldPlan plan = FieldPlan.of(o.getClass());
+			plan.decodeLazyFields(o);
+			for (FieldPlan.PlannedField field : plan.getDsonFields()) {
+				Object fieldObject = field.get(o);
+				if (fieldObject != null) {
+					sink.put((byte) field.getNameBytes().length);
+					sink.put(field.getNameBytes(), 0, field.getNameBytes().length);
+					writeValue(fieldObject);
+				}
+			}
+			endContainer(lengthPosition);
+		}
+	}
+}
@@ -0,0 +1,303 @@
+package com.radixdlt.client.core.serialization;
+
+import com.google.gson.annotations.SerializedName;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precompiled, cached view of the serializable fields of a class. The reflective walk
+ * up the class hierarchy, the name sort and the accessor lookups happen once per class
+ * instead of once per serialized or deserialized object.
+ */
+final class FieldPlan {
+	private static final ConcurrentHashMap<Class<?>, FieldPlan> PLANS = new ConcurrentHashMap<>();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * A single named entry of a plan, either backed by a field or by a constant value
+	 */
+	static final class PlannedField {
+		private final String name;
+		private final byte[] nameBytes;
+		private final MethodHandle getter;
+		private final Object constant;
+
+		private PlannedField(String name, MethodHandle getter, Object constant) {
+			this.name = name;
+			this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+			this.getter = getter;
+			this.constant = constant;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		byte[] getNameBytes() {
+			return nameBytes;
+		}
+
+		Object get(Object o) {
+			if (getter == null) {
+				return constant;
+			}
+
+			try {
+				return (Object) getter.invokeExact(o);
+			} catch (Throwable t) {
+				throw new IllegalStateException("Unable to read field " + name + " of " + o.getClass(), t);
+			}
+		}
+	}
+
+	/**
+	 * A field which is populated when reading, matched by its serialized name
+	 */
+	static final class BoundField {
+		private final String name;
+		private final byte[] nameBytes;
+		private final Type type;
+		private final MethodHandle setter;
+		private final boolean lazy;
+
+		private BoundField(String name, Type type, MethodHandle setter, boolean lazy) {
+			this.name = name;
+			this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+			this.type = type;
+			this.setter = setter;
+			this.lazy = lazy;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		byte[] getNameBytes() {
+			return nameBytes;
+		}
+
+		Type getType() {
+			return type;
+		}
+
+		/**
+		 * @return whether readers may defer decoding of this field, see {@link Lazy}
+		 */
+		boolean isLazy() {
+			return lazy;
+		}
+
+		void set(Object o, Object value) {
+			try {
+				setter.invokeExact(o, value);
+			} catch (Throwable t) {
+				throw new IllegalStateException("Unable to write field " + name + " of " + o.getClass(), t);
+			}
+		}
+	}
+
+	private final Class<?> type;
+	private final List<PlannedField> dsonFields;
+	private final List<BoundField> boundFields;
+	private final MethodHandle constructor;
+	private final MethodHandle lazyFieldsGetter;
+	private final MethodHandle lazyFieldsSetter;
+
+	private FieldPlan(Class<?> c) {
+		List<PlannedField> fields = new ArrayList<>();
+		List<BoundField> bound = new ArrayList<>();
+		Set<String> boundNames = new HashSet<>();
+		Field lazyFields = null;
+		Class<?> current = c;
+		while (current != null && current != Object.class) {
+			for (Field field : current.getDeclaredFields()) {
+				if (field.getType() == LazyFields.class && !Modifier.isStatic(field.getModifiers())) {
+					lazyFields = field;
+				}
+
+				if (field.getName().equalsIgnoreCase("serialVersionUID")
+					|| Modifier.isTransient(field.getModifiers())) {
+					continue;
+				}
+
+				SerializedName serializedName = field.getAnnotation(SerializedName.class);
+				String name = serializedName == null ? field.getName() : serializedName.value();
+
+				if (!field.getName().equalsIgnoreCase("signatures")) {
+					fields.add(new PlannedField(name, getter(field), null));
+				}
+
+				// Fields of subclasses shadow fields of the same name further up
+				if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && boundNames.add(name)) {
+					bound.add(new BoundField(name, field.getGenericType(), setter(field), field.isAnnotationPresent(Lazy.class)));
+				}
+			}
+			current = current.getSuperclass();
+		}
+		fields.add(new PlannedField("version", null, 100L));
+
+		// Stable sort so that the order matches the original stream based encoder
+		fields.sort(Comparator.comparing(PlannedField::getName));
+		bound.sort(Comparator.comparing(BoundField::getName));
+		this.type = c;
+		this.dsonFields = Collections.unmodifiableList(Arrays.asList(fields.toArray(new PlannedField[0])));
+		this.boundFields = Collections.unmodifiableList(Arrays.asList(bound.toArray(new BoundField[0])));
+		this.constructor = constructor(c);
+		this.lazyFieldsGetter = lazyFields == null ? null : getter(lazyFields);
+		this.lazyFieldsSetter = lazyFields == null ? null : setter(lazyFields);
+	}
+
+	private static MethodHandle getter(Field field) {
+		try {
+			field.setAccessible(true);
+			MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+			if (Modifier.isStatic(field.getModifiers())) {
+				getter = MethodHandles.dropArguments(getter, 0, Object.class);
+			}
+			return getter.asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to access field " + field, e);
+		}
+	}
+
+	private static MethodHandle setter(Field field) {
+		try {
+			field.setAccessible(true);
+			return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to access field " + field, e);
+		}
+	}
+
+	private static MethodHandle constructor(Class<?> c) {
+		if (Modifier.isAbstract(c.getModifiers())) {
+			return null;
+		}
+
+		try {
+			Constructor<?> constructor = c.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+		} catch (NoSuchMethodException e) {
+			// Only fails once something tries to read into the class
+			return null;
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to access constructor of " + c, e);
+		}
+	}
+
+	static FieldPlan of(Class<?> c) {
+		return PLANS.computeIfAbsent(c, FieldPlan::new);
+	}
+
+	/**
+	 * @return fields in DSON order, including the synthetic version field
+	 */
+	List<PlannedField> getDsonFields() {
+		return dsonFields;
+	}
+
+	/**
+	 * @return fields which can be read into, sorted by serialized name
+	 */
+	List<BoundField> getBoundFields() {
+		return boundFields;
+	}
+
+	/**
+	 * @param name serialized name of the field
+	 * @return the field which can be read into under that name, or null if there is none
+	 */
+	BoundField getBoundField(String name) {
+		int low = 0;
+		int high = boundFields.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			BoundField field = boundFields.get(mid);
+			int cmp = field.getName().compareTo(name);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return whether instances can hold {@link Lazy} fields which are not decoded yet
+	 */
+	boolean hasLazyFields() {
+		return lazyFieldsSetter != null;
+	}
+
+	void setLazyFields(Object o, LazyFields lazyFields) {
+		try {
+			lazyFieldsSetter.invokeExact(o, (Object) lazyFields);
+		} catch (Throwable t) {
+			throw new IllegalStateException("Unable to defer fields of " + type, t);
+		}
+	}
+
+	/**
+	 * Decodes any fields of an instance which were read lazily, so that they can be
+	 * accessed directly.
+	 *
+	 * @param o instance of the class of this plan
+	 */
+	void decodeLazyFields(Object o) {
+		if (lazyFieldsGetter == null) {
+			return;
+		}
+
+		final Object lazyFields;
+		try {
+			lazyFields = (Object) lazyFieldsGetter.invokeExact(o);
+		} catch (Throwable t) {
+			throw new IllegalStateException("Unable to read lazy fields of " + type, t);
+		}
+
+		if (lazyFields != null) {
+			((LazyFields) lazyFields).decode();
+		}
+	}
+
+	/**
+	 * Creates an instance to read into through the no-arg constructor of the class,
+	 * which may be private
+	 *
+	 * @return a new instance of the class of this plan
+	 */
+	Object newInstance() {
+		if (Modifier.isAbstract(type.getModifiers())) {
+			throw new IllegalStateException("Cannot instantiate abstract " + type);
+		}
+		if (constructor == null) {
+			throw new IllegalStateException(type + " needs a no-arg constructor to be deserialized");
+		}
+
+		try {
+			return (Object) constructor.invokeExact();
+		} catch (Throwable t) {
+			throw new IllegalStateException("Unable to instantiate " + type, t);
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.radixdlt.client.core.serialization;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field which readers may leave undecoded until it is first needed. The class
+ * declaring it must also declare a transient {@link LazyFields} field through which the
+ * readers hand over the undecoded values.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Lazy {
+}
@@ -0,0 +1,36 @@
+package com.radixdlt.client.core.serialization;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link Lazy} fields of an object which were read but not decoded yet. Each field
+ * keeps its raw value, a slice of the received DSON frame or the JSON text of the value, until decoded.
+ */
+public final class LazyFields {
+	private final List<Runnable> decoders = new ArrayList<>(4);
+	private boolean decoded;
+
+	LazyFields() {
+	}
+
+	void add(Runnable decoder) {
+		decoders.add(decoder);
+	}
+
+	/**
+	 * Decodes the fields into the object they were read for. Only the first successful
+	 * call does any work, so this is safe to call from every accessor.
+	 */
+	public synchronized void decode() {
+		if (decoded) {
+			return;
+		}
+
+		for (Runnable decoder : decoders) {
+			decoder.run();
+		}
+		decoders.clear();
+		decoded = true;
+	}
+}
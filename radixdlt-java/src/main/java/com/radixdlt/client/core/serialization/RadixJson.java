@@ -2,27 +2,17 @@ package com.radixdlt.client.core.serialization;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.radixdlt.client.core.address.EUID;
 import com.radixdlt.client.core.address.RadixUniverseType;
 import com.radixdlt.client.core.atoms.Atom;
-import com.radixdlt.client.core.atoms.AtomFeeConsumable;
-import com.radixdlt.client.core.atoms.Consumable;
-import com.radixdlt.client.core.atoms.Consumer;
-import com.radixdlt.client.core.atoms.Emission;
-import com.radixdlt.client.core.atoms.IdParticle;
-import com.radixdlt.client.core.atoms.NullAtom.JunkParticle;
 import com.radixdlt.client.core.atoms.Particle;
 import com.radixdlt.client.core.atoms.Payload;
 import com.radixdlt.client.core.crypto.ECKeyPair;
@@ -35,38 +25,86 @@ import com.radixdlt.client.core.util.Base64Encoded;
 import org.bouncycastle.util.encoders.Base64;
 
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class RadixJson {
 
-	private static JsonObject serializedValue(String type, String value) {
-		JsonObject element = new JsonObject();
-		element.addProperty("serializer", type);
-		element.addProperty("value", value);
-		return element;
+	private static void writeSerializedValue(JsonWriter out, String type, String value) throws IOException {
+		out.beginObject();
+		out.name("serializer").value(type);
+		out.name("value").value(value);
+		out.endObject();
 	}
 
-	private static final JsonSerializer<Base64Encoded> BASE64_SERIALIZER =
-		(src, typeOfSrc, context) -> serializedValue("BASE64", src.base64());
+	private static String readSerializedValue(JsonReader in) throws IOException {
+		String value = null;
+		in.beginObject();
+		while (in.hasNext()) {
+			if (in.nextName().equals("value")) {
+				value = in.nextString();
+			} else {
+				in.skipValue();
+			}
+		}
+		in.endObject();
+		return value;
+	}
+
+	private static <T extends Base64Encoded> TypeAdapter<T> base64Adapter(Function<String, T> fromBase64) {
+		return new TypeAdapter<T>() {
+			@Override
+			public void write(JsonWriter out, T value) throws IOException {
+				writeSerializedValue(out, "BASE64", value.base64());
+			}
 
-	private static final JsonSerializer<EUID> EUID_SERIALIZER =
-		(uid, typeOfSrc, context) -> serializedValue("EUID", uid.bigInteger().toString());
+			@Override
+			public T read(JsonReader in) throws IOException {
+				return fromBase64.apply(readSerializedValue(in));
+			}
+		}.nullSafe();
+	}
 
-	private static final JsonDeserializer<Payload> PAYLOAD_DESERIALIZER =
-		(json, typeOfT, context) -> Payload.fromBase64(json.getAsJsonObject().get("value").getAsString());
+	private static final TypeAdapter<Base64Encoded> BASE64_ADAPTER = base64Adapter(base64 -> {
+		throw new JsonParseException("Cannot deserialize an unknown BASE64 value");
+	});
 
-	private static final JsonDeserializer<ECPublicKey> PK_DESERIALIZER = (json, typeOf, context) -> {
-		byte[] publicKey = Base64.decode(json.getAsJsonObject().get("value").getAsString());
-		return new ECPublicKey(publicKey);
-	};
+	private static final TypeAdapter<Payload> PAYLOAD_ADAPTER = base64Adapter(Payload::fromBase64);
 
-	private static final JsonDeserializer<EncryptedPrivateKey> PROTECTOR_DESERIALIZER = (json, typeOf, context) -> {
-		byte[] encryptedPrivateKey = Base64.decode(json.getAsJsonObject().get("value").getAsString());
-		return new EncryptedPrivateKey(encryptedPrivateKey);
-	};
+	private static final TypeAdapter<ECPublicKey> PK_ADAPTER = base64Adapter(base64 -> new ECPublicKey(Base64.decode(base64)));
+
+	private static final TypeAdapter<EncryptedPrivateKey> PROTECTOR_ADAPTER =
+		base64Adapter(base64 -> new EncryptedPrivateKey(Base64.decode(base64)));
+
+	private static final TypeAdapter<byte[]> BYTE_ARRAY_ADAPTER = new TypeAdapter<byte[]>() {
+		@Override
+		public void write(JsonWriter out, byte[] value) throws IOException {
+			writeSerializedValue(out, "BASE64", Base64.toBase64String(value));
+		}
+
+		@Override
+		public byte[] read(JsonReader in) throws IOException {
+			return Base64.decode(readSerializedValue(in));
+		}
+	}.nullSafe();
+
+	private static final TypeAdapter<EUID> EUID_ADAPTER = new TypeAdapter<EUID>() {
+		@Override
+		public void write(JsonWriter out, EUID uid) throws IOException {
+			writeSerializedValue(out, "EUID", uid.bigInteger().toString());
+		}
+
+		@Override
+		public EUID read(JsonReader in) throws IOException {
+			return new EUID(new BigInteger(readSerializedValue(in)));
+		}
+	}.nullSafe();
 
 	private static final JsonDeserializer<RadixUniverseType> UNIVERSER_TYPE_DESERIALIZER =
 		(json, typeOf, context) -> RadixUniverseType.valueOf(json.getAsInt());
@@ -79,98 +117,251 @@ public class RadixJson {
 		);
 	};
 
-	private static final JsonDeserializer<Atom> ATOM_DESERIALIZER = (json, typeOfT, context) -> {
-		long serializer = json.getAsJsonObject().get("serializer").getAsLong();
-		Optional<SerializedAtomType> atomType = SerializedAtomType.valueOf(serializer);
-		if (atomType.isPresent()) {
-			return context.deserialize(json.getAsJsonObject(), atomType.get().getAtomClass());
-		} else {
-			throw new IllegalStateException("Unknown Atom Serializer: " + serializer);
+	/**
+	 * Copies the next value of a reader as compact JSON text. A reader doesn't tell where a
+	 * value starts in its input so the text can't simply be sliced out of it, but unlike a
+	 * tree of the value the copy is a single string.
+	 *
+	 * @param in reader positioned at the value
+	 * @return the JSON text of the value
+	 */
+	public static String readRawValue(JsonReader in) throws IOException {
+		final StringWriter raw = new StringWriter();
+		final JsonWriter out = new JsonWriter(raw);
+		out.setLenient(true);
+		int depth = 0;
+		do {
+			switch (in.peek()) {
+				case BEGIN_ARRAY:
+					in.beginArray();
+					out.beginArray();
+					depth++;
+					break;
+				case END_ARRAY:
+					in.endArray();
+					out.endArray();
+					depth--;
+					break;
+				case BEGIN_OBJECT:
+					in.beginObject();
+					out.beginObject();
+					depth++;
+					break;
+				case END_OBJECT:
+					in.endObject();
+					out.endObject();
+					depth--;
+					break;
+				case NAME:
+					out.name(in.nextName());
+					break;
+				case STRING:
+					out.value(in.nextString());
+					break;
+				case NUMBER:
+					// Kept as written rather than rounded through a double
+					out.jsonValue(in.nextString());
+					break;
+				case BOOLEAN:
+					out.value(in.nextBoolean());
+					break;
+				case NULL:
+					in.nextNull();
+					out.nullValue();
+					break;
+				default:
+					throw new JsonParseException("Unexpected end of document at " + in.getPath());
+			}
+		} while (depth > 0);
+		out.flush();
+		return raw.toString();
+	}
+
+	/**
+	 * Streams a polymorphic class hierarchy identified by a "serializer" field. Fields
+	 * are written by the reflective adapter of the runtime class, preceded by the
+	 * serializer. On read, only the fields which come before the serializer are kept aside
+	 * as JSON text, the rest are streamed straight into the fields of the resolved class.
+	 */
+	private abstract static class SerializerDispatchAdapter<T> extends TypeAdapter<T> {
+		private final Gson gson;
+		private final ConcurrentHashMap<FieldPlan.BoundField, TypeAdapter<?>> fieldAdapters = new ConcurrentHashMap<>();
+
+		SerializerDispatchAdapter(Gson gson) {
+			this.gson = gson;
 		}
-	};
 
-	private static final JsonSerializer<Atom> ATOM_SERIALIZER = (atom, typeOfT, context) -> {
-		Optional<SerializedAtomType> atomType = SerializedAtomType.valueOf(atom.getClass());
-		if (atomType.isPresent()) {
-			JsonObject jsonAtom = context.serialize(atom).getAsJsonObject();
-			jsonAtom.addProperty("serializer", atomType.get().getSerializer());
-			jsonAtom.addProperty("version", 100);
-			return jsonAtom;
-		} else {
-			throw new IllegalArgumentException("Cannot serialize an atom with class: " + atom.getClass());
+		abstract long serializerOf(T value);
+
+		abstract Class<? extends T> classOf(long serializer);
+
+		@Override
+		public void write(JsonWriter out, T value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			// The reflective adapter reads fields directly, so anything deferred must be decoded first
+			FieldPlan.of(value.getClass()).decodeLazyFields(value);
+
+			@SuppressWarnings("unchecked")
+			TypeAdapter<T> adapter = (TypeAdapter<T>) gson.getAdapter(value.getClass());
+			adapter.write(new SerializerJsonWriter(out, serializerOf(value)), value);
 		}
-	};
 
+		@Override
+		public T read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			Map<String, String> leadingFields = null;
+			FieldPlan plan = null;
+			Object instance = null;
+			LazyFields lazyFields = null;
+
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if (plan != null) {
+					lazyFields = readField(plan, instance, lazyFields, name, in);
+				} else if (name.equals("serializer")) {
+					plan = FieldPlan.of(classOf(in.nextLong()));
+					instance = plan.newInstance();
+					if (leadingFields != null) {
+						for (Map.Entry<String, String> field : leadingFields.entrySet()) {
+							lazyFields = readField(plan, instance, lazyFields, field.getKey(), field.getValue());
+						}
+					}
+				} else {
+					if (leadingFields == null) {
+						leadingFields = new LinkedHashMap<>();
+					}
+					leadingFields.put(name, readRawValue(in));
+				}
+			}
+			in.endObject();
+
+			if (plan == null) {
+				throw new JsonParseException("Missing serializer at " + in.getPath());
+			}
 
+			if (lazyFields != null) {
+				plan.setLazyFields(instance, lazyFields);
+			}
 
-	private static final JsonSerializer<Particle> PARTICLE_SERIALIZER = (particle, typeOfT, context) -> {
-		if (particle.getClass() == AtomFeeConsumable.class) {
-			JsonObject jsonParticle = context.serialize(particle).getAsJsonObject();
-			jsonParticle.addProperty("serializer", -1463653224);
-			jsonParticle.addProperty("version", 100);
-			return jsonParticle;
-		} else if (particle.getClass() == JunkParticle.class) {
-
-			JsonObject jsonParticle = context.serialize(particle).getAsJsonObject();
-			jsonParticle.addProperty("serializer", -1123054001);
-			jsonParticle.addProperty("version", 100);
-			return jsonParticle;
-		} else if (particle.getClass() == Consumable.class) {
-			JsonObject jsonParticle = context.serialize(particle).getAsJsonObject();
-			jsonParticle.addProperty("serializer", 318720611);
-			jsonParticle.addProperty("version", 100);
-			return jsonParticle;
-		} else if (particle.getClass() == Consumer.class) {
-			JsonObject jsonParticle = context.serialize(particle).getAsJsonObject();
-			jsonParticle.addProperty("serializer", 214856694);
-			jsonParticle.addProperty("version", 100);
-			return jsonParticle;
-		} else if (particle.getClass() == Emission.class) {
-			JsonObject jsonParticle = context.serialize(particle).getAsJsonObject();
-			jsonParticle.addProperty("serializer", 1782261127);
-			jsonParticle.addProperty("version", 100);
-			return jsonParticle;
-		} else if (particle.getClass() == IdParticle.class) {
-			JsonObject jsonParticle = context.serialize(particle).getAsJsonObject();
-			jsonParticle.addProperty("serializer", "IDPARTICLE".hashCode());
-			jsonParticle.addProperty("version", 100);
-			return jsonParticle;
+			@SuppressWarnings("unchecked")
+			T result = (T) instance;
+			return result;
 		}
 
-		throw new RuntimeException("Unknown Particle: " + particle.getClass());
-	};
+		/**
+		 * Reads a field into an instance, or keeps its JSON text aside if it is {@link Lazy}
+		 *
+		 * @return the lazy fields of the instance, created on the first lazy field
+		 */
+		private LazyFields readField(FieldPlan plan, Object instance, LazyFields lazyFields, String name, JsonReader in) throws IOException {
+			final FieldPlan.BoundField field = plan.getBoundField(name);
+			if (field == null) {
+				in.skipValue();
+				return lazyFields;
+			}
+
+			if (field.isLazy() && plan.hasLazyFields()) {
+				return readLazyField(field, instance, lazyFields, readRawValue(in));
+			}
 
-	private static final JsonDeserializer<Particle> PARTICLE_DESERIALIZER = (json, typeOf, context) -> {
-		long serializer = json.getAsJsonObject().get("serializer").getAsLong();
-		if (serializer == -1463653224) {
-			return context.deserialize(json.getAsJsonObject(), AtomFeeConsumable.class);
-		} else if (serializer == 318720611) {
-			return context.deserialize(json.getAsJsonObject(), Consumable.class);
-		} else if (serializer == 214856694) {
-			return context.deserialize(json.getAsJsonObject(), Consumer.class);
-		} else if (serializer == 1782261127) {
-			return context.deserialize(json.getAsJsonObject(), Emission.class);
-		} else if (serializer == -1123054001) {
-			return context.deserialize(json.getAsJsonObject(), JunkParticle.class);
-		} else if (serializer == "IDPARTICLE".hashCode()) {
-			return context.deserialize(json.getAsJsonObject(), IdParticle.class);
-		} else {
-			throw new RuntimeException("Unknown particle serializer: " + serializer);
+			setField(field, instance, adapterOf(field).read(in));
+			return lazyFields;
 		}
-	};
 
-	private static class ByteArraySerializer implements JsonDeserializer<byte[]>, JsonSerializer<byte[]> {
-		@Override
-		public JsonElement serialize(byte[] src, Type typeOfSrc, JsonSerializationContext context) {
-			return serializedValue("BASE64", Base64.toBase64String(src));
+		/**
+		 * Same as reading a field from a reader, for a field already kept as JSON text
+		 */
+		private LazyFields readField(FieldPlan plan, Object instance, LazyFields lazyFields, String name, String json) throws IOException {
+			final FieldPlan.BoundField field = plan.getBoundField(name);
+			if (field == null) {
+				return lazyFields;
+			}
+
+			if (field.isLazy() && plan.hasLazyFields()) {
+				return readLazyField(field, instance, lazyFields, json);
+			}
+
+			setField(field, instance, adapterOf(field).read(new JsonReader(new StringReader(json))));
+			return lazyFields;
 		}
 
-		@Override
-		public byte[] deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-			return Base64.decode(json.getAsJsonObject().get("value").getAsString());
+		private LazyFields readLazyField(FieldPlan.BoundField field, Object instance, LazyFields lazyFields, String json) {
+			final LazyFields lazy = lazyFields == null ? new LazyFields() : lazyFields;
+			final TypeAdapter<?> adapter = adapterOf(field);
+			lazy.add(() -> {
+				try {
+					setField(field, instance, adapter.fromJson(json));
+				} catch (IOException e) {
+					throw new JsonParseException("Unable to decode " + field.getName(), e);
+				}
+			});
+			return lazy;
+		}
+
+		private TypeAdapter<?> adapterOf(FieldPlan.BoundField field) {
+			return fieldAdapters.computeIfAbsent(field, f -> gson.getAdapter(TypeToken.get(f.getType())));
+		}
+
+		private static void setField(FieldPlan.BoundField field, Object instance, Object value) {
+			if (value != null || !(field.getType() instanceof Class && ((Class<?>) field.getType()).isPrimitive())) {
+				field.set(instance, value);
+			}
 		}
 	}
 
+	private static final TypeAdapterFactory SERIALIZER_DISPATCH_ADAPTER_FACTORY = new TypeAdapterFactory() {
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+			if (type.getRawType() == Atom.class) {
+				return (TypeAdapter<T>) new SerializerDispatchAdapter<Atom>(gson) {
+					@Override
+					long serializerOf(Atom atom) {
+						return SerializedAtomType.valueOf(atom.getClass())
+							.orElseThrow(() -> new IllegalArgumentException("Cannot serialize an atom with class: " + atom.getClass()))
+							.getSerializer();
+					}
+
+					@Override
+					Class<? extends Atom> classOf(long serializer) {
+						return SerializedAtomType.valueOf(serializer)
+							.orElseThrow(() -> new IllegalStateException("Unknown Atom Serializer: " + serializer))
+							.getAtomClass();
+					}
+				};
+			}
+
+			if (type.getRawType() == Particle.class) {
+				return (TypeAdapter<T>) new SerializerDispatchAdapter<Particle>(gson) {
+					@Override
+					long serializerOf(Particle particle) {
+						return SerializedParticleType.valueOf(particle.getClass())
+							.orElseThrow(() -> new RuntimeException("Unknown Particle: " + particle.getClass()))
+							.getSerializer();
+					}
+
+					@Override
+					Class<? extends Particle> classOf(long serializer) {
+						return SerializedParticleType.valueOf(serializer)
+							.orElseThrow(() -> new RuntimeException("Unknown particle serializer: " + serializer))
+							.getParticleClass();
+					}
+				};
+			}
+
+			return null;
+		}
+	};
+
 	private static final Map<Class, Integer> SERIALIZERS = new HashMap<>();
 	static {
 		SERIALIZERS.put(ECKeyPair.class, 547221307);
@@ -186,23 +377,20 @@ public class RadixJson {
 				return null;
 			}
 			final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
-			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 
 			return new TypeAdapter<T>() {
 				@Override
 				public void write(JsonWriter out, T value) throws IOException {
-					JsonElement tree = delegate.toJsonTree(value);
-					if (!tree.isJsonNull()) {
-						tree.getAsJsonObject().addProperty("serializer", serializer);
-						tree.getAsJsonObject().addProperty("version", 100);
+					if (value == null) {
+						out.nullValue();
+					} else {
+						delegate.write(new SerializerJsonWriter(out, serializer), value);
 					}
-					elementAdapter.write(out, tree);
 				}
 
 				@Override
 				public T read(JsonReader in) throws IOException {
-					JsonElement tree = elementAdapter.read(in);
-					return delegate.fromJsonTree(tree);
+					return delegate.read(in);
 				}
 			};
 		}
@@ -212,17 +400,14 @@ public class RadixJson {
 
 	static {
 		GsonBuilder gsonBuilder = new GsonBuilder()
-			.registerTypeHierarchyAdapter(Base64Encoded.class, BASE64_SERIALIZER)
+			.registerTypeHierarchyAdapter(Base64Encoded.class, BASE64_ADAPTER)
 			.registerTypeAdapterFactory(ECKEYPAIR_ADAPTER_FACTORY)
-			.registerTypeAdapter(byte[].class, new ByteArraySerializer())
-			.registerTypeAdapter(Particle.class, PARTICLE_SERIALIZER)
-			.registerTypeAdapter(Particle.class, PARTICLE_DESERIALIZER)
-			.registerTypeAdapter(Atom.class, ATOM_SERIALIZER)
-			.registerTypeAdapter(Atom.class, ATOM_DESERIALIZER)
-			.registerTypeAdapter(EUID.class, EUID_SERIALIZER)
-			.registerTypeAdapter(Payload.class, PAYLOAD_DESERIALIZER)
-			.registerTypeAdapter(EncryptedPrivateKey.class, PROTECTOR_DESERIALIZER)
-			.registerTypeAdapter(ECPublicKey.class, PK_DESERIALIZER)
+			.registerTypeAdapterFactory(SERIALIZER_DISPATCH_ADAPTER_FACTORY)
+			.registerTypeAdapter(byte[].class, BYTE_ARRAY_ADAPTER)
+			.registerTypeAdapter(EUID.class, EUID_ADAPTER)
+			.registerTypeAdapter(Payload.class, PAYLOAD_ADAPTER)
+			.registerTypeAdapter(EncryptedPrivateKey.class, PROTECTOR_ADAPTER)
+			.registerTypeAdapter(ECPublicKey.class, PK_ADAPTER)
 			.registerTypeAdapter(RadixUniverseType.class, UNIVERSER_TYPE_DESERIALIZER)
 			.registerTypeAdapter(NodeRunnerData.class, NODE_RUNNDER_DATA_JSON_DESERIALIZER);
 
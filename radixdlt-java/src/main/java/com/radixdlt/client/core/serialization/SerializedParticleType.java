@@ -0,0 +1,55 @@
+package com.radixdlt.client.core.serialization;
+
+import com.radixdlt.client.core.atoms.AtomFeeConsumable;
+import com.radixdlt.client.core.atoms.Consumable;
+import com.radixdlt.client.core.atoms.Consumer;
+import com.radixdlt.client.core.atoms.Emission;
+import com.radixdlt.client.core.atoms.IdParticle;
+import com.radixdlt.client.core.atoms.NullAtom.JunkParticle;
+import com.radixdlt.client.core.atoms.Particle;
+import java.util.Optional;
+
+public enum SerializedParticleType {
+	ATOM_FEE_CONSUMABLE(AtomFeeConsumable.class, -1463653224L),
+	JUNK(JunkParticle.class, -1123054001L),
+	CONSUMABLE(Consumable.class, 318720611L),
+	CONSUMER(Consumer.class, 214856694L),
+	EMISSION(Emission.class, 1782261127L),
+	ID(IdParticle.class, "IDPARTICLE".hashCode());
+
+	private final Class<? extends Particle> particleClass;
+	private final long serializer;
+
+	SerializedParticleType(Class<? extends Particle> particleClass, long serializer) {
+		this.particleClass = particleClass;
+		this.serializer = serializer;
+	}
+
+	public Class<? extends Particle> getParticleClass() {
+		return particleClass;
+	}
+
+	public long getSerializer() {
+		return serializer;
+	}
+
+	public static Optional<SerializedParticleType> valueOf(Class<? extends Particle> particleClass) {
+		for (SerializedParticleType particleType : SerializedParticleType.values()) {
+			if (particleType.particleClass.equals(particleClass)) {
+				return Optional.of(particleType);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	public static Optional<SerializedParticleType> valueOf(long serializer) {
+		for (SerializedParticleType particleType : SerializedParticleType.values()) {
+			if (particleType.serializer == serializer) {
+				return Optional.of(particleType);
+			}
+		}
+
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,135 @@
+package com.radixdlt.client.core.serialization;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A {@link JsonWriter} which forwards to another writer and opens the first object
+ * written with the "serializer" and "version" fields. Lets Gson's reflective adapters
+ * stream serialized classes without going through a {@link com.google.gson.JsonElement} tree.
+ */
+final class SerializerJsonWriter extends JsonWriter {
+	private static final Writer UNWRITABLE_WRITER = new Writer() {
+		@Override
+		public void write(char[] buffer, int offset, int counter) {
+			throw new AssertionError();
+		}
+
+		@Override
+		public void flush() {
+			throw new AssertionError();
+		}
+
+		@Override
+		public void close() {
+			throw new AssertionError();
+		}
+	};
+
+	private final JsonWriter out;
+	private final long serializer;
+	private boolean begun;
+
+	SerializerJsonWriter(JsonWriter out, long serializer) {
+		super(UNWRITABLE_WRITER);
+		this.out = out;
+		this.serializer = serializer;
+		this.setLenient(out.isLenient());
+		this.setHtmlSafe(out.isHtmlSafe());
+		this.setSerializeNulls(out.getSerializeNulls());
+	}
+
+	@Override
+	public JsonWriter beginObject() throws IOException {
+		out.beginObject();
+		if (!begun) {
+			begun = true;
+			out.name("serializer").value(serializer);
+			out.name("version").value(100);
+		}
+		return this;
+	}
+
+	@Override
+	public JsonWriter endObject() throws IOException {
+		out.endObject();
+		return this;
+	}
+
+	@Override
+	public JsonWriter beginArray() throws IOException {
+		out.beginArray();
+		return this;
+	}
+
+	@Override
+	public JsonWriter endArray() throws IOException {
+		out.endArray();
+		return this;
+	}
+
+	@Override
+	public JsonWriter name(String name) throws IOException {
+		out.name(name);
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(String value) throws IOException {
+		out.value(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter jsonValue(String value) throws IOException {
+		out.jsonValue(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter nullValue() throws IOException {
+		out.nullValue();
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(boolean value) throws IOException {
+		out.value(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(Boolean value) throws IOException {
+		out.value(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(double value) throws IOException {
+		out.value(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(long value) throws IOException {
+		out.value(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(Number value) throws IOException {
+		out.value(value);
+		return this;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+}
@@ -1,15 +1,24 @@
 package com.radixdlt.client.core.util;
 
-import java.math.BigInteger;
-
+/**
+ * Base58 using the bitcoin alphabet, without {@link java.math.BigInteger}. The bytes are
+ * held as 32 bit limbs and converted by long division, five base 58 digits at a time.
+ * Leading zero bytes are encoded as leading '1's and vice versa.
+ */
 public class Base58 {
 
 	private static final char[] B58 = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
 
-	private static final int[] R58 = new int[256];
+	private static final int[] R58 = new int[128];
+
+	// Digits converted per limb operation, 58^5 still fits in an int
+	private static final int CHUNK_DIGITS = 5;
+	private static final long CHUNK = 58L * 58 * 58 * 58 * 58;
+
+	private static final long LIMB_MASK = 0xFFFFFFFFL;
 
 	static {
-		for (int i = 0; i < 256; ++i) {
+		for (int i = 0; i < R58.length; ++i) {
 			R58[i] = -1;
 		}
 		for (int i = 0; i < B58.length; ++i) {
@@ -20,66 +29,97 @@ public class Base58 {
 	private Base58() {
 	}
 
-
 	// Encodes the specified byte array into a String using the Base58 encoding scheme
 	public static String toBase58(byte[] b) {
-		if (b.length == 0) {
-			return "";
-		}
-
 		int lz = 0;
 		while (lz < b.length && b[lz] == 0) {
 			++lz;
 		}
 
-		StringBuffer s = new StringBuffer();
-		BigInteger n = new BigInteger(1, b);
-		while (n.compareTo(BigInteger.ZERO) > 0) {
-			BigInteger[] r = n.divideAndRemainder(BigInteger.valueOf(58));
-			n = r[0];
-			char digit = B58[r[1].intValue()];
-			s.append(digit);
+		// Big endian limbs of everything after the leading zeros
+		int[] limbs = new int[(b.length - lz + 3) / 4];
+		for (int i = lz; i < b.length; ++i) {
+			int bytesFromEnd = b.length - 1 - i;
+			int limb = limbs.length - 1 - bytesFromEnd / 4;
+			limbs[limb] |= (b[i] & 0xFF) << (8 * (bytesFromEnd % 4));
+		}
+
+		// log(256) / log(58) is just under 1.37, plus room for the last chunk's zero digits
+		char[] s = new char[lz + (b.length - lz) * 137 / 100 + 1 + CHUNK_DIGITS];
+		int start = s.length;
+		for (int from = 0; from < limbs.length;) {
+			long remainder = 0;
+			for (int i = from; i < limbs.length; ++i) {
+				long dividend = (remainder << 32) | (limbs[i] & LIMB_MASK);
+				limbs[i] = (int) (dividend / CHUNK);
+				remainder = dividend % CHUNK;
+			}
+			for (int i = 0; i < CHUNK_DIGITS; ++i) {
+				s[--start] = B58[(int) (remainder % 58)];
+				remainder /= 58;
+			}
+			while (from < limbs.length && limbs[from] == 0) {
+				++from;
+			}
+		}
+
+		// Division leaves zero digits once the value runs out, leading zero bytes get their own
+		while (start < s.length && s[start] == B58[0]) {
+			++start;
 		}
 		while (lz > 0) {
 			--lz;
-			s.append("1");
+			s[--start] = B58[0];
 		}
-		return s.reverse().toString();
+		return new String(s, start, s.length - start);
 	}
 
 	// Decodes the specified Base58 encoded String to its byte array representation
 	public static byte[] fromBase58(String s) {
-		try {
-			boolean leading = true;
-			int lz = 0;
-			BigInteger b = BigInteger.ZERO;
-			for (char c : s.toCharArray()) {
-				if (leading && c == '1') {
-					++lz;
-				} else {
-					leading = false;
-					b = b.multiply(BigInteger.valueOf(58));
-					b = b.add(BigInteger.valueOf(R58[c]));
-				}
+		int lz = 0;
+		while (lz < s.length() && s.charAt(lz) == B58[0]) {
+			++lz;
+		}
+
+		// Little endian limbs, log(58) / log(256) is just under 0.733
+		int[] limbs = new int[((s.length() - lz) * 733 / 1000 + 1) / 4 + 1];
+		int used = 0;
+		for (int i = lz; i < s.length();) {
+			long chunk = 0;
+			long multiplier = 1;
+			for (int end = Math.min(i + CHUNK_DIGITS, s.length()); i < end; ++i) {
+				chunk = chunk * 58 + digit(s.charAt(i));
+				multiplier *= 58;
+			}
+
+			long carry = chunk;
+			for (int j = 0; j < used; ++j) {
+				long product = (limbs[j] & LIMB_MASK) * multiplier + carry;
+				limbs[j] = (int) product;
+				carry = product >>> 32;
 			}
-			byte[] encoded = b.toByteArray();
-			if (encoded[0] == 0) {
-				if (lz > 0) {
-					--lz;
-				} else {
-					byte[] e = new byte[encoded.length - 1];
-					System.arraycopy(encoded, 1, e, 0, e.length);
-					encoded = e;
-				}
+			if (carry != 0) {
+				limbs[used++] = (int) carry;
 			}
-			byte[] result = new byte[encoded.length + lz];
-			System.arraycopy(encoded, 0, result, lz, encoded.length);
+		}
+
+		int length = used * 4;
+		while (length > 0 && (limbs[(length - 1) / 4] >>> (8 * ((length - 1) % 4)) & 0xFF) == 0) {
+			--length;
+		}
+
+		byte[] result = new byte[lz + length];
+		for (int i = 0; i < length; ++i) {
+			result[result.length - 1 - i] = (byte) (limbs[i / 4] >>> (8 * (i % 4)));
+		}
+		return result;
+	}
 
-			return result;
-		} catch (ArrayIndexOutOfBoundsException e) {
+	private static int digit(char c) {
+		int digit = c < R58.length ? R58[c] : -1;
+		if (digit < 0) {
 			throw new IllegalArgumentException("Invalid character in address");
-		} catch (Exception e) {
-			throw new IllegalArgumentException(e);
 		}
+		return digit;
 	}
 }
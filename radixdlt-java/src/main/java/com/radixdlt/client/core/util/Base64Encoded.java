@@ -1,6 +1,30 @@
 package com.radixdlt.client.core.util;
 
 public interface Base64Encoded {
+	/**
+	 * Receives a range of bytes it may only read, and only during the call
+	 */
+	interface BytesConsumer {
+		void accept(byte[] bytes, int offset, int length);
+	}
+
 	String base64();
 	byte[] toByteArray();
+
+	/**
+	 * @return length of {@link #toByteArray()}, without copying the bytes
+	 */
+	default int byteLength() {
+		return toByteArray().length;
+	}
+
+	/**
+	 * Hands the bytes to a consumer, without copying them where the implementation allows
+	 *
+	 * @param consumer receives the bytes, which it must neither modify nor keep
+	 */
+	default void readBytes(BytesConsumer consumer) {
+		byte[] bytes = toByteArray();
+		consumer.accept(bytes, 0, bytes.length);
+	}
 }
@@ -1,5 +1,7 @@
 package com.radixdlt.client.core.util;
 
+import java.nio.ByteBuffer;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
@@ -7,6 +9,7 @@ import java.security.Security;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
 public class Hash {
+	private static final int SHA256_LENGTH = 32;
 
 	static {
 		if (AndroidUtil.isAndroidRuntime()) {
@@ -15,16 +18,30 @@ public class Hash {
 		Security.insertProviderAt(new BouncyCastleProvider(), 1);
 	}
 
+	/**
+	 * Digests are looked up once per thread rather than once per hash. They are only
+	 * ever used within a single call, so cannot be left in a dirty state between calls.
+	 */
+	private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> digest("SHA-256"));
+	private static final ThreadLocal<MessageDigest> SHA512 = ThreadLocal.withInitial(() -> digest("SHA-512"));
+
+	/**
+	 * Handed out to incremental callers, apart from {@link #SHA256} so that one shot hashes
+	 * taken while data is still being fed in don't clobber it.
+	 */
+	private static final ThreadLocal<MessageDigest> SHA256_INCREMENTAL = ThreadLocal.withInitial(() -> digest("SHA-256"));
+
+	/**
+	 * Holds the intermediate hash of a double SHA-256
+	 */
+	private static final ThreadLocal<byte[]> SHA256_SCRATCH = ThreadLocal.withInitial(() -> new byte[SHA256_LENGTH]);
+
 	private Hash() {
 	}
 
-	private static byte[] hash(String algorithm, byte[] data, int offset, int len) {
+	private static MessageDigest digest(String algorithm) {
 		try {
-			MessageDigest messageDigest = MessageDigest.getInstance(algorithm, "BC");
-			synchronized (messageDigest) {
-				messageDigest.update(data, offset, len);
-				return messageDigest.digest();
-			}
+			return MessageDigest.getInstance(algorithm, "BC");
 		} catch (NoSuchAlgorithmException e) {
 			throw new RuntimeException(e.getMessage());
 		} catch (NoSuchProviderException e) {
@@ -32,8 +49,35 @@ public class Hash {
 		}
 	}
 
+	private static MessageDigest threadDigest(ThreadLocal<MessageDigest> digest) {
+		MessageDigest messageDigest = digest.get();
+		messageDigest.reset();
+		return messageDigest;
+	}
+
+	private static void digestInto(MessageDigest messageDigest, byte[] out, int outOffset) {
+		try {
+			messageDigest.digest(out, outOffset, messageDigest.getDigestLength());
+		} catch (DigestException e) {
+			throw new IllegalArgumentException("Output buffer too small for " + messageDigest.getAlgorithm(), e);
+		}
+	}
+
+	/**
+	 * A reset SHA-256 digest for callers which feed data incrementally. The digest belongs to
+	 * the calling thread and is handed out again by the next call, so it must be finished with
+	 * before then and must not be passed to other threads.
+	 *
+	 * @return the reset SHA-256 digest of this thread
+	 */
+	public static MessageDigest sha256Digest() {
+		return threadDigest(SHA256_INCREMENTAL);
+	}
+
 	public static byte[] sha512(byte[] data) {
-		return hash("SHA-512", data, 0, data.length);
+		MessageDigest messageDigest = threadDigest(SHA512);
+		messageDigest.update(data);
+		return messageDigest.digest();
 	}
 
 	public static byte[] sha256(byte[] data) {
@@ -42,6 +86,61 @@ public class Hash {
 
 	// Hashes the specified byte array using SHA-256
 	public static byte[] sha256(byte[] data, int offset, int len) {
-		return hash("SHA-256", data, offset, len);
+		MessageDigest messageDigest = threadDigest(SHA256);
+		messageDigest.update(data, offset, len);
+		return messageDigest.digest();
+	}
+
+	/**
+	 * Hashes the remaining bytes of a buffer using SHA-256, without moving the buffer
+	 *
+	 * @param data buffer to hash
+	 * @return the hash
+	 */
+	public static byte[] sha256(ByteBuffer data) {
+		MessageDigest messageDigest = threadDigest(SHA256);
+		messageDigest.update(data.duplicate());
+		return messageDigest.digest();
+	}
+
+	/**
+	 * Hashes the specified bytes twice using SHA-256 into a caller supplied buffer.
+	 * Nothing is allocated, which makes this suitable for tight loops such as proof of work.
+	 *
+	 * @param data bytes to hash
+	 * @param offset offset of the first byte to hash
+	 * @param len number of bytes to hash
+	 * @param out buffer to write the 32 byte hash to
+	 * @param outOffset offset in the buffer to write the hash at
+	 */
+	public static void doubleSha256(byte[] data, int offset, int len, byte[] out, int outOffset) {
+		MessageDigest messageDigest = threadDigest(SHA256);
+		byte[] scratch = SHA256_SCRATCH.get();
+		messageDigest.update(data, offset, len);
+		digestInto(messageDigest, scratch, 0);
+		messageDigest.update(scratch, 0, SHA256_LENGTH);
+		digestInto(messageDigest, out, outOffset);
+	}
+
+	public static byte[] doubleSha256(byte[] data, int offset, int len) {
+		byte[] hash = new byte[SHA256_LENGTH];
+		doubleSha256(data, offset, len, hash, 0);
+		return hash;
+	}
+
+	/**
+	 * Hashes the remaining bytes of a buffer twice using SHA-256, without moving the buffer
+	 *
+	 * @param data buffer to hash
+	 * @return the hash
+	 */
+	public static byte[] doubleSha256(ByteBuffer data) {
+		MessageDigest messageDigest = threadDigest(SHA256);
+		byte[] hash = new byte[SHA256_LENGTH];
+		messageDigest.update(data.duplicate());
+		digestInto(messageDigest, hash, 0);
+		messageDigest.update(hash, 0, SHA256_LENGTH);
+		digestInto(messageDigest, hash, 0);
+		return hash;
 	}
 }
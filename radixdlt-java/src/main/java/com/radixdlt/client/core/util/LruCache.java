@@ -0,0 +1,117 @@
+package com.radixdlt.client.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A bounded, thread safe map which evicts the least recently used entry once full.
+ * Meant for caching values which are expensive to compute but cheap to keep.
+ * <p>
+ * Every lookup reorders entries, so rather than one lock a large cache is split into
+ * segments by hash code, each with its own lock and an even share of the capacity.
+ * Threads looking up different keys then rarely wait on each other. Eviction is least
+ * recently used within a segment, and exact for caches too small to be split.
+ *
+ * @param <K> key type, must have value based equals and hashCode
+ * @param <V> value type
+ */
+public final class LruCache<K, V> {
+	private static final int MAX_SEGMENTS = 16;
+	private static final int MIN_SEGMENT_CAPACITY = 64;
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+
+		private Segment(int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > capacity;
+		}
+	}
+
+	private final int capacity;
+	private final Segment<K, V>[] segments;
+
+	@SuppressWarnings("unchecked")
+	public LruCache(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be at least 1 but was " + capacity);
+		}
+
+		this.capacity = capacity;
+		final int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, capacity / MIN_SEGMENT_CAPACITY)));
+		this.segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment<>(capacity / segmentCount);
+		}
+	}
+
+	private Segment<K, V> segment(Object key) {
+		final int hash = key.hashCode();
+		// Spread the high bits down, as HashMap does, since only the low bits pick the segment
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+
+	/**
+	 * @return the cached value, or null if there is none
+	 */
+	public V get(K key) {
+		final Segment<K, V> segment = segment(key);
+		synchronized (segment) {
+			return segment.get(key);
+		}
+	}
+
+	/**
+	 * Returns the cached value for a key, computing and caching it if there is none.
+	 * The value is computed outside of the lock, so two threads missing on the same key
+	 * may both compute it, and the first to finish is kept.
+	 *
+	 * @param key key to look up
+	 * @param compute computes the value for a key, must not return null
+	 * @return the cached value
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> compute) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+
+		V computed = Objects.requireNonNull(compute.apply(key));
+		final Segment<K, V> segment = segment(key);
+		synchronized (segment) {
+			V raced = segment.putIfAbsent(key, computed);
+			return raced == null ? computed : raced;
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+}
@@ -56,7 +56,8 @@ public class RadixApplicationAPITest {
 
 		Supplier<AtomBuilder> atomBuilderSupplier = () -> atomBuilder;
 		UnsignedAtom unsignedAtom = mock(UnsignedAtom.class);
-		when(atomBuilder.buildWithPOWFee(anyInt(), any())).thenReturn(unsignedAtom);
+		when(atomBuilder.buildWithPOWFeeAsync(anyInt(), any())).thenReturn(Single.just(unsignedAtom));
+		when(atomBuilder.buildWithPOWFeeAsync(anyInt(), any(), any(), any())).thenReturn(Single.just(unsignedAtom));
 
 		return RadixApplicationAPI.create(identity, universe, DataStoreTranslator.getInstance(), atomBuilderSupplier);
 	}
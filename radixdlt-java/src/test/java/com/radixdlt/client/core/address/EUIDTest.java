@@ -0,0 +1,66 @@
+package com.radixdlt.client.core.address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+public class EUIDTest {
+	private static List<BigInteger> values() {
+		List<BigInteger> values = new ArrayList<>();
+		for (int bits = 0; bits <= 130; bits++) {
+			BigInteger power = BigInteger.ONE.shiftLeft(bits);
+			values.add(power);
+			values.add(power.negate());
+			values.add(power.subtract(BigInteger.ONE));
+			values.add(power.negate().subtract(BigInteger.ONE));
+		}
+		Random random = new Random(42);
+		for (int i = 0; i < 1000; i++) {
+			byte[] bytes = new byte[1 + random.nextInt(16)];
+			random.nextBytes(bytes);
+			values.add(new BigInteger(bytes));
+		}
+		return values;
+	}
+
+	@Test
+	public void behavesLikeItsBigInteger() {
+		for (BigInteger value : values()) {
+			EUID fromBigInteger = new EUID(value);
+			EUID fromBytes = new EUID(value.toByteArray());
+
+			assertThat(fromBigInteger.bigInteger()).isEqualTo(value);
+			assertThat(fromBigInteger.hashCode()).as("hash code of %s", value).isEqualTo(value.hashCode());
+			assertThat(fromBigInteger.toString()).isEqualTo(value.toString());
+			assertThat(fromBigInteger.toByteArray()).isEqualTo(value.toByteArray());
+			assertThat(fromBigInteger.byteLength()).isEqualTo(value.toByteArray().length);
+			byte[] copied = new byte[fromBigInteger.byteLength() + 2];
+			assertThat(fromBigInteger.copyBytes(copied, 2)).isEqualTo(fromBigInteger.byteLength());
+			assertThat(Arrays.copyOfRange(copied, 2, copied.length)).isEqualTo(value.toByteArray());
+			assertThat(fromBigInteger.getShard()).isEqualTo(value.longValue());
+			assertThat(fromBytes).isEqualTo(fromBigInteger);
+			assertThat(fromBytes.hashCode()).isEqualTo(fromBigInteger.hashCode());
+		}
+	}
+
+	@Test
+	public void redundantSignBytesDoNotMatter() {
+		assertThat(new EUID(new byte[] {-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -128}))
+			.isEqualTo(new EUID(BigInteger.valueOf(-128)));
+		assertThat(new EUID(new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1}))
+			.isEqualTo(new EUID(BigInteger.ONE));
+		assertThat(new EUID(BigInteger.ONE)).isNotEqualTo(new EUID(BigInteger.ONE.negate()));
+		assertThat(new EUID(BigInteger.ONE.shiftLeft(100))).isNotEqualTo(new EUID(BigInteger.ONE));
+	}
+
+	@Test
+	public void rejectsEmptyValue() {
+		assertThatThrownBy(() -> new EUID(new byte[0])).isInstanceOf(NumberFormatException.class);
+	}
+}
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 public class RadixAddressTest {
 
@@ -47,4 +48,16 @@ public class RadixAddressTest {
 			RadixAddress.fromString(address);
 		});
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void addressesAreEqualByMagicAndKey() {
+		ECPublicKey publicKey = new ECPublicKey(Base64.decode("A455PdOZNwyRWaSWFXyYYkbj7Wv9jtgCCqUYhuOHiPLC"));
+		RadixAddress address = new RadixAddress(RadixUniverseConfigs.getWinterfell(), publicKey);
+		RadixAddress parsed = RadixAddress.fromString(address.toString());
+
+		assertEquals(address, parsed);
+		assertEquals(address.hashCode(), parsed.hashCode());
+		assertNotEquals(address, new RadixAddress(RadixUniverseConfigs.getWinterfell().getMagic() + 1, publicKey));
+		assertNotEquals(address, new RadixAddress(RadixUniverseConfigs.getWinterfell(), new ECPublicKey(new byte[33])));
+	}
+}
@@ -1,5 +1,6 @@
 package com.radixdlt.client.core.atoms;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import static org.mockito.Mockito.mock;
@@ -7,6 +8,8 @@ import static org.mockito.Mockito.when;
 
 import com.radixdlt.client.core.address.EUID;
 import com.radixdlt.client.core.crypto.ECKeyPair;
+import com.radixdlt.client.core.crypto.ECKeyPairGenerator;
+import com.radixdlt.client.core.serialization.Dson;
 import java.math.BigInteger;
 import java.util.Collections;
 import org.junit.Test;
@@ -43,4 +46,59 @@ public class AtomBuilderTest {
 
 		assertEquals(atom1.getHash(), atom2.getHash());
 	}
-}
\ No newline at end of file
+
+	private static void assertEncodedAsFresh(UnsignedAtom atom) {
+		byte[] fresh = Dson.getInstance().toDson(atom.getRawAtom());
+		assertArrayEquals(fresh, atom.getRawAtom().toDson());
+		assertEquals(RadixHash.of(fresh), atom.getHash());
+	}
+
+	@Test
+	public void feeIsSplicedIntoTheEncodingOfTheAtom() {
+		ECKeyPair owner = ECKeyPairGenerator.newInstance().generateKeyPair();
+		Consumable consumable = new Consumable(1, Collections.singleton(owner), 0, new EUID(BigInteger.valueOf(2L)));
+
+		AtomBuilder atomBuilder = new AtomBuilder()
+			.type(TransactionAtom.class)
+			.addParticle(consumable)
+			.payload("Hello");
+		int estimate = atomBuilder.estimateSizeWithFee(owner.getPublicKey());
+
+		UnsignedAtom atom = atomBuilder.buildWithPOWFee(12345, owner.getPublicKey());
+
+		assertEquals(2, atom.getRawAtom().getParticles().size());
+		assertEncodedAsFresh(atom);
+		assertEquals(estimate, atom.getRawAtom().toDson().length);
+	}
+
+	@Test
+	public void feeAddsParticlesToAnAtomWithout() {
+		ECKeyPair owner = ECKeyPairGenerator.newInstance().generateKeyPair();
+
+		AtomBuilder atomBuilder = new AtomBuilder()
+			.type(ApplicationPayloadAtom.class)
+			.applicationId("Test")
+			.payload("Hello")
+			.addDestination(owner.getUID());
+		int estimate = atomBuilder.estimateSize();
+		assertEquals(estimate, atomBuilder.build().getRawAtom().toDson().length);
+
+		UnsignedAtom atom = atomBuilder.buildWithPOWFee(12345, owner.getPublicKey());
+
+		assertEncodedAsFresh(atom);
+	}
+
+	@Test
+	public void feeWithANewDestinationIsEncodedAsFresh() {
+		ECKeyPair owner = ECKeyPairGenerator.newInstance().generateKeyPair();
+
+		UnsignedAtom atom = new AtomBuilder()
+			.type(ApplicationPayloadAtom.class)
+			.applicationId("Test")
+			.payload("Hello")
+			.addDestination(new EUID(BigInteger.ONE))
+			.buildWithPOWFee(12345, owner.getPublicKey());
+
+		assertEncodedAsFresh(atom);
+	}
+}
@@ -0,0 +1,104 @@
+package com.radixdlt.client.core.atoms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.JsonObject;
+import com.radixdlt.client.core.address.EUID;
+import com.radixdlt.client.core.crypto.ECKeyPair;
+import com.radixdlt.client.core.crypto.ECPublicKey;
+import com.radixdlt.client.core.crypto.ECSignature;
+import com.radixdlt.client.core.serialization.RadixJson;
+import java.math.BigInteger;
+import org.bouncycastle.util.encoders.Base64;
+import org.junit.Test;
+
+public class AtomTest {
+	private static final ECKeyPair OWNER =
+		new ECPublicKey(Base64.decode("A455PdOZNwyRWaSWFXyYYkbj7Wv9jtgCCqUYhuOHiPLC")).toECKeyPair();
+
+	private static Consumable consumable(long quantity) {
+		return new Consumable(quantity, OWNER, 1, new EUID(BigInteger.valueOf(2L)));
+	}
+
+	private static AtomBuilder builder() {
+		return new AtomBuilder()
+			.type(TransactionAtom.class)
+			.addParticle(consumable(10))
+			.addDestination(new EUID(BigInteger.ONE))
+			.payload("Hello");
+	}
+
+	@Test
+	public void hashAndHidAreMemoised() {
+		Atom atom = builder().build().getRawAtom();
+		assertThat(atom.getHash()).isSameAs(atom.getHash());
+		assertThat(atom.getHid()).isSameAs(atom.getHid());
+		assertThat(atom.getHash()).isEqualTo(RadixHash.ofDson(atom));
+	}
+
+	@Test
+	public void cachedDsonCannotBeModifiedByCallers() {
+		Atom atom = builder().build().getRawAtom();
+		byte[] dson = atom.toDson();
+		dson[dson.length - 1]++;
+		assertThat(atom.toDson()).isNotEqualTo(dson);
+		assertThat(atom.getHash()).isEqualTo(RadixHash.of(atom.toDson()));
+	}
+
+	@Test
+	public void changingTheBuilderDoesNotChangeBuiltAtoms() {
+		AtomBuilder atomBuilder = builder();
+		Atom atom = atomBuilder.build().getRawAtom();
+		RadixHash hash = atom.getHash();
+
+		atomBuilder.addParticle(consumable(20)).addDestination(new EUID(BigInteger.TEN));
+
+		assertThat(atom.getParticles()).hasSize(1);
+		assertThat(atom.getDestinations()).hasSize(2);
+		assertThat(RadixHash.ofDson(atom)).isEqualTo(hash);
+		assertThat(atomBuilder.build().getHash()).isNotEqualTo(hash);
+	}
+
+	@Test
+	public void signedAtomKeepsTheUnsignedHash() {
+		UnsignedAtom unsignedAtom = builder().build();
+		RadixHash hash = unsignedAtom.getHash();
+
+		Atom signed = unsignedAtom.sign(new ECSignature(BigInteger.ONE, BigInteger.TEN), OWNER.getUID());
+
+		assertThat(signed.getHash()).isSameAs(hash);
+		assertThat(RadixHash.ofDson(signed)).isEqualTo(hash);
+		assertThat(signed.getSignature(OWNER.getUID())).isPresent();
+	}
+
+	@Test
+	public void particleHashIsMemoised() {
+		Consumable consumable = consumable(10);
+		assertThat(consumable.getHash()).isSameAs(consumable.getHash());
+		assertThat(consumable.getHash()).isEqualTo(RadixHash.of(consumable.getDson()));
+	}
+
+	@Test
+	public void lazilyReadAtomsHashLikeTheOriginal() {
+		Atom atom = builder().build().getRawAtom();
+		Atom read = RadixJson.getGson().fromJson(RadixJson.getGson().toJson(atom, Atom.class), Atom.class);
+
+		assertThat(read.getHash()).isEqualTo(atom.getHash());
+		assertThat(read.getParticles()).hasSize(1);
+		assertThat(read.getAsTransactionAtom().getPayload().toAscii()).isEqualTo("Hello");
+	}
+
+	@Test
+	public void particlesAreOnlyDecodedOnAccess() {
+		Atom atom = builder().build().getRawAtom();
+		JsonObject json = RadixJson.getGson().toJsonTree(atom, Atom.class).getAsJsonObject();
+		json.getAsJsonArray("particles").get(0).getAsJsonObject().addProperty("serializer", 1);
+
+		Atom read = RadixJson.getGson().fromJson(json, Atom.class);
+		assertThat(read.isTransactionAtom()).isTrue();
+		assertThat(read.getDestinations()).isEqualTo(atom.getDestinations());
+		assertThat(read.getTimestamp()).isEqualTo(atom.getTimestamp());
+		assertThatThrownBy(read::getParticles).hasMessageContaining("Unknown particle serializer");
+	}
+}
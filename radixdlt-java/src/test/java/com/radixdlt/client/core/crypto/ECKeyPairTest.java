@@ -1,7 +1,10 @@
 package com.radixdlt.client.core.crypto;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.radixdlt.client.core.util.Hash;
+import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 
 public class ECKeyPairTest {
@@ -15,4 +18,24 @@ public class ECKeyPairTest {
 		assertThatThrownBy(() -> keyPair.decrypt(new byte[] {0}, encryptedPrivateKey))
 			.isInstanceOf(CryptoException.class);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void privateKeyDerivesTheGeneratedPublicKey() {
+		ECKeyPair generated = ECKeyPairGenerator.newInstance().generateKeyPair();
+
+		assertThat(new ECKeyPair(generated.getPrivateKey()).getPublicKey()).isEqualTo(generated.getPublicKey());
+	}
+
+	@Test
+	public void signaturesAreDeterministicAndVerify() {
+		ECKeyPair keyPair = ECKeyPairGenerator.newInstance().generateKeyPair();
+		byte[] hash = Hash.sha256("Hello Radix".getBytes(StandardCharsets.UTF_8));
+
+		ECSignature signature = keyPair.sign(hash);
+
+		assertThat(keyPair.getPublicKey().verify(hash, signature)).isTrue();
+		ECSignature again = new ECKeyPair(keyPair.getPrivateKey()).sign(hash);
+		assertThat(again.getR()).isEqualTo(signature.getR());
+		assertThat(again.getS()).isEqualTo(signature.getS());
+	}
+}
@@ -0,0 +1,46 @@
+package com.radixdlt.client.core.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.radixdlt.client.core.util.Hash;
+import java.nio.charset.StandardCharsets;
+import org.bouncycastle.util.encoders.Base64;
+import org.junit.Test;
+
+public class ECPublicKeyTest {
+	@Test
+	public void equalKeysShareTheirDecodedPoint() {
+		ECKeyPair keyPair = ECKeyPairGenerator.newInstance().generateKeyPair();
+		ECPublicKey publicKey = new ECPublicKey(keyPair.getPublicKey().toByteArray());
+		ECPublicKey same = new ECPublicKey(keyPair.getPublicKey().toByteArray());
+
+		assertThat(publicKey.getPublicPoint()).isSameAs(same.getPublicPoint());
+		assertThat(publicKey.getPublicPoint()).isEqualTo(publicKey.decodePoint());
+	}
+
+	@Test
+	public void verifiesWithTheCachedPoint() {
+		ECKeyPair keyPair = ECKeyPairGenerator.newInstance().generateKeyPair();
+		byte[] hash = Hash.sha256("Hello Radix".getBytes(StandardCharsets.UTF_8));
+		ECSignature signature = keyPair.sign(hash);
+
+		for (int i = 0; i < 3; i++) {
+			ECPublicKey publicKey = new ECPublicKey(keyPair.getPublicKey().toByteArray());
+			assertThat(publicKey.verify(hash, signature)).isTrue();
+			assertThat(publicKey.verify(Hash.sha256(hash), signature)).isFalse();
+		}
+	}
+
+	@Test
+	public void equalityAndHashCodeFollowTheKeyBytes() {
+		ECKeyPair keyPair = ECKeyPairGenerator.newInstance().generateKeyPair();
+		ECPublicKey publicKey = new ECPublicKey(keyPair.getPublicKey().toByteArray());
+		ECPublicKey same = new ECPublicKey(keyPair.getPublicKey().toByteArray());
+		ECPublicKey other = ECKeyPairGenerator.newInstance().generateKeyPair().getPublicKey();
+
+		assertThat(publicKey).isEqualTo(same);
+		assertThat(publicKey).isNotEqualTo(other);
+		assertThat(publicKey.hashCode()).isEqualTo(same.hashCode());
+		assertThat(publicKey.hashCode()).isEqualTo(Base64.toBase64String(publicKey.toByteArray()).hashCode());
+	}
+}
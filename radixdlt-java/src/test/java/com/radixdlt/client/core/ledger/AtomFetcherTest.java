@@ -1,16 +1,28 @@
 package com.radixdlt.client.core.ledger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.radixdlt.client.core.address.EUID;
 import com.radixdlt.client.core.address.RadixAddress;
+import com.radixdlt.client.assets.Asset;
 import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.atoms.AtomBuilder;
+import com.radixdlt.client.core.atoms.Consumer;
+import com.radixdlt.client.core.atoms.TransactionAtom;
+import com.radixdlt.client.core.atoms.UnsignedAtom;
+import com.radixdlt.client.core.crypto.ECKeyPair;
+import com.radixdlt.client.core.crypto.ECKeyPairGenerator;
 import com.radixdlt.client.core.network.RadixJsonRpcClient;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.junit.Test;
 
@@ -37,4 +49,34 @@ public class AtomFetcherTest {
 		testObserver.awaitCount(1);
 		testObserver.assertValue(atom);
 	}
-}
\ No newline at end of file
+
+	private static Atom transfer(ECKeyPair owner, ECKeyPair signer, long nonce) {
+		UnsignedAtom unsignedAtom = new AtomBuilder()
+			.type(TransactionAtom.class)
+			.addParticle(new Consumer(1, owner, nonce, Asset.TEST.getId()))
+			.build();
+		return unsignedAtom.sign(signer.sign(unsignedAtom.getHash().toByteArray()), owner.getUID());
+	}
+
+	@Test
+	public void validatesInParallelAndEmitsInOrder() {
+		ECKeyPair owner = ECKeyPairGenerator.newInstance().generateKeyPair();
+		ECKeyPair forger = ECKeyPairGenerator.newInstance().generateKeyPair();
+		List<Atom> atoms = new ArrayList<>();
+		List<Atom> valid = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			Atom atom = transfer(owner, i % 5 == 3 ? forger : owner, i);
+			atoms.add(atom);
+			if (i % 5 != 3) {
+				valid.add(atom);
+			}
+		}
+
+		AtomFetcher atomFetcher = new AtomFetcher(mock(Function.class), Schedulers.computation(), 4);
+		TestObserver<Atom> testObserver = atomFetcher.validate(Observable.fromIterable(atoms)).test();
+
+		testObserver.awaitTerminalEvent(10, TimeUnit.SECONDS);
+		testObserver.assertComplete();
+		assertThat(testObserver.values()).containsExactlyElementsOf(valid);
+	}
+}
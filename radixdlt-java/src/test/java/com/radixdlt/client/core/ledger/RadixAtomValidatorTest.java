@@ -9,6 +9,7 @@ import com.radixdlt.client.core.atoms.RadixHash;
 import com.radixdlt.client.core.atoms.TransactionAtom;
 import com.radixdlt.client.core.crypto.ECKeyPair;
 import com.radixdlt.client.core.crypto.ECPublicKey;
+import com.radixdlt.client.core.crypto.ECSignature;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
@@ -16,6 +17,8 @@ import java.util.Optional;
 import org.junit.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class RadixAtomValidatorTest {
@@ -68,4 +71,30 @@ public class RadixAtomValidatorTest {
 		RadixAtomValidator validator = RadixAtomValidator.getInstance();
 		validator.validateSignatures(atom);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void checkedSignaturesAreNotVerifiedAgain() throws AtomValidationException {
+		RadixHash hash = mock(RadixHash.class);
+		ECPublicKey publicKey = mock(ECPublicKey.class);
+		when(publicKey.getUID()).thenReturn(new EUID(BigInteger.ONE));
+		ECSignature signature = new ECSignature(BigInteger.ONE, BigInteger.TEN);
+		when(hash.verifySelf(publicKey, signature)).thenReturn(true);
+
+		Consumer consumer = mock(Consumer.class);
+		when(consumer.isAbstractConsumable()).thenReturn(true);
+		when(consumer.getAsAbstractConsumable()).thenReturn(consumer);
+		when(consumer.getOwnersPublicKeys()).thenReturn(Collections.singleton(publicKey));
+		when(consumer.getAssetId()).thenReturn(Asset.TEST.getId());
+
+		TransactionAtom atom = mock(TransactionAtom.class);
+		when(atom.getHash()).thenReturn(hash);
+		when(atom.getSignature(any())).thenReturn(Optional.of(signature));
+		when(atom.getParticles()).thenReturn(Arrays.asList(consumer, consumer));
+
+		RadixAtomValidator validator = RadixAtomValidator.getInstance();
+		validator.validateSignatures(atom);
+		validator.validateSignatures(atom);
+
+		verify(hash, times(1)).verifySelf(publicKey, signature);
+	}
+}
@@ -0,0 +1,200 @@
+package com.radixdlt.client.core.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.radixdlt.client.core.address.EUID;
+import com.radixdlt.client.core.atoms.Atom;
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class AtomSubscriptionsTest {
+	private static final EUID A = new EUID(BigInteger.valueOf(1));
+	private static final EUID B = new EUID(BigInteger.valueOf(2));
+	private static final EUID C = new EUID(BigInteger.valueOf(3));
+
+	private static Atom atom(EUID... destinations) {
+		Atom atom = mock(Atom.class);
+		when(atom.getDestinations()).thenReturn(new HashSet<>(Arrays.asList(destinations)));
+		return atom;
+	}
+
+	private static RadixJsonRpcClient client(PublishSubject<Atom> atoms) {
+		RadixJsonRpcClient client = mock(RadixJsonRpcClient.class);
+		when(client.newSubscriberId()).thenReturn("1", "2", "3");
+		when(client.getAtoms(any(), anyString())).thenReturn(atoms);
+		return client;
+	}
+
+	@Test
+	public void destinationsWatchedTogetherShareASubscriptionAndAtomsAreRouted() {
+		PublishSubject<Atom> atoms = PublishSubject.create();
+		RadixJsonRpcClient client = client(atoms);
+		TestScheduler scheduler = new TestScheduler();
+		AtomSubscriptions subscriptions = new AtomSubscriptions(client, 10, 50, TimeUnit.MILLISECONDS, scheduler);
+
+		TestObserver<Atom> a = subscriptions.getAtoms(A).test();
+		TestObserver<Atom> b = subscriptions.getAtoms(B).test();
+		TestObserver<Atom> c = subscriptions.getAtoms(C).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+
+		ArgumentCaptor<AtomQuery> query = ArgumentCaptor.forClass(AtomQuery.class);
+		verify(client).getAtoms(query.capture(), eq("1"));
+		assertThat(query.getValue().getDestinations()).containsExactly(A, B, C);
+		assertThat(subscriptions.getSubscriptions()).isEqualTo(1);
+
+		Atom toAandC = atom(A, C);
+		Atom toB = atom(B);
+		atoms.onNext(toAandC);
+		atoms.onNext(toB);
+
+		a.assertValue(toAandC);
+		b.assertValue(toB);
+		c.assertValue(toAandC);
+
+		a.dispose();
+		b.dispose();
+		assertThat(atoms.hasObservers()).isTrue();
+		c.dispose();
+		assertThat(atoms.hasObservers()).isFalse();
+		assertThat(subscriptions.getSubscriptions()).isEqualTo(0);
+	}
+
+	@Test
+	public void laterDestinationJoinsExistingSubscriptionWhereSupported() {
+		PublishSubject<Atom> atoms = PublishSubject.create();
+		RadixJsonRpcClient client = client(atoms);
+		when(client.updateAtomsSubscription(any(), any(), any())).thenReturn(Completable.complete());
+		TestScheduler scheduler = new TestScheduler();
+		AtomSubscriptions subscriptions = new AtomSubscriptions(client, 10, 50, TimeUnit.MILLISECONDS, scheduler);
+
+		TestObserver<Atom> a = subscriptions.getAtoms(A).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+		TestObserver<Atom> b = subscriptions.getAtoms(B).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+
+		verify(client).updateAtomsSubscription("1", Collections.singletonList(B), Collections.emptyList());
+		verify(client, never()).getAtoms(any(), eq("2"));
+
+		Atom toB = atom(B);
+		atoms.onNext(toB);
+		a.assertNoValues();
+		b.assertValue(toB);
+
+		b.dispose();
+		verify(client).updateAtomsSubscription("1", Collections.emptyList(), Collections.singletonList(B));
+	}
+
+	@Test
+	public void laterDestinationGetsNewSubscriptionWhereUpdatesUnsupported() {
+		PublishSubject<Atom> atoms = PublishSubject.create();
+		RadixJsonRpcClient client = client(atoms);
+		when(client.updateAtomsSubscription(any(), any(), any()))
+			.thenReturn(Completable.error(new JsonRpcException(RadixJsonRpcClient.METHOD_NOT_FOUND, "Method not found")));
+		TestScheduler scheduler = new TestScheduler();
+		AtomSubscriptions subscriptions = new AtomSubscriptions(client, 10, 50, TimeUnit.MILLISECONDS, scheduler);
+
+		subscriptions.getAtoms(A).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+		TestObserver<Atom> b = subscriptions.getAtoms(B).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+
+		verify(client).getAtoms(any(), eq("2"));
+		assertThat(subscriptions.getSubscriptions()).isEqualTo(2);
+
+		// Both subscriptions share the mocked atoms, B must only receive its atom once
+		Atom toB = atom(B);
+		atoms.onNext(toB);
+		b.assertValue(toB);
+	}
+
+	@Test
+	public void updatesAreOnlyGivenUpOnWhenTheMethodIsUnknown() {
+		PublishSubject<Atom> atoms = PublishSubject.create();
+		RadixJsonRpcClient client = client(atoms);
+		when(client.updateAtomsSubscription(any(), any(), any()))
+			.thenReturn(Completable.error(new JsonRpcException(-32000, "Server busy")), Completable.complete());
+		TestScheduler scheduler = new TestScheduler();
+		AtomSubscriptions subscriptions = new AtomSubscriptions(client, 10, 50, TimeUnit.MILLISECONDS, scheduler);
+
+		subscriptions.getAtoms(A).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+		TestObserver<Atom> b = subscriptions.getAtoms(B).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+
+		// B couldn't join, so gets a subscription of its own
+		verify(client).getAtoms(any(), eq("2"));
+		Atom toB = atom(B);
+		atoms.onNext(toB);
+		b.assertValue(toB);
+
+		subscriptions.getAtoms(C).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+
+		verify(client).updateAtomsSubscription(any(), eq(Collections.singletonList(C)), eq(Collections.emptyList()));
+		verify(client, never()).getAtoms(any(), eq("3"));
+	}
+
+	@Test
+	public void destinationsAreSubscribedOneByOneWhereMultiDestinationQueriesAreRejected() {
+		PublishSubject<Atom> atoms = PublishSubject.create();
+		RadixJsonRpcClient client = client(atoms);
+		when(client.newSubscriberId()).thenReturn("1", "2", "3", "4");
+		when(client.getAtoms(any(), eq("1"))).thenReturn(Observable.error(new JsonRpcException(-32602, "Invalid params")));
+		when(client.updateAtomsSubscription(any(), any(), any()))
+			.thenReturn(Completable.error(new JsonRpcException(RadixJsonRpcClient.METHOD_NOT_FOUND, "Method not found")));
+		TestScheduler scheduler = new TestScheduler();
+		AtomSubscriptions subscriptions = new AtomSubscriptions(client, 10, 50, TimeUnit.MILLISECONDS, scheduler);
+
+		TestObserver<Atom> a = subscriptions.getAtoms(A).test();
+		TestObserver<Atom> b = subscriptions.getAtoms(B).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+		TestObserver<Atom> c = subscriptions.getAtoms(C).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+
+		ArgumentCaptor<AtomQuery> query = ArgumentCaptor.forClass(AtomQuery.class);
+		verify(client).getAtoms(query.capture(), eq("2"));
+		verify(client).getAtoms(query.capture(), eq("3"));
+		verify(client).getAtoms(query.capture(), eq("4"));
+		assertThat(query.getAllValues()).extracting(AtomQuery::getDestination).containsExactly(A, B, C);
+		assertThat(subscriptions.getSubscriptions()).isEqualTo(3);
+
+		Atom toA = atom(A);
+		atoms.onNext(toA);
+		a.assertNoErrors().assertValue(toA);
+		b.assertNoErrors().assertNoValues();
+		c.assertNoErrors().assertNoValues();
+	}
+
+	@Test
+	public void failedSubscriptionFailsItsDestinations() {
+		PublishSubject<Atom> atoms = PublishSubject.create();
+		RadixJsonRpcClient client = client(atoms);
+		TestScheduler scheduler = new TestScheduler();
+		AtomSubscriptions subscriptions = new AtomSubscriptions(client, 10, 50, TimeUnit.MILLISECONDS, scheduler);
+
+		TestObserver<Atom> a = subscriptions.getAtoms(A).test();
+		scheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+		atoms.onError(new RuntimeException("Connection lost"));
+
+		a.assertErrorMessage("Connection lost");
+		assertThat(subscriptions.getDestinations()).isEqualTo(0);
+		assertThat(subscriptions.getSubscriptions()).isEqualTo(0);
+	}
+}
@@ -0,0 +1,138 @@
+package com.radixdlt.client.core.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.radixdlt.client.core.network.RadixJsonRpcClient.RequestIds;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonRpcBatcherTest {
+	private final JsonParser parser = new JsonParser();
+	private final List<JsonElement> frames = new CopyOnWriteArrayList<>();
+	private MockWebServer server;
+	private volatile boolean supportsBatches;
+	private volatile int unrelatedErrors;
+
+	private static JsonObject error(int code, String message) {
+		JsonObject error = new JsonObject();
+		error.add("id", JsonNull.INSTANCE);
+		JsonObject details = new JsonObject();
+		details.addProperty("code", code);
+		details.addProperty("message", message);
+		error.add("error", details);
+		return error;
+	}
+
+	private static JsonObject response(JsonObject request) {
+		JsonObject response = new JsonObject();
+		response.add("id", request.get("id"));
+		response.add("result", new JsonArray());
+		return response;
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		server = new MockWebServer();
+		server.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+			@Override
+			public void onMessage(WebSocket webSocket, String text) {
+				JsonElement frame = parser.parse(text);
+				frames.add(frame);
+				if (frame.isJsonObject()) {
+					webSocket.send(response(frame.getAsJsonObject()).toString());
+				} else if (supportsBatches) {
+					for (int i = 0; i < unrelatedErrors; i++) {
+						webSocket.send(error(-32603, "Internal error").toString());
+					}
+					JsonArray responses = new JsonArray();
+					frame.getAsJsonArray().forEach(request -> responses.add(response(request.getAsJsonObject())));
+					webSocket.send(responses.toString());
+				} else {
+					webSocket.send(error(-32600, "Invalid Request").toString());
+				}
+			}
+		}));
+		server.start();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		server.shutdown();
+	}
+
+	private RadixJsonRpcClient client(JsonRpcBatching batching) {
+		OkHttpClient okHttpClient = new OkHttpClient();
+		WebSocketClient wsClient = new WebSocketClient(() -> okHttpClient, new Request.Builder().url(server.url("/rpc")).build());
+		return new RadixJsonRpcClient(wsClient, false, RequestIds.SEQUENTIAL, batching);
+	}
+
+	private static void callConcurrently(RadixJsonRpcClient client, int calls) {
+		List<List<NodeRunnerData>> results = Observable.range(0, calls)
+			.flatMapSingle(i -> client.getLivePeers())
+			.toList()
+			.timeout(10, TimeUnit.SECONDS)
+			.blockingGet();
+		assertThat(results).hasSize(calls).allMatch(List::isEmpty);
+		assertThat(client.getPendingCalls()).isZero();
+	}
+
+	@Test
+	public void coalescesCallsIntoBatches() {
+		supportsBatches = true;
+		callConcurrently(client(JsonRpcBatching.of(4, 1, TimeUnit.SECONDS)), 10);
+
+		// Two full batches go out straight away, the rest once the window closes
+		assertThat(frames).hasSize(3);
+		assertThat(frames.get(0).getAsJsonArray()).hasSize(4);
+		assertThat(frames.get(1).getAsJsonArray()).hasSize(4);
+		assertThat(frames.get(2).getAsJsonArray()).hasSize(2);
+	}
+
+	@Test
+	public void fallsBackToSingleCallsWhenBatchesAreRejected() {
+		supportsBatches = false;
+		RadixJsonRpcClient client = client(JsonRpcBatching.of(3, 1, TimeUnit.SECONDS));
+		callConcurrently(client, 3);
+
+		assertThat(frames.get(0).isJsonArray()).isTrue();
+		assertThat(frames.subList(1, frames.size())).hasSize(3).allMatch(JsonElement::isJsonObject);
+
+		frames.clear();
+		callConcurrently(client, 3);
+		assertThat(frames).hasSize(3).allMatch(JsonElement::isJsonObject);
+	}
+
+	@Test
+	public void keepsBatchingOnErrorsWhichDoNotAnswerABatch() {
+		supportsBatches = true;
+		unrelatedErrors = 1;
+		RadixJsonRpcClient client = client(JsonRpcBatching.of(3, 1, TimeUnit.SECONDS));
+		callConcurrently(client, 3);
+		callConcurrently(client, 3);
+
+		assertThat(frames).hasSize(2).allMatch(JsonElement::isJsonArray);
+	}
+
+	@Test
+	public void sendsEachCallOnItsOwnWhenNotBatching() {
+		callConcurrently(client(JsonRpcBatching.none()), 5);
+		assertThat(frames).hasSize(5).allMatch(JsonElement::isJsonObject);
+	}
+}
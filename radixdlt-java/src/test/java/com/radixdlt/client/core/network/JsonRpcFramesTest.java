@@ -0,0 +1,55 @@
+package com.radixdlt.client.core.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.JsonObject;
+import com.radixdlt.client.core.atoms.Atom;
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+
+public class JsonRpcFramesTest {
+	@Test
+	public void batchFrameIsSplitIntoItsResponses() throws IOException {
+		List<Object> messages = JsonRpcFrames.parse("[{\"id\":\"1\",\"result\":1},{\"id\":\"2\",\"error\":{\"code\":-32601}}]");
+
+		assertThat(messages).hasSize(2);
+		assertThat(((JsonObject) messages.get(0)).get("id").getAsString()).isEqualTo("1");
+		assertThat(((JsonObject) messages.get(1)).getAsJsonObject("error").get("code").getAsInt()).isEqualTo(-32601);
+	}
+
+	@Test
+	public void notificationWithoutAtomsStaysATree() throws IOException {
+		List<Object> messages = JsonRpcFrames.parse("{\"method\":\"Test.onNext\",\"params\":{\"subscriberId\":\"1\",\"value\":2}}");
+
+		assertThat(messages).hasSize(1);
+		JsonObject params = ((JsonObject) messages.get(0)).getAsJsonObject("params");
+		assertThat(params.get("subscriberId").getAsString()).isEqualTo("1");
+		assertThat(params.get("value").getAsInt()).isEqualTo(2);
+	}
+
+	@Test
+	public void atomsAreReadStraightFromTheFrame() throws IOException {
+		List<Object> messages = JsonRpcFrames.parse(
+			"{\"method\":\"Atoms.subscribeUpdate\",\"params\":{\"atoms\":[],\"subscriberId\":\"7\",\"isHead\":false}}"
+		);
+
+		assertThat(messages).hasSize(1);
+		assertThat(messages.get(0)).isInstanceOf(AtomsNotification.class);
+		AtomsNotification notification = (AtomsNotification) messages.get(0);
+		assertThat(notification.getMethod()).isEqualTo("Atoms.subscribeUpdate");
+		assertThat(notification.getSubscriberId()).isEqualTo("7");
+		assertThat(notification.getAtoms(Atom.class)).isEmpty();
+	}
+
+	@Test
+	public void atomsAreOnlyDecodedWhenRead() throws IOException {
+		List<Object> messages = JsonRpcFrames.parse(
+			"{\"method\":\"Atoms.subscribeUpdate\",\"params\":{\"atoms\":[{\"serializer\":-1}],\"subscriberId\":\"7\"}}"
+		);
+
+		AtomsNotification notification = (AtomsNotification) messages.get(0);
+		assertThatThrownBy(() -> notification.getAtoms(Atom.class)).hasMessageContaining("Unknown Atom Serializer");
+	}
+}
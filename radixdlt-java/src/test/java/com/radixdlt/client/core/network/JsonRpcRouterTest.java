@@ -0,0 +1,100 @@
+package com.radixdlt.client.core.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.JsonObject;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import java.io.IOException;
+import org.junit.Test;
+
+public class JsonRpcRouterTest {
+	private static JsonObject response(String id) {
+		JsonObject response = new JsonObject();
+		response.addProperty("id", id);
+		response.addProperty("result", id);
+		return response;
+	}
+
+	private static JsonObject notification(String subscriberId, int value) {
+		JsonObject params = new JsonObject();
+		params.addProperty("subscriberId", subscriberId);
+		params.addProperty("value", value);
+		JsonObject notification = new JsonObject();
+		notification.addProperty("method", "Test.onNext");
+		notification.add("params", params);
+		return notification;
+	}
+
+	@Test
+	public void routesResponsesById() {
+		PublishSubject<JsonObject> messages = PublishSubject.create();
+		JsonRpcRouter router = new JsonRpcRouter(messages, Observable.empty());
+
+		TestObserver<JsonObject> first = router.call("1", () -> true).test();
+		TestObserver<JsonObject> second = router.call("2", () -> true).test();
+		assertThat(router.getPendingCalls()).isEqualTo(2);
+
+		messages.onNext(response("2"));
+		messages.onNext(response("3"));
+		second.assertValue(response("2"));
+		first.assertNoValues();
+		assertThat(router.getPendingCalls()).isEqualTo(1);
+
+		messages.onNext(response("1"));
+		first.assertValue(response("1"));
+		assertThat(router.getPendingCalls()).isZero();
+		assertThat(messages.hasObservers()).isFalse();
+	}
+
+	@Test
+	public void failsCallsWhichCannotBeSent() {
+		PublishSubject<JsonObject> messages = PublishSubject.create();
+		JsonRpcRouter router = new JsonRpcRouter(messages, Observable.empty());
+
+		router.call("1", () -> false).test().assertError(RuntimeException.class);
+		assertThat(router.getPendingCalls()).isZero();
+		assertThat(messages.hasObservers()).isFalse();
+	}
+
+	@Test
+	public void routesNotificationsBySubscriberUntilDisposed() {
+		PublishSubject<JsonObject> messages = PublishSubject.create();
+		JsonRpcRouter router = new JsonRpcRouter(messages, Observable.empty());
+
+		TestObserver<JsonObject> a = router.notifications("a").test();
+		TestObserver<JsonObject> b = router.notifications("b").test();
+		assertThat(router.getSubscriptions()).isEqualTo(2);
+
+		messages.onNext(notification("a", 1));
+		messages.onNext(notification("b", 2));
+		messages.onNext(notification("a", 3));
+		a.assertValues(notification("a", 1), notification("a", 3));
+		b.assertValues(notification("b", 2));
+
+		a.dispose();
+		messages.onNext(notification("a", 4));
+		a.assertValueCount(2);
+		assertThat(router.getSubscriptions()).isEqualTo(1);
+
+		b.dispose();
+		assertThat(router.getSubscriptions()).isZero();
+		assertThat(messages.hasObservers()).isFalse();
+	}
+
+	@Test
+	public void connectionFailureFailsEverything() {
+		PublishSubject<JsonObject> messages = PublishSubject.create();
+		JsonRpcRouter router = new JsonRpcRouter(messages, Observable.empty());
+
+		TestObserver<JsonObject> call = router.call("1", () -> true).test();
+		TestObserver<JsonObject> subscription = router.notifications("a").test();
+		messages.onError(new IOException("Connection Failure."));
+
+		call.assertError(RuntimeException.class);
+		subscription.assertError(IOException.class);
+		assertThat(router.getPendingCalls()).isZero();
+		assertThat(router.getSubscriptions()).isZero();
+	}
+}
@@ -0,0 +1,85 @@
+package com.radixdlt.client.core.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.radixdlt.client.core.network.RadixClientPool.Lane;
+import com.radixdlt.client.core.network.WebSocketClient.RadixClientStatus;
+import io.reactivex.subjects.BehaviorSubject;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+
+public class RadixClientPoolTest {
+	private final List<RadixJsonRpcClient> clients = new ArrayList<>();
+	private final List<BehaviorSubject<RadixClientStatus>> statuses = new ArrayList<>();
+
+	private RadixClientPool pool(int requestConnections, int bulkConnections) {
+		for (int i = 0; i < requestConnections + bulkConnections; i++) {
+			RadixJsonRpcClient client = mock(RadixJsonRpcClient.class);
+			BehaviorSubject<RadixClientStatus> status = BehaviorSubject.createDefault(RadixClientStatus.CLOSED);
+			when(client.getStatus()).thenReturn(status);
+			clients.add(client);
+			statuses.add(status);
+		}
+		Iterator<RadixJsonRpcClient> connections = clients.iterator();
+		return new RadixClientPool(connections::next, requestConnections, bulkConnections);
+	}
+
+	@Test
+	public void lanesHaveTheirOwnConnections() {
+		RadixClientPool pool = pool(2, 1);
+
+		assertThat(pool.getConnections(Lane.REQUEST)).containsExactly(clients.get(0), clients.get(1));
+		assertThat(pool.getConnections(Lane.BULK)).containsExactly(clients.get(2));
+		assertThat(pool.get(Lane.BULK)).isSameAs(clients.get(2));
+	}
+
+	@Test
+	public void leastPendingConnectionIsPicked() {
+		RadixClientPool pool = pool(3, 1);
+		when(clients.get(0).getPendingCalls()).thenReturn(5);
+		when(clients.get(1).getPendingCalls()).thenReturn(1);
+		when(clients.get(2).getPendingCalls()).thenReturn(2);
+
+		assertThat(pool.get(Lane.REQUEST)).isSameAs(clients.get(1));
+
+		when(clients.get(2).getSubscriptions()).thenReturn(0);
+		when(clients.get(1).getSubscriptions()).thenReturn(3);
+		assertThat(pool.get(Lane.REQUEST)).isSameAs(clients.get(2));
+	}
+
+	@Test
+	public void openConnectionIsPreferredOnATie() {
+		RadixClientPool pool = pool(2, 1);
+		statuses.get(1).onNext(RadixClientStatus.OPEN);
+
+		assertThat(pool.get(Lane.REQUEST)).isSameAs(clients.get(1));
+	}
+
+	@Test
+	public void unhealthyConnectionsAreSkippedUnlessNoneAreHealthy() {
+		RadixClientPool pool = pool(2, 1);
+		when(clients.get(1).getPendingCalls()).thenReturn(10);
+		statuses.get(0).onNext(RadixClientStatus.FAILURE);
+
+		assertThat(pool.get(Lane.REQUEST)).isSameAs(clients.get(1));
+		assertThat(pool.isHealthy(Lane.REQUEST)).isTrue();
+
+		statuses.get(1).onNext(RadixClientStatus.CLOSING);
+		assertThat(pool.isHealthy(Lane.REQUEST)).isFalse();
+		assertThat(pool.get(Lane.REQUEST)).isSameAs(clients.get(0));
+	}
+
+	@Test
+	public void multiplexedDestinationsAddToTheLoad() {
+		RadixClientPool pool = pool(1, 2);
+		when(clients.get(1).getSubscriptions()).thenReturn(1);
+		when(clients.get(1).getMultiplexedDestinations()).thenReturn(99);
+		when(clients.get(2).getSubscriptions()).thenReturn(3);
+
+		assertThat(pool.get(Lane.BULK)).isSameAs(clients.get(2));
+	}
+}
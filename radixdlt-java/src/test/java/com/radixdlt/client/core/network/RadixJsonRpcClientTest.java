@@ -1,5 +1,7 @@
 package com.radixdlt.client.core.network;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -15,13 +17,22 @@ import com.radixdlt.client.core.atoms.ApplicationPayloadAtom;
 import com.radixdlt.client.core.atoms.Atom;
 import com.radixdlt.client.core.atoms.Shards;
 import com.radixdlt.client.core.network.AtomSubmissionUpdate.AtomSubmissionState;
+import com.radixdlt.client.core.network.RadixJsonRpcClient.RequestIds;
 import com.radixdlt.client.core.network.WebSocketClient.RadixClientStatus;
+import com.radixdlt.client.core.serialization.Dson;
 import com.radixdlt.client.core.serialization.RadixJson;
 import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.observers.TestObserver;
 import io.reactivex.subjects.ReplaySubject;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import okio.ByteString;
 import org.junit.Test;
 
 public class RadixJsonRpcClientTest {
@@ -217,6 +228,92 @@ public class RadixJsonRpcClientTest {
 		observer.assertValue(atom -> atom.getAsMessageAtom().getApplicationId().equals("Test"));
 	}
 
+	@Test
+	public void undecodableAtomOnlyFailsItsSubscriber() {
+		WebSocketClient wsClient = mock(WebSocketClient.class);
+		ReplaySubject<String> messages = ReplaySubject.create();
+		when(wsClient.getMessages()).thenReturn(messages);
+		when(wsClient.connect()).thenReturn(Completable.complete());
+
+		JsonParser parser = new JsonParser();
+		List<String> subscriberIds = new ArrayList<>();
+		doAnswer(invocation -> {
+			JsonObject request = parser.parse((String) invocation.getArguments()[0]).getAsJsonObject();
+			if (!request.has("id")) {
+				return true;
+			}
+
+			JsonObject response = new JsonObject();
+			response.add("id", request.get("id"));
+			response.add("result", new JsonArray());
+			messages.onNext(response.toString());
+
+			if (request.get("method").getAsString().equals("Atoms.subscribe")) {
+				subscriberIds.add(request.getAsJsonObject("params").get("subscriberId").getAsString());
+			}
+			return true;
+		}).when(wsClient).send(any());
+		RadixJsonRpcClient jsonRpcClient = new RadixJsonRpcClient(wsClient);
+
+		TestObserver<Atom> bad = jsonRpcClient.getAtoms(new AtomQuery<>(new EUID(BigInteger.ONE), Atom.class)).test();
+		TestObserver<Atom> good = jsonRpcClient.getAtoms(new AtomQuery<>(new EUID(BigInteger.TEN), Atom.class)).test();
+		messages.onNext("{\"method\":\"Atoms.subscribeUpdate\",\"params\":{\"subscriberId\":\"" + subscriberIds.get(0)
+			+ "\",\"atoms\":[{\"serializer\":-1}]}}");
+
+		bad.assertError(e -> e.getMessage().contains("Unknown Atom Serializer"));
+		good.assertNoErrors();
+		assertEquals(1, jsonRpcClient.getSubscriptions());
+		jsonRpcClient.getLivePeers().test().assertValue(List::isEmpty);
+	}
+
+	@Test
+	public void getAtomsAsDsonTest() {
+		WebSocketClient wsClient = mock(WebSocketClient.class);
+		when(wsClient.getStatus()).thenReturn(Observable.just(RadixClientStatus.OPEN));
+
+		ReplaySubject<String> messages = ReplaySubject.create();
+		ReplaySubject<ByteString> binaryMessages = ReplaySubject.create();
+		when(wsClient.getMessages()).thenReturn(messages);
+		when(wsClient.getBinaryMessages()).thenReturn(binaryMessages);
+		when(wsClient.connect()).thenReturn(Completable.complete());
+
+		JsonParser parser = new JsonParser();
+		Gson gson = RadixJson.getGson();
+
+		doAnswer(invocation -> {
+			String msg = (String) invocation.getArguments()[0];
+			JsonObject jsonObject = parser.parse(msg).getAsJsonObject();
+			String id = jsonObject.get("id").getAsString();
+			JsonObject requestParams = jsonObject.get("params").getAsJsonObject();
+			assertEquals("DSON", requestParams.get("encoding").getAsString());
+
+			JsonObject response = new JsonObject();
+			response.addProperty("id", id);
+			response.add("result", new JsonObject());
+
+			messages.onNext(gson.toJson(response));
+
+			Map<String, Object> params = new LinkedHashMap<>();
+			params.put("subscriberId", requestParams.get("subscriberId").getAsString());
+			params.put("atoms", Collections.singletonList(new ApplicationPayloadAtom("Test", null, null, null, null, 1)));
+			Map<String, Object> notification = new LinkedHashMap<>();
+			notification.put("method", "Atoms.subscribeUpdate");
+			notification.put("params", params);
+
+			binaryMessages.onNext(ByteString.of(Dson.getInstance().toDson(notification)));
+			return true;
+		}).when(wsClient).send(any());
+		RadixJsonRpcClient jsonRpcClient = new RadixJsonRpcClient(wsClient, true);
+
+		TestObserver<ApplicationPayloadAtom> observer = new TestObserver<>();
+
+		jsonRpcClient.getAtoms(new AtomQuery<>(new EUID(BigInteger.ONE), ApplicationPayloadAtom.class)).subscribe(observer);
+
+		observer.assertNoErrors();
+		observer.assertValueCount(1);
+		observer.assertValue(atom -> atom.getAsMessageAtom().getApplicationId().equals("Test"));
+	}
+
 	@Test
 	public void getAtomsCancelTest() {
 		WebSocketClient wsClient = mock(WebSocketClient.class);
@@ -327,4 +424,59 @@ public class RadixJsonRpcClientTest {
 		observer.assertValueAt(observer.valueCount() - 1, update -> update.getState().equals(AtomSubmissionState.STORED));
 		observer.assertComplete();
 	}
-}
\ No newline at end of file
+
+	private static List<JsonElement> requestIds(Function<WebSocketClient, RadixJsonRpcClient> client) {
+		WebSocketClient wsClient = mock(WebSocketClient.class);
+		ReplaySubject<String> messages = ReplaySubject.create();
+		when(wsClient.getMessages()).thenReturn(messages);
+		when(wsClient.connect()).thenReturn(Completable.complete());
+
+		JsonParser parser = new JsonParser();
+		List<JsonElement> ids = new ArrayList<>();
+		doAnswer(invocation -> {
+			JsonObject request = parser.parse((String) invocation.getArguments()[0]).getAsJsonObject();
+			ids.add(request.get("id"));
+
+			JsonObject response = new JsonObject();
+			response.add("id", request.get("id"));
+			response.add("result", new JsonArray());
+			messages.onNext(response.toString());
+			return true;
+		}).when(wsClient).send(any());
+
+		RadixJsonRpcClient jsonRpcClient = client.apply(wsClient);
+		for (int i = 0; i < 3; i++) {
+			jsonRpcClient.getLivePeers().test().assertValue(List::isEmpty);
+		}
+		assertEquals(0, jsonRpcClient.getPendingCalls());
+		return ids;
+	}
+
+	@Test
+	public void sequentialRequestIdsCountUp() {
+		List<JsonElement> ids = requestIds(wsClient -> new RadixJsonRpcClient(wsClient, false, RequestIds.SEQUENTIAL));
+		assertEquals(3, ids.size());
+		for (int i = 0; i < ids.size(); i++) {
+			assertEquals(i + 1, ids.get(i).getAsJsonPrimitive().getAsLong());
+			assertTrue(ids.get(i).getAsJsonPrimitive().isNumber());
+		}
+	}
+
+	@Test
+	public void uuidRequestIdsAreStrings() {
+		assertUuids(requestIds(wsClient -> new RadixJsonRpcClient(wsClient, false, RequestIds.RANDOM_UUID)));
+	}
+
+	@Test
+	public void requestIdsAreUuidsByDefault() {
+		assertUuids(requestIds(RadixJsonRpcClient::new));
+	}
+
+	private static void assertUuids(List<JsonElement> ids) {
+		assertEquals(3, ids.size());
+		for (JsonElement id : ids) {
+			assertTrue(id.getAsJsonPrimitive().isString());
+			assertEquals(36, id.getAsString().length());
+		}
+	}
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.radixdlt.client.core.address.RadixUniverseConfig;
+import com.radixdlt.client.core.network.RadixClientPool.Lane;
 import com.radixdlt.client.core.network.WebSocketClient.RadixClientStatus;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
@@ -12,6 +13,8 @@ import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
 import java.io.IOException;
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.stream.IntStream;
 import org.junit.Test;
 
@@ -84,4 +87,29 @@ public class RadixNetworkTest {
 		network.connectAndGetStatusUpdates().subscribe();
 		observer.assertNoErrors();
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void statusUpdatesCoverBothLanes() {
+		RadixJsonRpcClient request = mock(RadixJsonRpcClient.class);
+		RadixJsonRpcClient bulk = mock(RadixJsonRpcClient.class);
+		when(request.getLocation()).thenReturn("request");
+		when(bulk.getLocation()).thenReturn("bulk");
+		when(request.getStatus()).thenReturn(Observable.just(RadixClientStatus.OPEN));
+		when(bulk.getStatus()).thenReturn(Observable.just(RadixClientStatus.FAILURE));
+		Iterator<RadixJsonRpcClient> clients = Arrays.asList(request, bulk).iterator();
+		RadixClientPool pool = new RadixClientPool(clients::next, 1, 1);
+		RadixPeer peer = mock(RadixPeer.class);
+		when(peer.getConnections()).thenReturn(pool);
+
+		RadixNetwork network = new RadixNetwork(() -> Observable.just(peer));
+		TestObserver<SimpleImmutableEntry<String, RadixClientStatus>> all = network.getStatusUpdates().test();
+		TestObserver<SimpleImmutableEntry<String, RadixClientStatus>> bulkOnly = network.getStatusUpdates(Lane.BULK).test();
+		network.connectAndGetStatusUpdates().subscribe();
+
+		all.assertValues(
+			new SimpleImmutableEntry<>("request", RadixClientStatus.OPEN),
+			new SimpleImmutableEntry<>("bulk", RadixClientStatus.FAILURE)
+		);
+		bulkOnly.assertValue(new SimpleImmutableEntry<>("bulk", RadixClientStatus.FAILURE));
+	}
+}
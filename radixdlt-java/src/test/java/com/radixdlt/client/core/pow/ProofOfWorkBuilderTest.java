@@ -1,5 +1,10 @@
 package com.radixdlt.client.core.pow;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.Test;
 
 public class ProofOfWorkBuilderTest {
@@ -11,4 +16,28 @@ public class ProofOfWorkBuilderTest {
 
 		pow.validate();
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void parallelSearchFindsTheSameNonceAsSingleThreaded() throws ProofOfWorkException {
+		int magic = 12345;
+		byte[] seed = new byte[32];
+		seed[0] = 1;
+		ForkJoinPool pool = new ForkJoinPool(3);
+		try {
+			long expected = new ProofOfWorkBuilder(1).build(magic, seed, 12).getNonce();
+			for (int workers = 2; workers <= 4; workers++) {
+				ProofOfWork pow = new ProofOfWorkBuilder(pool, workers).build(magic, seed, 12);
+				pow.validate();
+				assertThat(pow.getNonce()).isEqualTo(expected);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void cancelledSearchThrows() {
+		assertThatThrownBy(() -> new ProofOfWorkBuilder(2).build(12345, new byte[32], 256, () -> true))
+			.isInstanceOf(CancellationException.class);
+	}
+}
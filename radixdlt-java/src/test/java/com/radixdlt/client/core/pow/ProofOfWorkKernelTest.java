@@ -0,0 +1,32 @@
+package com.radixdlt.client.core.pow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import okio.ByteString;
+import org.junit.Test;
+
+public class ProofOfWorkKernelTest {
+	@Test
+	public void kernelAgreesWithValidate() {
+		int magic = 12345;
+		byte[] seed = new byte[32];
+		seed[31] = 7;
+
+		for (int leading = 1; leading <= 12; leading += 3) {
+			byte[] target = ByteString.decodeHex(new ProofOfWorkBuilder(1).build(magic, seed, leading).getTargetHex()).toByteArray();
+			ProofOfWorkKernel kernel = new ProofOfWorkKernel(magic, seed, leading);
+			for (long nonce = 1; nonce < 2000; nonce++) {
+				assertThat(kernel.meetsTarget(nonce)).isEqualTo(isValid(new ProofOfWork(nonce, magic, seed, target)));
+			}
+		}
+	}
+
+	private static boolean isValid(ProofOfWork pow) {
+		try {
+			pow.validate();
+			return true;
+		} catch (ProofOfWorkException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.radixdlt.client.core.pow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CancellationException;
+import org.junit.Test;
+
+public class ProofOfWorkMetricsTest {
+	@Test
+	public void searchesAreReportedToListeners() {
+		ProofOfWorkMetrics metrics = new ProofOfWorkMetrics();
+		ProofOfWorkListeners.add(metrics);
+		try {
+			ProofOfWork pow = new ProofOfWorkBuilder(2).build(12345, new byte[32], 8, 700, () -> false);
+			assertThatThrownBy(() -> new ProofOfWorkBuilder(2).build(12345, new byte[32], 8, 700, () -> true))
+				.isInstanceOf(CancellationException.class);
+
+			assertThat(metrics.getCancelled()).isEqualTo(1);
+			assertThat(metrics.getTotal().getCount()).isEqualTo(1);
+			assertThat(metrics.getTotal().getAttempts()).isGreaterThanOrEqualTo(pow.getNonce());
+			assertThat(metrics.getTotal().getMeanLeading()).isEqualTo(8.0);
+			assertThat(metrics.getByAtomSize()).containsOnlyKeys(1024);
+			assertThat(metrics.summary()).contains("1 found, 1 cancelled");
+		} finally {
+			ProofOfWorkListeners.remove(metrics);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.radixdlt.client.core.pow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.radixdlt.client.core.pow.ProofOfWorkScheduler.Priority;
+import io.reactivex.observers.TestObserver;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import org.junit.After;
+import org.junit.Test;
+
+public class ProofOfWorkSchedulerTest {
+	private final ProofOfWorkScheduler scheduler = new ProofOfWorkScheduler(1, 8);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final List<String> ran = new CopyOnWriteArrayList<>();
+
+	@After
+	public void shutdown() {
+		release.countDown();
+		scheduler.shutdown();
+	}
+
+	private Function<BooleanSupplier, String> record(String name) {
+		return cancelled -> {
+			ran.add(name);
+			return name;
+		};
+	}
+
+	/**
+	 * Occupies the only thread until released so that following jobs queue up
+	 */
+	private TestObserver<String> block() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		TestObserver<String> blocker = scheduler.<String>schedule("blocker", Priority.INTERACTIVE, cancelled -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "blocker";
+		}).test();
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		return blocker;
+	}
+
+	@Test
+	public void interactiveJobsRunFirstAndIdentitiesTakeTurns() throws InterruptedException {
+		block();
+
+		TestObserver<String> a1 = scheduler.schedule("a", Priority.BULK, record("a1")).test();
+		TestObserver<String> a2 = scheduler.schedule("a", Priority.BULK, record("a2")).test();
+		TestObserver<String> b1 = scheduler.schedule("b", Priority.BULK, record("b1")).test();
+		TestObserver<String> c1 = scheduler.schedule("c", Priority.INTERACTIVE, record("c1")).test();
+		assertThat(scheduler.getQueued()).isEqualTo(4);
+
+		release.countDown();
+
+		a2.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		a1.assertValue("a1");
+		b1.assertValue("b1");
+		c1.assertValue("c1");
+		assertThat(ran).containsExactly("c1", "a1", "b1", "a2");
+	}
+
+	@Test
+	public void disposedJobsLeaveTheQueue() throws InterruptedException {
+		block();
+
+		TestObserver<String> disposed = scheduler.schedule("a", Priority.BULK, record("a1")).test();
+		TestObserver<String> kept = scheduler.schedule("a", Priority.BULK, record("a2")).test();
+		disposed.dispose();
+		assertThat(scheduler.getQueued()).isEqualTo(1);
+
+		release.countDown();
+
+		kept.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		kept.assertValue("a2");
+		assertThat(ran).containsExactly("a2");
+	}
+
+	@Test
+	public void disposingARunningJobCancelsIt() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch stopped = new CountDownLatch(1);
+		TestObserver<Object> running = scheduler.schedule("a", Priority.INTERACTIVE, cancelled -> {
+			started.countDown();
+			while (!cancelled.getAsBoolean()) {
+				Thread.yield();
+			}
+			stopped.countDown();
+			return new Object();
+		}).test();
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		running.dispose();
+		assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+		running.assertNoValues();
+	}
+
+	@Test
+	public void fullQueueRejectsJobs() throws InterruptedException {
+		block();
+
+		for (int i = 0; i < 8; i++) {
+			scheduler.schedule("a", Priority.BULK, record("a" + i)).test().assertNoErrors();
+		}
+
+		scheduler.schedule("b", Priority.INTERACTIVE, record("b")).test()
+			.assertError(RejectedExecutionException.class);
+	}
+}
@@ -0,0 +1,151 @@
+package com.radixdlt.client.core.serialization;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.radixdlt.client.core.address.EUID;
+import com.radixdlt.client.core.address.RadixUniverseConfigs;
+import com.radixdlt.client.core.address.RadixUniverseType;
+import com.radixdlt.client.core.atoms.ApplicationPayloadAtom;
+import com.radixdlt.client.core.atoms.AssetAtom;
+import com.radixdlt.client.core.atoms.AtomFeeConsumable;
+import com.radixdlt.client.core.atoms.Consumable;
+import com.radixdlt.client.core.atoms.Consumer;
+import com.radixdlt.client.core.atoms.Emission;
+import com.radixdlt.client.core.atoms.IdParticle;
+import com.radixdlt.client.core.atoms.Particle;
+import com.radixdlt.client.core.atoms.Payload;
+import com.radixdlt.client.core.atoms.RadixHash;
+import com.radixdlt.client.core.crypto.ECKeyPair;
+import com.radixdlt.client.core.crypto.ECPublicKey;
+import com.radixdlt.client.core.crypto.ECSignature;
+import com.radixdlt.client.core.crypto.EncryptedPrivateKey;
+import com.radixdlt.client.core.crypto.Encryptor;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.bouncycastle.util.encoders.Base64;
+import org.junit.Test;
+
+/**
+ * Golden vectors captured from the original reflective DSON encoder. Any change to
+ * the encoder must keep producing these exact bytes or atom hashes will change.
+ */
+public class DsonGoldenVectorTest {
+	private static final ECPublicKey KEY = new ECPublicKey(Base64.decode("A455PdOZNwyRWaSWFXyYYkbj7Wv9jtgCCqUYhuOHiPLC"));
+	private static final EUID ASSET_ID = new EUID(BigInteger.valueOf(2571410L));
+
+	static Map<String, Object> fixtures() {
+		ECKeyPair owner = new ECKeyPair(KEY);
+		List<Particle> particles = Arrays.asList(
+			new Consumable(100L, owner, 12345L, ASSET_ID),
+			new Consumer(40L, owner, 54321L, ASSET_ID),
+			new Emission(1L, owner, 7L, ASSET_ID),
+			new AtomFeeConsumable(3L, Collections.singleton(owner), 99L, ASSET_ID),
+			IdParticle.create("app", new EUID(BigInteger.TEN), KEY)
+		);
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("zeta", 2L);
+		map.put("alpha", "first");
+
+		Map<String, Object> fixtures = new LinkedHashMap<>();
+		fixtures.put("long", 1L);
+		fixtures.put("negativeLong", -1L);
+		fixtures.put("string", "Hello");
+		fixtures.put("bytes", new byte[] {0, 1, 2});
+		fixtures.put("euid", new EUID(BigInteger.valueOf(-123456789L)));
+		fixtures.put("list", Arrays.asList(1L, "two", new byte[] {3}));
+		fixtures.put("map", map);
+		fixtures.put("ordinal", RadixUniverseType.DEVELOPMENT);
+		fixtures.put("keyPair", owner);
+		fixtures.put("signature", new ECSignature(BigInteger.valueOf(123456789L), BigInteger.valueOf(-987654321L)));
+		fixtures.put("consumable", particles.get(0));
+		fixtures.put("consumer", particles.get(1));
+		fixtures.put("idParticle", particles.get(4));
+		fixtures.put("payloadAtom", new ApplicationPayloadAtom(
+			"radix-messaging",
+			particles,
+			Collections.singleton(KEY.getUID()),
+			Payload.fromAscii("Hello"),
+			new Encryptor(Collections.singletonList(new EncryptedPrivateKey(new byte[] {1, 2, 3}))),
+			1500000000000L
+		));
+		fixtures.put("signedPayloadAtom", new ApplicationPayloadAtom(
+			"radix-messaging",
+			particles,
+			Collections.singleton(KEY.getUID()),
+			Payload.fromAscii("Hello"),
+			new Encryptor(Collections.singletonList(new EncryptedPrivateKey(new byte[] {1, 2, 3}))),
+			1500000000000L,
+			KEY.getUID(),
+			new ECSignature(BigInteger.ONE, BigInteger.TEN)
+		));
+		fixtures.put("assetAtom", new AssetAtom(
+			Collections.singleton(owner), ASSET_ID, "CURRENCY", 100000L, 0L, 20483L,
+			"TEST", "Test", "Test token", "currencies", new byte[] {9, 9, 9}
+		));
+		return fixtures;
+	}
+
+	private static void assertVector(String name, String expectedBase64) {
+		byte[] dson = Dson.getInstance().toDson(fixtures().get(name));
+		assertEquals(name, expectedBase64, Base64.toBase64String(dson));
+	}
+
+	@Test
+	public void primitiveVectors() {
+		assertVector("long", "AgAAAAgAAAAAAAAAAQ==");
+		assertVector("negativeLong", "AgAAAAj//////////w==");
+		assertVector("string", "AwAAAAVIZWxsbw==");
+		assertVector("bytes", "BAAAAAMAAQI=");
+		assertVector("euid", "BwAAAAT4pDLr");
+		assertVector("list", "BgAAABsCAAAACAAAAAAAAAABAwAAAAN0d28EAAAAAQM=");
+		assertVector("map", "BQAAACIFYWxwaGEDAAAABWZpcnN0BHpldGECAAAACAAAAAAAAAAC");
+		assertVector("ordinal", "AgAAAAgAAAAAAAAAAg==");
+	}
+
+	@Test
+	public void cryptoVectors() {
+		assertVector("keyPair", "BQAAAEIGcHVibGljBAAAACEDjnk905k3DJFZpJYVfJhiRuPta/2O2AIKpRiG44eI8sIHdmVyc2lvbgIAAAAIAAAAAAAAAGQ=");
+		assertVector("signature", "BQAAACsBcgQAAAAEB1vNFQFzBAAAAATFIZdPB3ZlcnNpb24CAAAACAAAAAAAAABk");
+	}
+
+	@Test
+	public void particleVectors() {
+		assertVector("consumable", "BQAAAMUIYXNzZXRfaWQHAAAAAyc8kgxkZXN0aW5hdGlvbnMGAAAAEQcAAAAMjP71DqanZ4E2MUkPBW5vbmNlAgAAAAgAAAAAAAAwOQZvd25lcnMGAAAARwUAAABCBnB1YmxpYwQAAAAhA455PdOZNwyRWaSWFXyYYkbj7Wv9jtgCCqUYhuOHiPLCB3ZlcnNpb24CAAAACAAAAAAAAABkCHF1YW50aXR5AgAAAAgAAAAAAAAAZAd2ZXJzaW9uAgAAAAgAAAAAAAAAZA==");
+		assertVector("consumer", "BQAAAMUIYXNzZXRfaWQHAAAAAyc8kgxkZXN0aW5hdGlvbnMGAAAAEQcAAAAMjP71DqanZ4E2MUkPBW5vbmNlAgAAAAgAAAAAAADUMQZvd25lcnMGAAAARwUAAABCBnB1YmxpYwQAAAAhA455PdOZNwyRWaSWFXyYYkbj7Wv9jtgCCqUYhuOHiPLCB3ZlcnNpb24CAAAACAAAAAAAAABkCHF1YW50aXR5AgAAAAgAAAAAAAAAKAd2ZXJzaW9uAgAAAAgAAAAAAAAAZA==");
+		assertVector("idParticle", "BQAAALANYXBwbGljYXRpb25JZAMAAAADYXBwDGRlc3RpbmF0aW9ucwYAAAARBwAAAAyM/vUOpqdngTYxSQ8Gb3duZXJzBgAAAEcFAAAAQgZwdWJsaWMEAAAAIQOOeT3TmTcMkVmklhV8mGJG4+1r/Y7YAgqlGIbjh4jywgd2ZXJzaW9uAgAAAAgAAAAAAAAAZAh1bmlxdWVJZAcAAAABCgd2ZXJzaW9uAgAAAAgAAAAAAAAAZA==");
+	}
+
+	@Test
+	public void atomVectors() {
+		assertVector("payloadAtom", "BQAABMwGYWN0aW9uAwAAAAVTVE9SRQ1hcHBsaWNhdGlvbklkAwAAAA9yYWRpeC1tZXNzYWdpbmcMZGVzdGluYXRpb25zBgAAABEHAAAADIz+9Q6mp2eBNjFJDwllbmNyeXB0ZWQEAAAABUhlbGxvCWVuY3J5cHRvcgUAAAAtCnByb3RlY3RvcnMGAAAACAQAAAADAQIDB3ZlcnNpb24CAAAACAAAAAAAAABkCXBhcnRpY2xlcwYAAAPdBQAAAMUIYXNzZXRfaWQHAAAAAyc8kgxkZXN0aW5hdGlvbnMGAAAAEQcAAAAMjP71DqanZ4E2MUkPBW5vbmNlAgAAAAgAAAAAAAAwOQZvd25lcnMGAAAARwUAAABCBnB1YmxpYwQAAAAhA455PdOZNwyRWaSWFXyYYkbj7Wv9jtgCCqUYhuOHiPLCB3ZlcnNpb24CAAAACAAAAAAAAABkCHF1YW50aXR5AgAAAAgAAAAAAAAAZAd2ZXJzaW9uAgAAAAgAAAAAAAAAZAUAAADFCGFzc2V0X2lkBwAAAAMnPJIMZGVzdGluYXRpb25zBgAAABEHAAAADIz+9Q6mp2eBNjFJDwVub25jZQIAAAAIAAAAAAAA1DEGb3duZXJzBgAAAEcFAAAAQgZwdWJsaWMEAAAAIQOOeT3TmTcMkVmklhV8mGJG4+1r/Y7YAgqlGIbjh4jywgd2ZXJzaW9uAgAAAAgAAAAAAAAAZAhxdWFudGl0eQIAAAAIAAAAAAAAACgHdmVyc2lvbgIAAAAIAAAAAAAAAGQFAAAAxQhhc3NldF9pZAcAAAADJzySDGRlc3RpbmF0aW9ucwYAAAARBwAAAAyM/vUOpqdngTYxSQ8Fbm9uY2UCAAAACAAAAAAAAAAHBm93bmVycwYAAABHBQAAAEIGcHVibGljBAAAACEDjnk905k3DJFZpJYVfJhiRuPta/2O2AIKpRiG44eI8sIHdmVyc2lvbgIAAAAIAAAAAAAAAGQIcXVhbnRpdHkCAAAACAAAAAAAAAABB3ZlcnNpb24CAAAACAAAAAAAAABkBQAAAMUIYXNzZXRfaWQHAAAAAyc8kgxkZXN0aW5hdGlvbnMGAAAAEQcAAAAMjP71DqanZ4E2MUkPBW5vbmNlAgAAAAgAAAAAAAAAYwZvd25lcnMGAAAARwUAAABCBnB1YmxpYwQAAAAhA455PdOZNwyRWaSWFXyYYkbj7Wv9jtgCCqUYhuOHiPLCB3ZlcnNpb24CAAAACAAAAAAAAABkCHF1YW50aXR5AgAAAAgAAAAAAAAAAwd2ZXJzaW9uAgAAAAgAAAAAAAAAZAUAAACwDWFwcGxpY2F0aW9uSWQDAAAAA2FwcAxkZXN0aW5hdGlvbnMGAAAAEQcAAAAMjP71DqanZ4E2MUkPBm93bmVycwYAAABHBQAAAEIGcHVibGljBAAAACEDjnk905k3DJFZpJYVfJhiRuPta/2O2AIKpRiG44eI8sIHdmVyc2lvbgIAAAAIAAAAAAAAAGQIdW5pcXVlSWQHAAAAAQoHdmVyc2lvbgIAAAAIAAAAAAAAAGQKdGltZXN0YW1wcwUAAAAVB2RlZmF1bHQCAAAACAAAAV0+95gAB3ZlcnNpb24CAAAACAAAAAAAAABk");
+		assertVector("assetAtom", "BQAAAVEGYWN0aW9uAwAAAAVTVE9SRQ5jbGFzc2lmaWNhdGlvbgMAAAAKY3VycmVuY2llcwtkZXNjcmlwdGlvbgMAAAAKVGVzdCB0b2tlbgxkZXN0aW5hdGlvbnMGAAAAAARpY29uBAAAAAMJCQkCaWQHAAAAAyc8kgNpc28DAAAABFRFU1QFbGFiZWwDAAAABFRlc3QMbWF4aW11bVVuaXRzAgAAAAgAAAAAAAAAAAZvd25lcnMGAAAARwUAAABCBnB1YmxpYwQAAAAhA455PdOZNwyRWaSWFXyYYkbj7Wv9jtgCCqUYhuOHiPLCB3ZlcnNpb24CAAAACAAAAAAAAABkCHNldHRpbmdzAgAAAAgAAAAAAABQAwlzdWJfdW5pdHMCAAAACAAAAAAAAYagBHR5cGUDAAAACENVUlJFTkNZB3ZlcnNpb24CAAAACAAAAAAAAABk");
+	}
+
+	@Test
+	public void signaturesAreNotSerialized() {
+		assertArrayEquals(
+			Dson.getInstance().toDson(fixtures().get("payloadAtom")),
+			Dson.getInstance().toDson(fixtures().get("signedPayloadAtom"))
+		);
+	}
+
+	@Test
+	public void sizeOfMatchesEncodedLength() {
+		fixtures().forEach((name, fixture) ->
+			assertEquals(name, Dson.getInstance().toDson(fixture).length, Dson.getInstance().sizeOf(fixture))
+		);
+	}
+
+	@Test
+	public void universeVector() {
+		byte[] dson = Dson.getInstance().toDson(RadixUniverseConfigs.getWinterfell());
+		assertEquals(5286, dson.length);
+		assertEquals("G2fqJtsxcv1DyxcH5h418CPWCxbyYFPVk+CI2C9GqzA=", RadixHash.of(dson).toString());
+	}
+}
@@ -0,0 +1,91 @@
+package com.radixdlt.client.core.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.radixdlt.client.core.address.EUID;
+import com.radixdlt.client.core.address.RadixUniverseConfig;
+import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.serialization.Dson.Primitive;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.bouncycastle.util.encoders.Base64;
+import org.junit.Test;
+
+public class DsonReaderTest {
+	@Test
+	public void universeMatchesJsonTreePath() {
+		byte[] dson = Base64.decode(DsonTest.UNIVERSE_DSON);
+		RadixUniverseConfig fromJson = RadixJson.getGson().fromJson(Dson.getInstance().parse(dson), RadixUniverseConfig.class);
+		RadixUniverseConfig fromReader = RadixUniverseConfig.fromDsonBase64(DsonTest.UNIVERSE_DSON);
+
+		assertEquals(-1014759422, fromReader.getMagic());
+		assertEquals(3, fromReader.getGenesis().size());
+		assertArrayEquals(Dson.getInstance().toDson(fromJson), Dson.getInstance().toDson(fromReader));
+		for (int i = 0; i < fromJson.getGenesis().size(); i++) {
+			Atom expected = fromJson.getGenesis().get(i);
+			Atom actual = fromReader.getGenesis().get(i);
+			assertEquals(expected.getClass(), actual.getClass());
+			assertEquals(expected.getHash(), actual.getHash());
+			assertThat(actual.getSignatures()).hasSameSizeAs(expected.getSignatures());
+		}
+	}
+
+	@Test
+	public void roundTripsFixtures() {
+		Map<String, Object> fixtures = DsonGoldenVectorTest.fixtures();
+		for (String name : Arrays.asList("long", "string", "bytes", "euid", "ordinal", "keyPair", "signature",
+			"consumable", "consumer", "idParticle", "assetAtom")) {
+			Object fixture = fixtures.get(name);
+			byte[] dson = Dson.getInstance().toDson(fixture);
+			Object read = Dson.getInstance().fromDson(dson, fixture.getClass());
+			assertThat(read).as(name).isInstanceOf(fixture.getClass());
+			assertArrayEquals(name, dson, Dson.getInstance().toDson(read));
+		}
+	}
+
+	@Test
+	public void cursorReadsTypedValues() {
+		Map<String, Object> value = new LinkedHashMap<>();
+		value.put("bytes", new byte[] {1, 2, 3});
+		value.put("euid", new EUID(BigInteger.valueOf(42L)));
+		value.put("number", 7L);
+		value.put("text", "Hello");
+		value.put("unknown", Arrays.asList(1L, 2L));
+
+		DsonReader reader = DsonReader.of(Dson.getInstance().toDson(value));
+		assertEquals(Primitive.OBJECT, reader.peek());
+		reader.beginObject();
+		assertEquals("bytes", reader.nextName());
+		ByteBuffer bytes = reader.readBytes();
+		assertEquals(3, bytes.remaining());
+		assertEquals(2, bytes.get(1));
+		assertEquals("euid", reader.nextName());
+		assertEquals(new EUID(BigInteger.valueOf(42L)), reader.readEUID());
+		assertEquals("number", reader.nextName());
+		assertEquals(7L, reader.readLong());
+		assertEquals("text", reader.nextName());
+		assertEquals("Hello", reader.readString());
+		assertEquals("unknown", reader.nextName());
+		assertEquals(Primitive.ARRAY, reader.peek());
+		reader.skipValue();
+		assertThat(reader.hasNext()).isFalse();
+		reader.endObject();
+	}
+
+	@Test
+	public void readerDoesNotMoveTheSourceBuffer() {
+		ByteBuffer buffer = ByteBuffer.wrap(Dson.getInstance().toDson(5L));
+		assertEquals(5L, DsonReader.of(buffer).readLong());
+		assertEquals(0, buffer.position());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void wrongTypeIsRejected() {
+		DsonReader.of(Dson.getInstance().toDson("Hello")).readLong();
+	}
+}
@@ -0,0 +1,171 @@
+package com.radixdlt.client.core.serialization;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.radixdlt.client.core.address.EUID;
+import com.radixdlt.client.core.atoms.RadixHash;
+import com.radixdlt.client.core.util.Base64Encoded;
+import com.radixdlt.client.core.util.Hash;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class DsonWriterTest {
+	private static byte[] written(ByteBuffer buffer) {
+		return Arrays.copyOf(buffer.array(), buffer.position());
+	}
+
+	@Test
+	public void growingHeapBufferMatchesToDson() {
+		for (Map.Entry<String, Object> fixture : DsonGoldenVectorTest.fixtures().entrySet()) {
+			byte[] expected = Dson.getInstance().toDson(fixture.getValue());
+			DsonWriter writer = DsonWriter.to(ByteBuffer.allocate(1)).write(fixture.getValue());
+			assertArrayEquals(fixture.getKey(), expected, written(writer.getBuffer()));
+			assertEquals(fixture.getKey(), expected.length, writer.getBytesWritten());
+		}
+	}
+
+	@Test
+	public void directBufferStaysDirect() {
+		Object atom = DsonGoldenVectorTest.fixtures().get("payloadAtom");
+		ByteBuffer buffer = DsonWriter.to(ByteBuffer.allocateDirect(16)).write(atom).getBuffer();
+		assertTrue(buffer.isDirect());
+
+		buffer.flip();
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		assertArrayEquals(Dson.getInstance().toDson(atom), bytes);
+	}
+
+	@Test
+	public void littleEndianBufferGetsBigEndianDson() {
+		for (Map.Entry<String, Object> fixture : DsonGoldenVectorTest.fixtures().entrySet()) {
+			ByteBuffer buffer = DsonWriter.to(ByteBuffer.allocateDirect(1).order(ByteOrder.LITTLE_ENDIAN))
+				.write(fixture.getValue())
+				.getBuffer();
+			assertEquals(ByteOrder.LITTLE_ENDIAN, buffer.order());
+
+			buffer.flip();
+			byte[] bytes = new byte[buffer.remaining()];
+			buffer.get(bytes);
+			assertArrayEquals(fixture.getKey(), Dson.getInstance().toDson(fixture.getValue()), bytes);
+		}
+	}
+
+	@Test
+	public void appendsAfterExistingContent() {
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		buffer.put((byte) 42);
+		Object consumable = DsonGoldenVectorTest.fixtures().get("consumable");
+		ByteBuffer result = DsonWriter.to(buffer).write(consumable).write(1L).getBuffer();
+
+		byte[] first = Dson.getInstance().toDson(consumable);
+		byte[] second = Dson.getInstance().toDson(1L);
+		assertEquals(1 + first.length + second.length, result.position());
+		assertEquals(42, result.get(0));
+		assertArrayEquals(first, Arrays.copyOfRange(result.array(), 1, 1 + first.length));
+		assertArrayEquals(second, Arrays.copyOfRange(result.array(), 1 + first.length, result.position()));
+	}
+
+	@Test
+	public void bufferLargeEnoughIsNotReplaced() {
+		ByteBuffer buffer = ByteBuffer.allocate(1024);
+		assertSame(buffer, DsonWriter.to(buffer).write(DsonGoldenVectorTest.fixtures().get("map")).getBuffer());
+	}
+
+	@Test
+	public void outputStreamMatchesToDson() {
+		for (Map.Entry<String, Object> fixture : DsonGoldenVectorTest.fixtures().entrySet()) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			DsonWriter writer = DsonWriter.to(outputStream).write(fixture.getValue());
+			assertArrayEquals(fixture.getKey(), Dson.getInstance().toDson(fixture.getValue()), outputStream.toByteArray());
+			assertEquals(fixture.getKey(), outputStream.size(), writer.getBytesWritten());
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void outputStreamWriterHasNoBuffer() {
+		DsonWriter.to(new ByteArrayOutputStream()).getBuffer();
+	}
+
+	@Test
+	public void digestMatchesHashOfToDson() {
+		for (Map.Entry<String, Object> fixture : DsonGoldenVectorTest.fixtures().entrySet()) {
+			MessageDigest messageDigest = Hash.sha256Digest();
+			DsonWriter writer = DsonWriter.to(messageDigest).write(fixture.getValue());
+			byte[] expected = Dson.getInstance().toDson(fixture.getValue());
+			assertArrayEquals(fixture.getKey(), Hash.sha256(expected), messageDigest.digest());
+			assertEquals(fixture.getKey(), expected.length, writer.getBytesWritten());
+		}
+	}
+
+	@Test
+	public void digestOfLargePayloadMatchesHashOfToDson() {
+		byte[] payload = new byte[100000];
+		new Random(1).nextBytes(payload);
+		Map<String, Object> value = new LinkedHashMap<>();
+		value.put("payload", payload);
+		value.put("name", "payload");
+
+		MessageDigest messageDigest = Hash.sha256Digest();
+		DsonWriter.to(messageDigest).write(value);
+		assertArrayEquals(Hash.sha256(Dson.getInstance().toDson(value)), messageDigest.digest());
+	}
+
+	@Test
+	public void byteFieldsAreWrittenWithoutCopying() {
+		byte[] bytes = {1, 2, 3};
+		Base64Encoded field = new Base64Encoded() {
+			@Override
+			public String base64() {
+				throw new AssertionError("Encoded as base64");
+			}
+
+			@Override
+			public byte[] toByteArray() {
+				throw new AssertionError("Copied");
+			}
+
+			@Override
+			public int byteLength() {
+				return bytes.length;
+			}
+
+			@Override
+			public void readBytes(BytesConsumer consumer) {
+				consumer.accept(bytes, 0, bytes.length);
+			}
+		};
+		Map<String, Object> value = new LinkedHashMap<>();
+		value.put("bytes", field);
+		value.put("euid", new EUID(BigInteger.valueOf(-12345)));
+
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("bytes", bytes);
+		expected.put("euid", new EUID(BigInteger.valueOf(-12345)));
+		byte[] expectedDson = Dson.getInstance().toDson(expected);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DsonWriter.to(out).write(value);
+		assertArrayEquals(expectedDson, out.toByteArray());
+		assertArrayEquals(expectedDson, Dson.getInstance().toDson(value));
+	}
+
+	@Test
+	public void hashOfDsonMatchesHashOfBytes() {
+		for (Map.Entry<String, Object> fixture : DsonGoldenVectorTest.fixtures().entrySet()) {
+			RadixHash expected = RadixHash.of(Dson.getInstance().toDson(fixture.getValue()));
+			assertEquals(fixture.getKey(), expected, RadixHash.ofDson(fixture.getValue()));
+		}
+	}
+}
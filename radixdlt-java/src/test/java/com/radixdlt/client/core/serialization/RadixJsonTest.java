@@ -0,0 +1,86 @@
+package com.radixdlt.client.core.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.radixdlt.client.core.atoms.Atom;
+import com.radixdlt.client.core.crypto.ECKeyPair;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import org.junit.Test;
+
+public class RadixJsonTest {
+	private final Gson gson = RadixJson.getGson();
+
+	@Test
+	public void atomIsWrittenWithSerializerFirst() {
+		Atom atom = (Atom) DsonGoldenVectorTest.fixtures().get("assetAtom");
+		JsonObject json = gson.toJsonTree(atom, Atom.class).getAsJsonObject();
+
+		assertEquals("serializer", json.keySet().iterator().next());
+		assertEquals(SerializedAtomType.ASSET.getSerializer(), json.get("serializer").getAsLong());
+		assertEquals(100, json.get("version").getAsInt());
+	}
+
+	@Test
+	public void atomsRoundTripWhereverTheSerializerIs() {
+		Map<String, Object> fixtures = DsonGoldenVectorTest.fixtures();
+		for (String name : new String[] {"payloadAtom", "signedPayloadAtom", "assetAtom"}) {
+			Atom atom = (Atom) fixtures.get(name);
+			JsonObject json = gson.toJsonTree(atom, Atom.class).getAsJsonObject();
+
+			// Nodes send fields sorted by name, so the serializer usually comes late
+			JsonObject serializerLast = new JsonObject();
+			for (Map.Entry<String, JsonElement> field : json.entrySet()) {
+				if (!field.getKey().equals("serializer")) {
+					serializerLast.add(field.getKey(), field.getValue());
+				}
+			}
+			serializerLast.add("serializer", json.get("serializer"));
+
+			for (JsonObject variant : new JsonObject[] {json, serializerLast}) {
+				Atom read = gson.fromJson(gson.toJson(variant), Atom.class);
+				assertThat(read).as(name).isInstanceOf(atom.getClass());
+				assertArrayEquals(name, Dson.getInstance().toDson(atom), Dson.getInstance().toDson(read));
+				assertEquals(name, gson.toJson(atom, Atom.class), gson.toJson(read, Atom.class));
+			}
+		}
+	}
+
+	@Test
+	public void keyPairIsWrittenWithSerializer() {
+		ECKeyPair keyPair = (ECKeyPair) DsonGoldenVectorTest.fixtures().get("keyPair");
+		JsonObject json = gson.toJsonTree(keyPair).getAsJsonObject();
+
+		assertEquals(547221307, json.get("serializer").getAsInt());
+		assertEquals(100, json.get("version").getAsInt());
+		assertEquals(keyPair.getPublicKey(), gson.fromJson(json, ECKeyPair.class).getPublicKey());
+	}
+
+	@Test
+	public void nullAtomIsWrittenAsNull() {
+		assertEquals("null", gson.toJson(null, Atom.class));
+		assertNull(gson.fromJson("null", Atom.class));
+	}
+
+	@Test(expected = JsonParseException.class)
+	public void atomWithoutSerializerIsRejected() {
+		gson.fromJson("{\"action\":\"STORE\"}", Atom.class);
+	}
+
+	@Test
+	public void rawValueIsCopiedAsCompactText() throws IOException {
+		JsonReader in = new JsonReader(new StringReader("{\"a\": [1, 12345678901234567890, \"x\\\"y\", null, true], \"b\": {}} 5"));
+		in.setLenient(true);
+		assertEquals("{\"a\":[1,12345678901234567890,\"x\\\"y\",null,true],\"b\":{}}", RadixJson.readRawValue(in));
+		assertEquals(5, in.nextInt());
+	}
+}
@@ -0,0 +1,49 @@
+package com.radixdlt.client.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.Test;
+
+public class Base58Test {
+	private static void assertEncoding(byte[] bytes, String base58) {
+		assertThat(Base58.toBase58(bytes)).isEqualTo(base58);
+		assertThat(Base58.fromBase58(base58)).isEqualTo(bytes);
+	}
+
+	@Test
+	public void encodesBitcoinVectors() {
+		assertEncoding(new byte[0], "");
+		assertEncoding(Hex.decode("61"), "2g");
+		assertEncoding(Hex.decode("626262"), "a3gV");
+		assertEncoding(Hex.decode("636363"), "aPEr");
+		assertEncoding("simply a long string".getBytes(StandardCharsets.US_ASCII), "2cFupjhnEsSn59qHXstmK2ffpLv2");
+		assertEncoding(Hex.decode("00eb15231dfceb60925886b67d065299925915aeb172c06647"), "1NS17iag9jJgTHD1VXjvLCEnZuQ3rJDE9L");
+		assertEncoding(Hex.decode("516b6fcd0f"), "ABnLTmg");
+		assertEncoding(Hex.decode("00000000000000000000"), "1111111111");
+	}
+
+	@Test
+	public void roundTripsRandomBytes() {
+		Random random = new Random(58);
+		for (int i = 0; i < 1000; i++) {
+			byte[] bytes = new byte[random.nextInt(64)];
+			random.nextBytes(bytes);
+			// Exercise leading zeros
+			for (int j = 0; j < bytes.length && random.nextBoolean(); j++) {
+				bytes[j] = 0;
+			}
+			assertThat(Base58.fromBase58(Base58.toBase58(bytes))).isEqualTo(bytes);
+		}
+	}
+
+	@Test
+	public void rejectsCharactersOutsideTheAlphabet() {
+		assertThatThrownBy(() -> Base58.fromBase58("JHB89drvftPj6zVC0")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Base58.fromBase58("JHB89drvftPj6zVCl")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Base58.fromBase58("JHB89drvftPj6zVCé")).isInstanceOf(IllegalArgumentException.class);
+	}
+}
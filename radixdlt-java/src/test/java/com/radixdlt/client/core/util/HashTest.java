@@ -0,0 +1,72 @@
+package com.radixdlt.client.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class HashTest {
+	private static final byte[] DATA = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void doubleSha256MatchesHashingTwice() {
+		byte[] expected = Hash.sha256(Hash.sha256(DATA));
+
+		assertThat(Hash.doubleSha256(DATA, 0, DATA.length)).isEqualTo(expected);
+		assertThat(Hash.doubleSha256(ByteBuffer.wrap(DATA))).isEqualTo(expected);
+
+		byte[] out = new byte[40];
+		Hash.doubleSha256(DATA, 0, DATA.length, out, 4);
+		assertThat(Arrays.copyOfRange(out, 4, 36)).isEqualTo(expected);
+	}
+
+	@Test
+	public void rangesAndBuffersHashOnlyTheirBytes() {
+		byte[] padded = new byte[DATA.length + 8];
+		System.arraycopy(DATA, 0, padded, 3, DATA.length);
+		ByteBuffer buffer = ByteBuffer.wrap(padded, 3, DATA.length);
+
+		assertThat(Hash.sha256(padded, 3, DATA.length)).isEqualTo(Hash.sha256(DATA));
+		assertThat(Hash.sha256(buffer)).isEqualTo(Hash.sha256(DATA));
+		assertThat(buffer.position()).isEqualTo(3);
+	}
+
+	@Test
+	public void incrementalDigestIsResetAndUnaffectedByOneShotHashes() {
+		MessageDigest dirty = Hash.sha256Digest();
+		dirty.update(DATA);
+
+		MessageDigest messageDigest = Hash.sha256Digest();
+		assertThat(messageDigest).isSameAs(dirty);
+		messageDigest.update(DATA, 0, 10);
+		byte[] expected = Hash.sha256(DATA);
+		messageDigest.update(DATA, 10, DATA.length - 10);
+		assertThat(messageDigest.digest()).isEqualTo(expected);
+	}
+
+	@Test
+	public void digestsAreIsolatedBetweenThreads() throws InterruptedException {
+		byte[] expected = Hash.sha256(DATA);
+		byte[][] results = new byte[8][];
+		Thread[] threads = new Thread[results.length];
+		for (int i = 0; i < threads.length; i++) {
+			final int index = i;
+			threads[i] = new Thread(() -> {
+				byte[] hash = null;
+				for (int j = 0; j < 1000; j++) {
+					hash = Hash.sha256(DATA);
+				}
+				results[index] = hash;
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(results).allSatisfy(hash -> assertThat(hash).isEqualTo(expected));
+	}
+}
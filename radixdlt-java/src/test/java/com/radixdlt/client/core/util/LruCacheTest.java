@@ -0,0 +1,72 @@
+package com.radixdlt.client.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class LruCacheTest {
+	@Test
+	public void computesOnlyOnMiss() {
+		LruCache<String, String> cache = new LruCache<>(2);
+		AtomicInteger computed = new AtomicInteger();
+
+		assertThat(cache.computeIfAbsent("a", key -> key + computed.incrementAndGet())).isEqualTo("a1");
+		assertThat(cache.computeIfAbsent("a", key -> key + computed.incrementAndGet())).isEqualTo("a1");
+		assertThat(computed.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsed() {
+		LruCache<String, String> cache = new LruCache<>(2);
+		cache.computeIfAbsent("a", key -> key);
+		cache.computeIfAbsent("b", key -> key);
+		cache.get("a");
+		cache.computeIfAbsent("c", key -> key);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("a")).isEqualTo("a");
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).isEqualTo("c");
+	}
+
+	@Test
+	public void largeCacheStaysWithinCapacity() {
+		LruCache<Integer, Integer> cache = new LruCache<>(1024);
+		for (int i = 0; i < 10000; i++) {
+			cache.computeIfAbsent(i, key -> key);
+		}
+
+		assertThat(cache.size()).isLessThanOrEqualTo(1024).isGreaterThan(512);
+		assertThat(cache.get(9999)).isEqualTo(9999);
+		assertThat(cache.get(0)).isNull();
+
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void concurrentLookupsSeeOneValuePerKey() throws InterruptedException {
+		LruCache<Integer, Object> cache = new LruCache<>(4096);
+		Object[][] seen = new Object[4][256];
+		Thread[] threads = new Thread[seen.length];
+		for (int t = 0; t < threads.length; t++) {
+			final Object[] values = seen[t];
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < values.length; i++) {
+					values[i] = cache.computeIfAbsent(i, key -> new Object());
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		for (int i = 0; i < 256; i++) {
+			for (Object[] values : seen) {
+				assertThat(values[i]).isSameAs(cache.get(i));
+			}
+		}
+	}
+}